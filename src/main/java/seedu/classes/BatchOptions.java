@@ -0,0 +1,119 @@
+package seedu.classes;
+
+import seedu.exception.WiagiInvalidInputException;
+
+import java.nio.file.Path;
+
+import static seedu.classes.Constants.ALL_TIME_OPTION;
+import static seedu.classes.Constants.BATCH_USAGE;
+import static seedu.classes.Constants.BIWEEKLY_OPTION;
+import static seedu.classes.Constants.MONTHLY_OPTION;
+import static seedu.classes.Constants.WEEKLY_OPTION;
+
+/**
+ * Holds the command line options of a batch run, which include the answers given to every prompt so that commands
+ * can run without user input.
+ */
+public class BatchOptions {
+    private static final String BATCH_FLAG = "--batch";
+    private static final String PASSWORD_FLAG = "--password";
+    private static final String BACKLOG_FLAG = "--backlog";
+    private static final String LIST_RANGE_FLAG = "--list-range";
+    private static final String LIST_STATISTICS_FLAG = "--list-statistics";
+    private static final String YES = "y";
+    private static final String NO = "n";
+
+    private Path commandFile;
+    private String password;
+    private String backlogAnswer = YES;
+    private String timeRangeOption = ALL_TIME_OPTION;
+    private String statisticsAnswer = NO;
+
+    private BatchOptions() {
+    }
+
+    /**
+     * Parses the command line arguments of a batch run. Every flag other than {@code --batch} is optional.
+     *
+     * @param args Command line arguments
+     * @return Options of the batch run
+     * @throws WiagiInvalidInputException If a flag is unknown, has no value or has an invalid value
+     */
+    public static BatchOptions parse(String[] args) throws WiagiInvalidInputException {
+        BatchOptions options = new BatchOptions();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new WiagiInvalidInputException(BATCH_USAGE);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+            case BATCH_FLAG:
+                options.commandFile = Path.of(value);
+                break;
+            case PASSWORD_FLAG:
+                options.password = value;
+                break;
+            case BACKLOG_FLAG:
+                options.backlogAnswer = parseYesOrNo(value);
+                break;
+            case LIST_RANGE_FLAG:
+                options.timeRangeOption = parseTimeRangeOption(value);
+                break;
+            case LIST_STATISTICS_FLAG:
+                options.statisticsAnswer = parseYesOrNo(value);
+                break;
+            default:
+                throw new WiagiInvalidInputException(BATCH_USAGE);
+            }
+        }
+        if (options.commandFile == null) {
+            throw new WiagiInvalidInputException(BATCH_USAGE);
+        }
+        return options;
+    }
+
+    private static String parseYesOrNo(String answer) {
+        String lowerCaseAnswer = answer.toLowerCase();
+        if (!lowerCaseAnswer.equals(YES) && !lowerCaseAnswer.equals(NO)) {
+            throw new WiagiInvalidInputException(BATCH_USAGE);
+        }
+        return lowerCaseAnswer;
+    }
+
+    private static String parseTimeRangeOption(String option) {
+        switch (option) {
+        case ALL_TIME_OPTION:
+        case WEEKLY_OPTION:
+        case BIWEEKLY_OPTION:
+        case MONTHLY_OPTION:
+            return option;
+        default:
+            throw new WiagiInvalidInputException(BATCH_USAGE);
+        }
+    }
+
+    public Path getCommandFile() {
+        return commandFile;
+    }
+
+    /**
+     * Retrieves the password to log in with, which is null if the user should be asked to log in.
+     *
+     * @return Password given on the command line
+     */
+    public String getPassword() {
+        return password;
+    }
+
+    public String getBacklogAnswer() {
+        return backlogAnswer;
+    }
+
+    public String getTimeRangeOption() {
+        return timeRangeOption;
+    }
+
+    public String getStatisticsAnswer() {
+        return statisticsAnswer;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.classes;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+
+/**
+ * Reads and tokenizes input lines on a separate thread, so that the next commands are ready while the current command
+ * is executing. Lines are handed over through a bounded queue, which holds back the reader when it is far enough
+ * ahead. The time spent reading and the time spent waiting for input are recorded to show how much of the reading
+ * overlapped with execution.
+ */
+public class CommandPipeline {
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final BlockingQueue<ParsedCommand> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ParsedCommand endOfInput = ParsedCommand.parse("");
+    private volatile IOException readError;
+    private volatile long readNanos;
+    private long waitNanos;
+    private boolean isEndOfInput;
+
+    /**
+     * Starts reading lines from the reader in the background.
+     *
+     * @param reader Reader of the input lines
+     */
+    public CommandPipeline(BufferedReader reader) {
+        Thread readerThread = new Thread(() -> readLines(reader), "wiagi-input-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    private void readLines(BufferedReader reader) {
+        try {
+            long startTime = System.nanoTime();
+            String line = reader.readLine();
+            while (line != null) {
+                ParsedCommand command = ParsedCommand.parse(line.trim());
+                readNanos += System.nanoTime() - startTime;
+                lines.put(command);
+                startTime = System.nanoTime();
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to read input", e);
+            readError = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            lines.put(endOfInput);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the next tokenized line, waiting for it to be read if needed.
+     *
+     * @return Next line, or null if there are no more lines
+     * @throws IOException If the input could not be read
+     */
+    public ParsedCommand take() throws IOException {
+        if (isEndOfInput) {
+            return null;
+        }
+        ParsedCommand command = lines.poll();
+        if (command == null) {
+            long startTime = System.nanoTime();
+            try {
+                command = lines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                command = endOfInput;
+            }
+            waitNanos += System.nanoTime() - startTime;
+        }
+        if (command == endOfInput) {
+            isEndOfInput = true;
+            if (readError != null) {
+                throw readError;
+            }
+            return null;
+        }
+        return command;
+    }
+
+    /**
+     * Retrieves the time the reader thread spent reading and tokenizing lines so far.
+     *
+     * @return Time in nanoseconds
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    /**
+     * Retrieves the time spent waiting for lines to be read so far.
+     *
+     * @return Time in nanoseconds
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Retrieves the time spent reading and tokenizing that did not hold up the caller, as it happened while the
+     * caller was busy with earlier lines.
+     *
+     * @return Time in nanoseconds
+     */
+    public long getOverlapNanos() {
+        return Math.max(0, readNanos - waitNanos);
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.classes;
+
+import seedu.commands.AddCommand;
+import seedu.commands.BeginCommand;
+import seedu.commands.BudgetCommand;
+import seedu.commands.ByeCommand;
+import seedu.commands.Command;
+import seedu.commands.CommandProvider;
+import seedu.commands.CommitCommand;
+import seedu.commands.DeleteCommand;
+import seedu.commands.EditCommand;
+import seedu.commands.HelpCommand;
+import seedu.commands.HistoryCommand;
+import seedu.commands.RedoCommand;
+import seedu.commands.ReportCommand;
+import seedu.commands.RollbackCommand;
+import seedu.commands.SimulateCommand;
+import seedu.commands.StatsCommand;
+import seedu.commands.UndoCommand;
+import seedu.commands.UnknownCommand;
+import seedu.commands.listcommands.ListAllCommand;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Maps command words to the factories that create their commands, so that a command is found with a single hash
+ * lookup. Built-in commands are registered up front by class name, and a command class is only loaded when its first
+ * command is created, so startup and commands such as {@code bye} do not load every command. Commands from plugins are
+ * discovered through {@code ServiceLoader} the first time an unknown command word is entered, so that startup does not
+ * scan for plugins. Built-in commands cannot be replaced by plugins.
+ */
+public class CommandRegistry {
+    private static final String COMMANDS_PACKAGE = "seedu.commands.";
+    private static final Map<String, Function<ParsedCommand, Command>> factories = new HashMap<>();
+    private static boolean isExtensionsLoaded;
+
+    static {
+        registerBuiltIn(ByeCommand.COMMAND_WORD, "ByeCommand");
+        registerBuiltIn(AddCommand.COMMAND_WORD, "AddCommand");
+        registerBuiltIn(DeleteCommand.COMMAND_WORD, "DeleteCommand");
+        // A method reference would load ListCommandParser, and with it the list commands, along with the registry
+        register(ListAllCommand.COMMAND_WORD, command -> ListCommandParser.parse(command));
+        registerBuiltIn(EditCommand.COMMAND_WORD, "EditCommand");
+        registerBuiltIn(BudgetCommand.COMMAND_WORD, "BudgetCommand");
+        registerBuiltIn(SimulateCommand.COMMAND_WORD, "SimulateCommand");
+        registerBuiltIn(ReportCommand.COMMAND_WORD, "ReportCommand");
+        registerBuiltIn(StatsCommand.COMMAND_WORD, "StatsCommand");
+        registerBuiltIn(HelpCommand.COMMAND_WORD, "HelpCommand");
+        registerBuiltIn(BeginCommand.COMMAND_WORD, "BeginCommand");
+        registerBuiltIn(CommitCommand.COMMAND_WORD, "CommitCommand");
+        registerBuiltIn(RollbackCommand.COMMAND_WORD, "RollbackCommand");
+        registerBuiltIn(UndoCommand.COMMAND_WORD, "UndoCommand");
+        registerBuiltIn(RedoCommand.COMMAND_WORD, "RedoCommand");
+        registerBuiltIn(HistoryCommand.COMMAND_WORD, "HistoryCommand");
+    }
+
+    private static void registerBuiltIn(String commandWord, String simpleClassName) {
+        register(commandWord, new BuiltInFactory(COMMANDS_PACKAGE + simpleClassName));
+    }
+
+    /**
+     * Registers the factory of a command. A command word that is already registered keeps its first factory.
+     *
+     * @param commandWord Word that the command starts with, in lower case
+     * @param factory Creates the command from the user's input
+     * @return True if the command was registered
+     */
+    public static boolean register(String commandWord, Function<ParsedCommand, Command> factory) {
+        if (factories.putIfAbsent(commandWord, factory) != null) {
+            WiagiLogger.logger.log(Level.WARNING, "Command word already registered: " + commandWord);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the command words registered so far, which include those of plugins once they have been loaded.
+     *
+     * @return Registered command words
+     */
+    static Set<String> getCommandWords() {
+        return new HashSet<>(factories.keySet());
+    }
+
+    /**
+     * Creates the command matching the command word of the input.
+     *
+     * @param command Tokenized command
+     * @return Command to execute, or an {@code UnknownCommand} if no command has the command word
+     */
+    public static Command create(ParsedCommand command) {
+        String commandWord = command.getCommandWord();
+        Function<ParsedCommand, Command> factory = factories.get(commandWord);
+        if (factory == null && !isExtensionsLoaded) {
+            loadExtensions();
+            factory = factories.get(commandWord);
+        }
+        if (factory == null) {
+            return new UnknownCommand();
+        }
+        return factory.apply(command);
+    }
+
+    private static void loadExtensions() {
+        isExtensionsLoaded = true;
+        try {
+            for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+                register(provider.getCommandWord(), provider::create);
+            }
+        } catch (ServiceConfigurationError e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to load command plugins", e);
+        }
+    }
+
+    /**
+     * Creates the commands of a built-in command class, which is looked up by name the first time a command is
+     * created. The constructor taking the user's input is used if the class has one, and the constructor without
+     * arguments otherwise.
+     */
+    private static class BuiltInFactory implements Function<ParsedCommand, Command> {
+        private final String className;
+        private Constructor<? extends Command> constructor;
+
+        private BuiltInFactory(String className) {
+            this.className = className;
+        }
+
+        @Override
+        public Command apply(ParsedCommand command) {
+            try {
+                if (constructor == null) {
+                    constructor = findConstructor(Class.forName(className).asSubclass(Command.class));
+                }
+                return constructor.getParameterCount() == 0 ? constructor.newInstance()
+                        : constructor.newInstance(command);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Unable to create " + className, e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create " + className, e);
+            }
+        }
+
+        private static Constructor<? extends Command> findConstructor(Class<? extends Command> commandClass)
+                throws NoSuchMethodException {
+            try {
+                return commandClass.getConstructor(ParsedCommand.class);
+            } catch (NoSuchMethodException e) {
+                return commandClass.getConstructor();
+            }
+        }
+    }
+}
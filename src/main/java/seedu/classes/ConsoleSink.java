@@ -0,0 +1,40 @@
+package seedu.classes;
+
+/**
+ * Prints output to the standard output stream. Output is collected in a buffer and written to the stream in one go
+ * when the buffer fills up or is flushed, instead of writing and flushing the stream for every line. The stream is
+ * looked up on every write, so output still follows {@code System.setOut}.
+ */
+public class ConsoleSink implements OutputSink {
+    private final int bufferSize;
+    private final StringBuilder buffer;
+
+    /**
+     * Constructs a sink that holds back up to the given number of characters.
+     *
+     * @param bufferSize Number of characters to hold back, or zero to write every line as it is printed
+     */
+    public ConsoleSink(int bufferSize) {
+        assert bufferSize >= 0 : "Buffer size should not be negative";
+        this.bufferSize = bufferSize;
+        this.buffer = new StringBuilder(bufferSize);
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        buffer.append(text);
+        if (buffer.length() >= bufferSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        System.out.print(buffer);
+        System.out.flush();
+        buffer.setLength(0);
+    }
+}
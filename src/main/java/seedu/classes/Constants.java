@@ -10,7 +10,6 @@ public class Constants {
     public static final String STORAGE_SEPARATOR = "|";
     public static final String STORAGE_LOAD_SEPARATOR = "\\|";
     public static final String TAB = "\t";
-    public static final String SPACE_REGEX = "\\s+";
     public static final String SPENDING = "spending";
     public static final String INCOME = "income";
     public static final String DAILY_RECURRENCE = "daily";
@@ -18,13 +17,31 @@ public class Constants {
     public static final String YEARLY_RECURRENCE = "yearly";
     public static final LocalDate VALID_TEST_DATE = LocalDate.now();
     public static final String LIST_COMMAND_FORMAT = "Please enter in the form: list " +
-            "[$CATEGORY]/[tags [$TAG_NAME]]";
-    public static final String BUDGET_COMMAND_FORMAT = "Please enter in the form: budget {$PERIOD} {$AMOUNT}";
-    public static final String EDIT_COMMAND_FORMAT = "Please enter in the form: edit {$CATEGORY} {$INDEX} {$FIELD} " +
-            "{$NEW_VALUE}";
-    public static final String DELETE_COMMAND_FORMAT = "Please enter in the form: delete {$CATEGORY} {$INDEX}";
+            "[$CATEGORY [all/weekly/biweekly/monthly] [--stats]]/[tags [$TAG_NAME]], with [--limit=$N] " +
+            "[--offset=$N] [--reverse] to list one page, [top $K] to list the largest entries or tags, or " +
+            "[$CONDITIONS] [explain] to list the entries matching conditions such as amount>50 tag=food";
+    public static final String BUDGET_COMMAND_FORMAT = "Please enter in the form: budget {$PERIOD} {$AMOUNT} [*$TAG*]";
+    public static final String EDIT_COMMAND_FORMAT = "Please enter in the form: edit {$CATEGORY} " +
+            "{$INDEX}/{$FIRST-$LAST} [*$TAG*] [/$FROM..$TO/] [$CONDITIONS such as amount>=500] {$FIELD} {$NEW_VALUE}";
+    public static final String DELETE_COMMAND_FORMAT = "Please enter in the form: delete {$CATEGORY} " +
+            "{$INDEX}/{$FIRST-$LAST} [*$TAG*] [/$FROM..$TO/] [$CONDITIONS such as amount>=500]";
     public static final String ADD_COMMAND_FORMAT = "Please enter in the form: add {$CATEGORY} {$AMOUNT} " +
-            "{$DESCRIPTION} [/$DATE/] [*$TAG*] [~$Frequency~]";
+            "{$DESCRIPTION} [/$DATE/] [*$TAG*] [~$Frequency [until $END_DATE] [count $TIMES] " +
+            "[roll $DIRECTION [$CALENDAR]]~]";
+    public static final String BATCH_USAGE = "Please run in the form: java -jar wiagi.jar --batch {$FILE} " +
+            "[--password {$PASSWORD}] [--backlog y/n] [--list-range 1/2/3/4] [--list-statistics y/n] " +
+            "[--format=text/jsonl]";
+    public static final String FORMAT_USAGE = "Please choose an output format of: --format=text or --format=jsonl";
+    public static final String READ_BATCH_FILE_ERROR = "An error has occurred when reading batch file! " +
+            "No changes were saved.";
+    public static final String WRONG_BATCH_PASSWORD = "Wrong password! No commands were run.";
+    public static final String SIMULATE_COMMAND_FORMAT = "Please enter in the form: simulate {$DAYS}";
+    public static final String REPORT_COMMAND_FORMAT = "Please enter in the form: report [spendings/incomes] " +
+            "[$CONDITIONS such as amount>=500 amount<=5000]";
+    public static final String STATS_COMMAND_FORMAT = "Please enter in the form: stats [spendings/incomes]";
+    public static final String QUERY_FORMAT = "Please enter conditions in the form: " +
+            "{amount/date/tag/description}{=/!=/>/>=/</<=/~}{$VALUE}, such as amount>50 tag=food date>=2024-01-01";
+    public static final String INVALID_CONDITION = "Invalid condition! ";
     public static final String INCORRECT_PARAMS_NUMBER = "Incorrect number of parameters! ";
     public static final String INVALID_CATEGORY = "No such category exists! ";
     public static final String INVALID_FIELD = "No such field exists! ";
@@ -34,7 +51,21 @@ public class Constants {
     public static final String INVALID_AMOUNT = "Invalid amount! ";
     public static final String MISSING_DESCRIPTION = "No description input! ";
     public static final String INCORRECT_DATE_FORMAT = "Invalid date format! Use YYYY-MM-DD ";
-    public static final String INVALID_FREQUENCY = "Invalid frequency type! Please input daily/monthly/yearly ";
+    public static final String INVALID_FREQUENCY = "Invalid frequency type! Please input " +
+            "daily/weekly/monthly/yearly, every {$N} days/weeks/months/years or a rule such as FREQ=MONTHLY;BYDAY=2FR ";
+    public static final String INVALID_RECURRENCE_END = "Recurrence must end on or after the entry date and after " +
+            "a positive number of times! ";
+    public static final String INVALID_BUSINESS_DAY_ROLL = "Please roll forward or backward, optionally followed " +
+            "by the name of a loaded calendar! ";
+    public static final String TRANSACTION_ALREADY_OPEN = "A transaction is already open! " +
+            "Please commit or rollback first.";
+    public static final String NO_OPEN_TRANSACTION = "No transaction is open! Please begin one first.";
+    public static final String TRANSACTION_FAILED = "A queued change failed, so no changes were applied! ";
+    public static final String NOTHING_TO_UNDO = "There is nothing to undo!";
+    public static final String NOTHING_TO_REDO = "There is nothing to redo!";
+    public static final String HISTORY_COMMAND_FORMAT = "Please enter in the form: history {$DEPTH}";
+    public static final String NOT_RECURRING = "Entry is not recurring! ";
+    public static final String NO_RECURRENCE_END = "none";
     public static final String MISSING_AMOUNT = "No amount found! ";
     public static final String TIME_RANGE_MESSAGE = "Select time range:" + System.lineSeparator() +
             "\t[1] All" + System.lineSeparator() + "\t[2] Weekly" + System.lineSeparator() +
@@ -49,6 +80,7 @@ public class Constants {
     // Storage load
     public static final String LOAD_INCOME_FILE_ERROR = "An error has occurred when loading income file!";
     public static final String SAVE_INCOME_FILE_ERROR = "An error has occurred when saving income file!";
+    public static final String LOAD_CALENDAR_FILE_ERROR = "An error has occurred when loading calendar file ";
     public static final String LOAD_SPENDING_FILE_ERROR = "An error has occurred when loading spending file!";
     public static final String SAVE_SPENDING_FILE_ERROR = "An error has occurred when saving spending file!";
     public static final String NO_RECURRENCE = "null";
@@ -59,7 +91,13 @@ public class Constants {
     public static final int LOAD_RECURRENCE_INDEX = 4;
     public static final int LOAD_LAST_RECURRED_INDEX = 5;
     public static final int LOAD_DAY_OF_RECURRENCE_INDEX = 6;
+    public static final int LOAD_RECURRENCE_RULE_INDEX = 7;
+    public static final int LOAD_RECURRENCE_END_DATE_INDEX = 8;
+    public static final int LOAD_MAX_OCCURRENCES_INDEX = 9;
+    public static final int LOAD_BUSINESS_DAY_ROLL_INDEX = 10;
+    public static final int LOAD_CALENDAR_INDEX = 11;
     public static final int LOAD_DAILY_BUDGET_INDEX = 0;
     public static final int LOAD_MONTHLY_BUDGET_INDEX = 1;
     public static final int LOAD_YEARLY_BUDGET_INDEX = 2;
+    public static final int LOAD_TAG_BUDGETS_INDEX = 3;
 }
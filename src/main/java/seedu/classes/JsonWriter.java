@@ -0,0 +1,115 @@
+package seedu.classes;
+
+/**
+ * Writes flat JSON records, one per line, straight into a buffer. Every record starts with a {@code type} field
+ * naming what it holds, followed by its other fields in the order they are written. Values are escaped and
+ * formatted by hand as they are written, so no record is built up as an object first.
+ */
+public class JsonWriter {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder out;
+
+    /**
+     * Constructs a writer that appends records to the given buffer.
+     *
+     * @param out Buffer to append to
+     */
+    public JsonWriter(StringBuilder out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts a record of the given type.
+     *
+     * @param type Type of the record
+     * @return This writer, to write the fields of the record
+     */
+    public JsonWriter beginRecord(String type) {
+        out.append("{\"type\":");
+        appendString(type);
+        return this;
+    }
+
+    public JsonWriter field(String name, String value) {
+        appendName(name);
+        if (value == null) {
+            out.append("null");
+        } else {
+            appendString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter field(String name, long value) {
+        appendName(name);
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a number field, leaving out the fraction of whole numbers. Numbers that JSON cannot hold are written
+     * as null.
+     */
+    public JsonWriter field(String name, double value) {
+        appendName(name);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else if (value % 1 == 0 && Math.abs(value) < Long.MAX_VALUE) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        return this;
+    }
+
+    public JsonWriter field(String name, boolean value) {
+        appendName(name);
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Ends the record and its line.
+     */
+    public void endRecord() {
+        out.append('}').append('\n');
+    }
+
+    private void appendName(String name) {
+        out.append(',');
+        appendString(name);
+        out.append(':');
+    }
+
+    private void appendString(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.classes;
+
+import seedu.commands.Command;
+import seedu.commands.listcommands.InvalidListCommand;
+import seedu.commands.listcommands.ListAllCommand;
+import seedu.commands.listcommands.ListIncomesCommand;
+import seedu.commands.listcommands.ListSpendingsCommand;
+import seedu.commands.listcommands.ListTagsCommand;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.query.Query;
+
+import static seedu.classes.Constants.INVALID_CATEGORY;
+import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
+
+/**
+ * Chooses the list command from the category of a {@code list} command. It is kept apart from {@code Parser} so that
+ * the list commands are only loaded when the first list is asked for.
+ */
+class ListCommandParser {
+    private static final int LIST_CATEGORY_INDEX = 1;
+    private static final int LIST_ALL_COMMAND_LENGTH = 1;
+    private static final String LIST_FLAG_PREFIX = "--";
+
+    static Command parse(ParsedCommand arguments) {
+        int commandSize = arguments.size();
+        assert commandSize != 0 : "command should have at least 1 word";
+        if (commandSize == LIST_ALL_COMMAND_LENGTH) {
+            return new ListAllCommand(arguments);
+        }
+        String category = arguments.getWord(LIST_CATEGORY_INDEX);
+        if (category.startsWith(LIST_FLAG_PREFIX) || Query.isCondition(category)) {
+            return new ListAllCommand(arguments);
+        }
+        switch (category) {
+        case ListTagsCommand.COMMAND_WORD:
+            return new ListTagsCommand(arguments);
+        case ListSpendingsCommand.COMMAND_WORD:
+            return new ListSpendingsCommand(arguments);
+        case ListIncomesCommand.COMMAND_WORD:
+            return new ListIncomesCommand(arguments);
+        default:
+            return new InvalidListCommand(new WiagiInvalidInputException(INVALID_CATEGORY + LIST_COMMAND_FORMAT));
+        }
+    }
+}
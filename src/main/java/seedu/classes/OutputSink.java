@@ -0,0 +1,19 @@
+package seedu.classes;
+
+/**
+ * Receives the output printed by {@code Ui}. Output may be held back until the sink is flushed, which is done once
+ * per command and before reading input.
+ */
+public interface OutputSink {
+    /**
+     * Adds text to the output.
+     *
+     * @param text Text to print, including any line separators
+     */
+    void print(CharSequence text);
+
+    /**
+     * Writes out any output that is held back.
+     */
+    void flush();
+}
@@ -0,0 +1,178 @@
+package seedu.classes;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Holds the words of a user command and the positions of its optional arguments. The command is tokenized in a
+ * single scan that only records offsets into the original string, so commands read their arguments from here instead
+ * of splitting the command again. Optional arguments are the parts of the command enclosed in {@code /}, {@code *} or
+ * {@code ~}.
+ */
+public class ParsedCommand {
+    public static final char DATE_DELIMITER = '/';
+    public static final char TAG_DELIMITER = '*';
+    public static final char FREQUENCY_DELIMITER = '~';
+    private static final int INITIAL_WORD_CAPACITY = 8;
+    private static final int NOT_FOUND = -1;
+
+    private final String input;
+    private int[] wordStarts = new int[INITIAL_WORD_CAPACITY];
+    private int[] wordEnds = new int[INITIAL_WORD_CAPACITY];
+    private int wordCount;
+    private int firstDelimiter = NOT_FOUND;
+    private final int[] delimiterStarts = {NOT_FOUND, NOT_FOUND, NOT_FOUND};
+    private final int[] delimiterEnds = {NOT_FOUND, NOT_FOUND, NOT_FOUND};
+
+    private ParsedCommand(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Tokenizes the command into words separated by whitespace and finds the first two occurrences of every optional
+     * argument delimiter.
+     *
+     * @param input Command entered by the user
+     * @return Tokenized command
+     */
+    public static ParsedCommand parse(String input) {
+        ParsedCommand command = new ParsedCommand(input);
+        command.scan();
+        return command;
+    }
+
+    private void scan() {
+        int length = input.length();
+        int wordStart = NOT_FOUND;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (wordStart != NOT_FOUND) {
+                    addWord(wordStart, i);
+                    wordStart = NOT_FOUND;
+                }
+                continue;
+            }
+            if (wordStart == NOT_FOUND) {
+                wordStart = i;
+            }
+            int delimiterIndex = getDelimiterIndex(c);
+            if (delimiterIndex == NOT_FOUND) {
+                continue;
+            }
+            if (firstDelimiter == NOT_FOUND) {
+                firstDelimiter = i;
+            }
+            if (delimiterStarts[delimiterIndex] == NOT_FOUND) {
+                delimiterStarts[delimiterIndex] = i;
+            } else if (delimiterEnds[delimiterIndex] == NOT_FOUND) {
+                delimiterEnds[delimiterIndex] = i;
+            }
+        }
+        if (wordStart != NOT_FOUND) {
+            addWord(wordStart, length);
+        }
+    }
+
+    private void addWord(int start, int end) {
+        if (wordCount == wordStarts.length) {
+            wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+            wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+        }
+        wordStarts[wordCount] = start;
+        wordEnds[wordCount] = end;
+        wordCount++;
+    }
+
+    private static int getDelimiterIndex(char c) {
+        switch (c) {
+        case DATE_DELIMITER:
+            return 0;
+        case TAG_DELIMITER:
+            return 1;
+        case FREQUENCY_DELIMITER:
+            return 2;
+        default:
+            return NOT_FOUND;
+        }
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Retrieves the first word of the command in lower case, or an empty string if the command is blank.
+     *
+     * @return Command word
+     */
+    public String getCommandWord() {
+        if (wordCount == 0) {
+            return "";
+        }
+        return getWord(0).toLowerCase(Locale.ROOT);
+    }
+
+    public String getWord(int index) {
+        assert index < wordCount : "word index should be within the command";
+        return input.substring(wordStarts[index], wordEnds[index]);
+    }
+
+    /**
+     * Checks if the word at the index matches the given word, without creating a new string.
+     *
+     * @param index Index of the word
+     * @param word Word to compare to
+     * @return True if the word at the index is {@code word}
+     */
+    public boolean isWord(int index, String word) {
+        return index < wordCount && wordEnds[index] - wordStarts[index] == word.length()
+                && input.startsWith(word, wordStarts[index]);
+    }
+
+    /**
+     * Retrieves the command from the word at the index until the end, keeping the spacing between words.
+     *
+     * @param index Index of the first word
+     * @return Rest of the command
+     */
+    public String getRest(int index) {
+        assert index < wordCount : "word index should be within the command";
+        return input.substring(wordStarts[index], wordEnds[wordCount - 1]);
+    }
+
+    /**
+     * Retrieves the command from the word at the index until the first optional argument.
+     *
+     * @param index Index of the first word
+     * @return Rest of the command without optional arguments
+     */
+    public String getRestBeforeOptionalArguments(int index) {
+        assert index < wordCount : "word index should be within the command";
+        int start = wordStarts[index];
+        int end = firstDelimiter < start ? wordEnds[wordCount - 1] : firstDelimiter;
+        return input.substring(start, end).trim();
+    }
+
+    /**
+     * Retrieves the optional argument enclosed by the delimiter. The argument ends at the second occurrence of the
+     * delimiter, or at the end of the command if it is not closed.
+     *
+     * @param delimiter One of {@code DATE_DELIMITER}, {@code TAG_DELIMITER} or {@code FREQUENCY_DELIMITER}
+     * @return Trimmed optional argument, or {@code null} if the delimiter does not appear
+     */
+    public String getOptionalArgument(char delimiter) {
+        int delimiterIndex = getDelimiterIndex(delimiter);
+        assert delimiterIndex != NOT_FOUND : "delimiter should be one of the optional argument delimiters";
+        int start = delimiterStarts[delimiterIndex];
+        if (start == NOT_FOUND) {
+            return null;
+        }
+        int end = delimiterEnds[delimiterIndex] == NOT_FOUND ? input.length() : delimiterEnds[delimiterIndex];
+        return input.substring(start + 1, end).trim();
+    }
+}
@@ -1,76 +1,27 @@
 package seedu.classes;
 
-import seedu.commands.AddCommand;
-import seedu.commands.ByeCommand;
 import seedu.commands.Command;
-import seedu.commands.DeleteCommand;
-import seedu.commands.EditCommand;
-import seedu.commands.BudgetCommand;
-import seedu.commands.UnknownCommand;
-import seedu.commands.HelpCommand;
-import seedu.commands.listcommands.InvalidListCommand;
-import seedu.commands.listcommands.ListAllCommand;
-import seedu.commands.listcommands.ListIncomesCommand;
-import seedu.commands.listcommands.ListSpendingsCommand;
-import seedu.commands.listcommands.ListTagsCommand;
-import seedu.exception.WiagiInvalidInputException;
 import seedu.recurrence.DailyRecurrence;
 import seedu.recurrence.MonthlyRecurrence;
 import seedu.recurrence.Recurrence;
 import seedu.recurrence.RecurrenceFrequency;
+import seedu.recurrence.RuleRecurrence;
 import seedu.type.EntryType;
 import seedu.recurrence.YearlyRecurrence;
 
-import static seedu.classes.Constants.INVALID_CATEGORY;
-import static seedu.classes.Constants.SPACE_REGEX;
-import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
-
 public class Parser {
-    private static final int LIST_CATEGORY_INDEX = 1;
-    private static final int LIST_ALL_COMMAND_LENGTH = 1;
-    private static final int COMMAND_WORD_ARGUMENT = 0;
-
     public static Command parseUserInput(String fullCommand) {
-        String command = fullCommand.split(SPACE_REGEX)[COMMAND_WORD_ARGUMENT].toLowerCase();
-
-        switch (command) {
-        case ByeCommand.COMMAND_WORD:
-            return new ByeCommand();
-        case AddCommand.COMMAND_WORD:
-            return new AddCommand(fullCommand);
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommand(fullCommand);
-        case ListAllCommand.COMMAND_WORD:
-            return parseListCommand(fullCommand);
-        case EditCommand.COMMAND_WORD:
-            return new EditCommand(fullCommand);
-        case BudgetCommand.COMMAND_WORD:
-            return new BudgetCommand(fullCommand);
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-        default:
-            return new UnknownCommand();
-        }
+        return parseCommand(ParsedCommand.parse(fullCommand));
     }
 
-    private static Command parseListCommand(String fullCommand) {
-        String[] arguments = fullCommand.split(SPACE_REGEX);
-        int commandSize = arguments.length;
-        assert commandSize != 0 : "command should have at least 1 word";
-        if (commandSize == LIST_ALL_COMMAND_LENGTH) {
-            return new ListAllCommand(arguments);
-        }
-        String category = arguments[LIST_CATEGORY_INDEX];
-        switch (category) {
-        case ListTagsCommand.COMMAND_WORD:
-            return new ListTagsCommand(arguments);
-        case ListSpendingsCommand.COMMAND_WORD:
-            return new ListSpendingsCommand(arguments);
-        case ListIncomesCommand.COMMAND_WORD:
-            return new ListIncomesCommand(arguments);
-        default:
-            return new InvalidListCommand(new WiagiInvalidInputException(INVALID_CATEGORY + LIST_COMMAND_FORMAT));
-        }
+    /**
+     * Creates the command matching a command that has already been tokenized.
+     *
+     * @param command Tokenized command
+     * @return Command to execute
+     */
+    public static Command parseCommand(ParsedCommand command) {
+        return CommandRegistry.create(command);
     }
 
     public static Recurrence parseRecurrence(EntryType entry) {
@@ -83,6 +34,8 @@ public class Parser {
             return new MonthlyRecurrence();
         case YEARLY:
             return new YearlyRecurrence();
+        case CUSTOM:
+            return new RuleRecurrence(entry.getRecurrenceRule());
         default:
             return null;
         }
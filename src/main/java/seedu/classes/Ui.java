@@ -1,17 +1,32 @@
 package seedu.classes;
 
 import seedu.exception.WiagiInvalidInputException;
+import seedu.query.Query;
+import seedu.query.QueryPlan;
+import seedu.query.QueryPlanner;
+import seedu.recurrence.RecurrenceFrequency;
 import seedu.type.Income;
 import seedu.type.IncomeList;
+import seedu.type.RollingBudget;
 import seedu.type.Spending;
 import seedu.type.SpendingList;
+import seedu.type.EntryList;
+import seedu.type.EntryStatistics;
 import seedu.type.EntryType;
+import seedu.type.Report;
+import seedu.type.TagBudget;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 
 import static seedu.classes.Constants.ALL_TIME_OPTION;
 import static seedu.classes.Constants.BIWEEKLY_OPTION;
@@ -24,30 +39,152 @@ public class Ui {
     public static final String TAB = "\t";
     public static final String INCOME = "Incomes";
     public static final String SPENDING = "Spendings";
-    private static Scanner scanner = new Scanner(System.in);
+    private static final String UNTAGGED = "(untagged)";
+    private static CommandPipeline input;
+    private static final int ROW_BUFFER_SIZE = 1 << 16;
+    private static final StringBuilder rows = new StringBuilder(ROW_BUFFER_SIZE);
+    private static OutputSink output = new ConsoleSink(0);
+    private static JsonWriter json;
+    private static BatchOptions batchOptions;
+    private static int errorCount;
+    private static String lastError;
 
     public static void userInputForTest(String data) {
         ByteArrayInputStream testIn = new ByteArrayInputStream(data.getBytes());
         System.setIn(testIn);
-        scanner = new Scanner(System.in);
+        input = new CommandPipeline(new BufferedReader(new InputStreamReader(System.in)));
     }
 
     public static String readCommand() {
-        String line = scanner.nextLine().trim();
-        assert line != null : "Input line is null";
+        return readParsedCommand().getInput();
+    }
+
+    /**
+     * Reads the next line of input, which has already been tokenized by the input pipeline.
+     *
+     * @return Next line of input
+     * @throws NoSuchElementException If there is no more input
+     */
+    public static ParsedCommand readParsedCommand() {
+        flush();
+        if (input == null) {
+            input = new CommandPipeline(new BufferedReader(new InputStreamReader(System.in)));
+        }
+        ParsedCommand line;
+        try {
+            line = input.take();
+        } catch (IOException e) {
+            throw new NoSuchElementException(e.getMessage());
+        }
+        if (line == null) {
+            throw new NoSuchElementException("No more input");
+        }
         Ui.printSeparator();
         return line;
     }
 
+    /**
+     * Answers prompts from the given options instead of reading from the user, or reads from the user again if
+     * {@code options} is null.
+     *
+     * @param options Options of the batch run
+     */
+    public static void setBatchOptions(BatchOptions options) {
+        batchOptions = options;
+    }
+
+    public static boolean isBatchMode() {
+        return batchOptions != null;
+    }
+
+    /**
+     * Prints the message of a command that failed and keeps count of the failure.
+     *
+     * @param message Error message
+     */
+    public static void printError(String message) {
+        errorCount++;
+        lastError = message;
+        if (isJsonLines()) {
+            json.beginRecord("error").field("message", message);
+            printRecord();
+            return;
+        }
+        printWithTab(message);
+    }
+
+    public static int getErrorCount() {
+        return errorCount;
+    }
+
+    public static String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Sends all further output to the given sink, such as a buffered sink that is flushed once per command.
+     *
+     * @param sink Sink to print to
+     * @return Sink that was printed to before
+     */
+    public static OutputSink setOutput(OutputSink sink) {
+        assert sink != null : "Output sink should not be null";
+        OutputSink previous = output;
+        previous.flush();
+        output = sink;
+        return previous;
+    }
+
+    /**
+     * Writes out the output held back by the sink.
+     */
+    public static void flush() {
+        output.flush();
+    }
+
+    /**
+     * Prints every further output as JSON records, one per line, instead of tab-indented lines. Messages become
+     * {@code message} records, and listings, statistics, tags, errors and budget warnings get records of their own.
+     *
+     * @param isJsonLines True to print JSON records, or false to print lines for the user
+     */
+    public static void setJsonLines(boolean isJsonLines) {
+        json = isJsonLines ? new JsonWriter(rows) : null;
+    }
+
+    public static boolean isJsonLines() {
+        return json != null;
+    }
+
+    /**
+     * Ends the record written into the row buffer and passes it on to the output sink.
+     */
+    private static void printRecord() {
+        json.endRecord();
+        flushRows();
+    }
+
     public static void printSeparator() {
+        if (isJsonLines()) {
+            return;
+        }
         printWithTab(Constants.SEPARATOR);
     }
     public static void printWithTab(String message) {
-        System.out.println(TAB + message);
+        if (isJsonLines()) {
+            json.beginRecord("message").field("text", message);
+            printRecord();
+            return;
+        }
+        output.print(TAB + message + System.lineSeparator());
     }
 
     public static void printWithDoubleTab(String message) {
-        System.out.println(TAB+TAB + message);
+        if (isJsonLines()) {
+            printWithTab(message);
+            return;
+        }
+        output.print(TAB + TAB + message + System.lineSeparator());
     }
     public static void welcome() {
         Ui.printSeparator();
@@ -65,6 +202,10 @@ public class Ui {
     }
 
     public static void printSpendingStatistics(SpendingList spendings) {
+        if (isJsonLines()) {
+            printStatisticsRecords(spendings);
+            return;
+        }
         Ui.printWithDoubleTab("Daily spendings: " + formatPrintDouble(spendings.getDailySpending()));
         Ui.printWithDoubleTab("Daily Budget: " + spendings.getDailyBudget());
         Ui.printWithDoubleTab("Daily budget left: " + formatPrintDouble(spendings.getDailyBudget() -
@@ -77,6 +218,79 @@ public class Ui {
         Ui.printWithDoubleTab("Yearly Budget: " + spendings.getYearlyBudget());
         Ui.printWithDoubleTab("Yearly budget left: " + formatPrintDouble(spendings.getYearlyBudget() -
                 spendings.getYearlySpending()));
+        printRollingBudgetStatistics(spendings);
+        printTagBudgetStatistics(spendings);
+    }
+
+    private static void printRollingBudgetStatistics(SpendingList spendings) {
+        RollingBudget rollingBudget = spendings.getRollingBudget();
+        if (rollingBudget == null) {
+            return;
+        }
+        String window = "Rolling " + rollingBudget.getDays() + "-day ";
+        double rollingSpending = spendings.getRollingSpending();
+        Ui.printWithDoubleTab(window + "spendings: " + formatPrintDouble(rollingSpending));
+        Ui.printWithDoubleTab(window + "Budget: " + rollingBudget.getBudget());
+        Ui.printWithDoubleTab(window + "budget left: " + formatPrintDouble(rollingBudget.getBudget()
+                - rollingSpending));
+    }
+
+    private static void printTagBudgetStatistics(SpendingList spendings) {
+        LocalDate today = WiagiClock.today();
+        for (Map.Entry<String, TagBudget> entry : spendings.getBudgetedTags().entrySet()) {
+            String tag = entry.getKey();
+            TagBudget tagBudget = entry.getValue();
+            printTagBudgetLine(tag, "Daily", tagBudget.getDailyBudget(), tagBudget.getDailySpending(today));
+            printTagBudgetLine(tag, "Monthly", tagBudget.getMonthlyBudget(), tagBudget.getMonthlySpending(today));
+            printTagBudgetLine(tag, "Yearly", tagBudget.getYearlyBudget(), tagBudget.getYearlySpending(today));
+        }
+    }
+
+    private static void printTagBudgetLine(String tag, String timeRange, double budget, double spending) {
+        if (budget > 0) {
+            Ui.printWithDoubleTab(timeRange + " spendings on " + tag + ": " + formatPrintDouble(spending)
+                    + " (budget left: " + formatPrintDouble(budget - spending) + ")");
+        }
+    }
+
+    /**
+     * Prints a record for each period with a budget, with the spendings and budget left of the period.
+     */
+    private static void printStatisticsRecords(SpendingList spendings) {
+        beginStatisticsRecord("daily", spendings.getDailySpending(), spendings.getDailyBudget());
+        printRecord();
+        beginStatisticsRecord("monthly", spendings.getMonthlySpending(), spendings.getMonthlyBudget());
+        printRecord();
+        beginStatisticsRecord("yearly", spendings.getYearlySpending(), spendings.getYearlyBudget());
+        printRecord();
+        RollingBudget rollingBudget = spendings.getRollingBudget();
+        if (rollingBudget != null) {
+            beginStatisticsRecord("rolling", spendings.getRollingSpending(), rollingBudget.getBudget())
+                    .field("days", rollingBudget.getDays());
+            printRecord();
+        }
+        LocalDate today = WiagiClock.today();
+        for (Map.Entry<String, TagBudget> entry : spendings.getBudgetedTags().entrySet()) {
+            TagBudget tagBudget = entry.getValue();
+            printTagStatisticsRecord(entry.getKey(), "daily", tagBudget.getDailyBudget(),
+                    tagBudget.getDailySpending(today));
+            printTagStatisticsRecord(entry.getKey(), "monthly", tagBudget.getMonthlyBudget(),
+                    tagBudget.getMonthlySpending(today));
+            printTagStatisticsRecord(entry.getKey(), "yearly", tagBudget.getYearlyBudget(),
+                    tagBudget.getYearlySpending(today));
+        }
+    }
+
+    private static JsonWriter beginStatisticsRecord(String period, double spending, double budget) {
+        return json.beginRecord("statistics").field("period", period).field("spending", spending)
+                .field("budget", budget).field("left", budget - spending);
+    }
+
+    private static void printTagStatisticsRecord(String tag, String period, double budget, double spending) {
+        if (budget > 0) {
+            beginStatisticsRecord(period, spending, budget).field("tag", tag);
+            printRecord();
+        }
     }
 
     public static <T extends EntryType> void printArrList(ArrayList<T> arrList) {
@@ -86,9 +300,23 @@ public class Ui {
         } else {
             typeOfList = INCOME;
         }
-        Ui.printWithTab(typeOfList);
-        Ui.printWithTab("Total " + typeOfList.toLowerCase() + ": " + printList(arrList));
+        printListHeader(typeOfList);
+        printListTotal(typeOfList, sumAndPrintList(arrList));
+    }
 
+    private static void printListHeader(String typeOfList) {
+        if (!isJsonLines()) {
+            Ui.printWithTab(typeOfList);
+        }
+    }
+
+    private static void printListTotal(String typeOfList, double total) {
+        if (isJsonLines()) {
+            json.beginRecord("total").field("list", typeOfList.toLowerCase()).field("amount", total);
+            printRecord();
+            return;
+        }
+        Ui.printWithTab("Total " + typeOfList.toLowerCase() + ": " + formatPrintDouble(total));
     }
 
     /**
@@ -99,14 +327,328 @@ public class Ui {
      * @return The sum of the amounts of the elements in the ArrayList as a String.
      */
     public static <T> String printList(ArrayList<T> arrList) {
+        return formatPrintDouble(sumAndPrintList(arrList));
+    }
+
+    /**
+     * Prints every entry of the list and returns their total, which is taken from the running total of an
+     * {@code EntryList} instead of being summed again.
+     */
+    private static <T> double sumAndPrintList(ArrayList<T> arrList) {
+        boolean hasRunningTotal = arrList instanceof EntryList;
         double sumOfAmountInList = 0;
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             assert arrList != null : "ArrayList is null";
             int indexToUser = indexInList + 1;
-            sumOfAmountInList += ((EntryType) arrList.get(indexInList)).getAmount();
-            Ui.printWithTab(indexToUser + ". " + arrList.get(indexInList));
+            if (!hasRunningTotal) {
+                sumOfAmountInList += ((EntryType) arrList.get(indexInList)).getAmount();
+            }
+            printRow(indexToUser, arrList.get(indexInList));
         }
-        return formatPrintDouble(sumOfAmountInList);
+        flushRows();
+        return hasRunningTotal ? ((EntryList<?>) arrList).getTotal() : sumOfAmountInList;
+    }
+
+    /**
+     * Prints one page of the entries within the time range, with their indexes in the list, and the total of the
+     * whole list from its running total. Entries are visited from the end of the list if reversed, and visiting stops
+     * once the page is full. Without a time range, the page is found from its indexes, so only its rows are visited.
+     *
+     * @param list List of entries
+     * @param timeRangeOption One of the options in {@code TIME_RANGE_MESSAGE}
+     * @param offset Number of entries to skip
+     * @param limit Most entries to print
+     * @param isReverse True to list the entries from the end of the list
+     */
+    public static <T extends EntryType> void printListPage(EntryList<T> list, String timeRangeOption, int offset,
+            int limit, boolean isReverse) {
+        LocalDate[] timeRange = getTimeRange(timeRangeOption);
+        int step = isReverse ? -1 : 1;
+        long indexInList = isReverse ? list.size() - 1 : 0;
+        int skipped = 0;
+        if (timeRange == null) {
+            indexInList += (long) step * offset;
+            skipped = offset;
+        }
+        String typeOfList = list instanceof SpendingList ? SPENDING : INCOME;
+        printListHeader(typeOfList);
+        int shown = 0;
+        for (; indexInList >= 0 && indexInList < list.size() && shown < limit; indexInList += step) {
+            T entry = list.get((int) indexInList);
+            if (timeRange != null && !isInRange(entry.getDate(), timeRange[0], timeRange[1])) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            printRow(indexInList + 1, entry);
+            shown++;
+        }
+        flushRows();
+        printListTotal(typeOfList, list.getTotal());
+    }
+
+    /**
+     * Prints the totals of a report by month and tag, by year and by day of the week.
+     *
+     * @param typeOfList Name of the list the report is of
+     * @param report Report of the list
+     */
+    public static void printReport(String typeOfList, Report report) {
+        String list = typeOfList.toLowerCase();
+        printReportHeading(typeOfList + " report");
+        printReportHeading("By month and tag:");
+        for (int i = 0; i < report.getMonthTagCount(); i++) {
+            String tag = report.getTag(i).isEmpty() ? UNTAGGED : report.getTag(i);
+            if (isJsonLines()) {
+                json.beginRecord("report").field("list", list).field("group", "month_tag")
+                        .field("month", report.getMonth(i).toString()).field("tag", report.getTag(i))
+                        .field("amount", report.getMonthTagTotal(i));
+                printRecord();
+            } else {
+                Ui.printWithDoubleTab(report.getMonth(i) + " " + tag + ": "
+                        + formatPrintDouble(report.getMonthTagTotal(i)));
+            }
+        }
+        printReportHeading("By year:");
+        for (long year : report.getYears()) {
+            if (isJsonLines()) {
+                json.beginRecord("report").field("list", list).field("group", "year").field("year", year)
+                        .field("amount", report.getYearTotal(year));
+                printRecord();
+            } else {
+                Ui.printWithDoubleTab(year + ": " + formatPrintDouble(report.getYearTotal(year)));
+            }
+        }
+        printReportHeading("By day of week:");
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (isJsonLines()) {
+                json.beginRecord("report").field("list", list).field("group", "day_of_week")
+                        .field("day", dayOfWeek.toString()).field("amount", report.getDayOfWeekTotal(dayOfWeek));
+                printRecord();
+            } else {
+                Ui.printWithDoubleTab(dayOfWeek + ": " + formatPrintDouble(report.getDayOfWeekTotal(dayOfWeek)));
+            }
+        }
+    }
+
+    /**
+     * Prints the count, mean, variance and percentiles of the amounts of a list, and the tags with the largest
+     * totals.
+     *
+     * @param typeOfList Name of the list the statistics are of
+     * @param statistics Statistics of the list
+     * @param topTagCount Most tags to print
+     */
+    public static void printStats(String typeOfList, EntryStatistics statistics, int topTagCount) {
+        String list = typeOfList.toLowerCase();
+        double mean = Math.round(statistics.getMean() * 100.0) / 100.0;
+        double variance = Math.round(statistics.getVariance() * 100.0) / 100.0;
+        List<String> topTags = statistics.getTopTags(topTagCount);
+        if (isJsonLines()) {
+            json.beginRecord("stats").field("list", list).field("count", statistics.getCount())
+                    .field("mean", mean).field("variance", variance)
+                    .field("median", statistics.getQuantile(0.5)).field("p90", statistics.getQuantile(0.9))
+                    .field("p99", statistics.getQuantile(0.99));
+            printRecord();
+            printTopTagRecords(list, statistics, topTags);
+            return;
+        }
+        Ui.printWithTab(typeOfList + " statistics");
+        Ui.printWithDoubleTab("Entries: " + statistics.getCount());
+        Ui.printWithDoubleTab("Mean: " + formatPrintDouble(mean));
+        Ui.printWithDoubleTab("Variance: " + formatPrintDouble(variance));
+        Ui.printWithDoubleTab("Median: " + formatPrintDouble(statistics.getQuantile(0.5)));
+        Ui.printWithDoubleTab("90th percentile: " + formatPrintDouble(statistics.getQuantile(0.9)));
+        Ui.printWithDoubleTab("99th percentile: " + formatPrintDouble(statistics.getQuantile(0.99)));
+        Ui.printWithDoubleTab("Top tags:");
+        for (int i = 0; i < topTags.size(); i++) {
+            Ui.printWithDoubleTab(TAB + (i + 1) + ". " + topTags.get(i) + ": "
+                    + formatPrintDouble(statistics.getTagTotal(topTags.get(i))));
+        }
+    }
+
+    /**
+     * Prints the tags with the largest totals in a list, from largest to smallest.
+     *
+     * @param typeOfList Name of the list the tags are of
+     * @param statistics Statistics of the list
+     * @param topTagCount Most tags to print
+     */
+    public static void printTopTags(String typeOfList, EntryStatistics statistics, int topTagCount) {
+        String list = typeOfList.toLowerCase();
+        List<String> topTags = statistics.getTopTags(topTagCount);
+        if (isJsonLines()) {
+            printTopTagRecords(list, statistics, topTags);
+            return;
+        }
+        Ui.printWithTab("Top " + list + " tags");
+        for (int i = 0; i < topTags.size(); i++) {
+            Ui.printWithTab((i + 1) + ". " + topTags.get(i) + ": "
+                    + formatPrintDouble(statistics.getTagTotal(topTags.get(i))));
+        }
+    }
+
+    private static void printTopTagRecords(String list, EntryStatistics statistics, List<String> topTags) {
+        for (int i = 0; i < topTags.size(); i++) {
+            json.beginRecord("top_tag").field("list", list).field("rank", i + 1).field("tag", topTags.get(i))
+                    .field("amount", statistics.getTagTotal(topTags.get(i)));
+            printRecord();
+        }
+    }
+
+    /**
+     * Prints the entries with the largest amounts within the time range, from largest to smallest, with their indexes
+     * in the list. Entries of equal amounts are listed in list order. Only the largest entries seen so far are kept
+     * in a heap whose smallest entry is dropped when it grows past {@code topCount}, so the list is never sorted.
+     *
+     * @param list List of entries
+     * @param timeRangeOption One of the options in {@code TIME_RANGE_MESSAGE}
+     * @param topCount Most entries to print
+     */
+    public static <T extends EntryType> void printTop(EntryList<T> list, String timeRangeOption, int topCount) {
+        LocalDate[] timeRange = getTimeRange(timeRangeOption);
+        PriorityQueue<Integer> largest = new PriorityQueue<>((first, second) -> {
+            int compareAmount = Double.compare(list.get(first).getAmount(), list.get(second).getAmount());
+            return compareAmount != 0 ? compareAmount : Integer.compare(second, first);
+        });
+        for (int indexInList = 0; indexInList < list.size() && topCount > 0; indexInList++) {
+            if (timeRange != null && !isInRange(list.get(indexInList).getDate(), timeRange[0], timeRange[1])) {
+                continue;
+            }
+            largest.add(indexInList);
+            if (largest.size() > topCount) {
+                largest.poll();
+            }
+        }
+        int[] indexes = new int[largest.size()];
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            indexes[i] = largest.poll();
+        }
+        String typeOfList = list instanceof SpendingList ? SPENDING : INCOME;
+        printListHeader("Top " + topCount + " " + typeOfList.toLowerCase());
+        for (int indexInList : indexes) {
+            printRow(indexInList + 1, list.get(indexInList));
+        }
+        flushRows();
+    }
+
+    /**
+     * Prints one page of the entries matching the query within the time range, with their indexes in the list, and
+     * the number and total of all the matching entries. If explained, also prints how the entries were found, how many
+     * were checked against the query and how long finding them took.
+     *
+     * @param list List of entries
+     * @param query Query of the entries
+     * @param timeRangeOption One of the options in {@code TIME_RANGE_MESSAGE}
+     * @param offset Number of matching entries to skip
+     * @param limit Most entries to print
+     * @param isReverse True to list the entries from the end of the list
+     * @param isExplain True to print the plan of the query
+     */
+    public static <T extends EntryType> void printQuery(EntryList<T> list, Query query, String timeRangeOption,
+            int offset, int limit, boolean isReverse, boolean isExplain) {
+        LocalDate[] timeRange = getTimeRange(timeRangeOption);
+        if (timeRange != null) {
+            query.restrictDates(timeRange[0], timeRange[1]);
+        }
+        long startTime = System.nanoTime();
+        QueryPlan plan = QueryPlanner.plan(list, query);
+        int[] matches = plan.run();
+        long micros = (System.nanoTime() - startTime) / 1000;
+        String typeOfList = list instanceof SpendingList ? SPENDING : INCOME;
+        printListHeader(typeOfList);
+        long totalCents = 0;
+        for (int i = 0; i < matches.length; i++) {
+            int indexInList = matches[isReverse ? matches.length - 1 - i : i];
+            if (i >= offset && i - offset < limit) {
+                printRow(indexInList + 1, list.get(indexInList));
+            }
+            totalCents += Math.round(list.get(indexInList).getAmount() * 100.0);
+        }
+        flushRows();
+        String listName = typeOfList.toLowerCase();
+        if (isJsonLines()) {
+            json.beginRecord("total").field("list", listName).field("amount", totalCents / 100.0)
+                    .field("count", matches.length);
+            printRecord();
+        } else {
+            Ui.printWithTab("Total of " + matches.length + " matching " + listName + ": "
+                    + formatPrintDouble(totalCents / 100.0));
+        }
+        if (!isExplain) {
+            return;
+        }
+        if (isJsonLines()) {
+            json.beginRecord("plan").field("list", listName).field("access", plan.getAccessPath())
+                    .field("examined", plan.getExaminedCount()).field("size", list.size())
+                    .field("matched", matches.length).field("micros", micros);
+            printRecord();
+            return;
+        }
+        Ui.printWithTab("Plan: " + plan.getAccessPath());
+        Ui.printWithTab("Examined " + plan.getExaminedCount() + " of " + list.size() + " " + listName + ", "
+                + matches.length + " matched in " + micros + " microseconds");
+    }
+
+    private static void printReportHeading(String heading) {
+        if (!isJsonLines()) {
+            Ui.printWithTab(heading);
+        }
+    }
+
+    /**
+     * Returns the first and last dates of a time range option, or null if all entries were chosen.
+     */
+    private static LocalDate[] getTimeRange(String timeRangeOption) {
+        LocalDate currDate = WiagiClock.today();
+        switch (timeRangeOption) {
+        case WEEKLY_OPTION:
+            return new LocalDate[]{getMondayDate(currDate), getSundayDate(currDate)};
+        case BIWEEKLY_OPTION:
+            return new LocalDate[]{getMondayDate(currDate.minusDays(7)), getSundayDate(currDate)};
+        case MONTHLY_OPTION:
+            return new LocalDate[]{currDate.withDayOfMonth(1), currDate.withDayOfMonth(currDate.lengthOfMonth())};
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Adds the line of an entry to the row buffer that is shared by all listings, so that listing does not create a
+     * string for every row. The buffer is passed on to the output sink whenever it fills up, and must be passed on
+     * with {@code flushRows} before anything else is printed.
+     */
+    private static void printRow(long indexToUser, Object entry) {
+        if (isJsonLines()) {
+            writeEntryRecord(json, indexToUser, (EntryType) entry);
+        } else {
+            rows.append(TAB).append(indexToUser).append(". ").append(entry).append(System.lineSeparator());
+        }
+        if (rows.length() >= ROW_BUFFER_SIZE) {
+            flushRows();
+        }
+    }
+
+    private static void flushRows() {
+        output.print(rows);
+        rows.setLength(0);
+    }
+
+    private static void writeEntryRecord(JsonWriter writer, long indexToUser, EntryType entry) {
+        String recurrence = null;
+        if (entry.getRecurrenceFrequency() == RecurrenceFrequency.CUSTOM) {
+            recurrence = entry.getRecurrenceRule().toString();
+        } else if (entry.getRecurrenceFrequency() != RecurrenceFrequency.NONE
+                && entry.getRecurrenceFrequency() != null) {
+            recurrence = entry.getRecurrenceFrequency().toString();
+        }
+        writer.beginRecord("entry").field("list", (entry instanceof Spending ? SPENDING : INCOME).toLowerCase())
+                .field("index", indexToUser).field("description", entry.getDescription())
+                .field("amount", entry.getAmount()).field("date", entry.getDate().toString())
+                .field("tag", entry.getTag()).field("recurrence", recurrence);
+        writer.endRecord();
     }
 
     private static String formatPrintDouble(double sum) {
@@ -124,6 +666,13 @@ public class Ui {
             throw new WiagiInvalidInputException("No tags found. Please input more tags!");
         }
         assert tags != null : "Tags list is null";
+        if (isJsonLines()) {
+            for (int indexInList = 0; indexInList < tags.size(); indexInList++) {
+                json.beginRecord("tag").field("index", indexInList + 1).field("name", tags.get(indexInList));
+                printRecord();
+            }
+            return;
+        }
         Ui.printWithTab("Tags");
         for (int indexInList = 0; indexInList < tags.size(); indexInList++) {
             int indexToUser = indexInList + 1;
@@ -173,6 +722,11 @@ public class Ui {
         assert tagsCount > 0 : "No entries with tag: " + tag;
         assert incomeCount > 0 || spendingCount > 0 : "No entries with tag: " + tag;
 
+        if (isJsonLines()) {
+            output.print(sbIncome);
+            output.print(sbSpending);
+            return;
+        }
         Ui.printWithTab("Tag: " + tag);
         if (incomeCount > 0) {
             Ui.printWithTab(sbIncome.toString().trim());
@@ -185,13 +739,20 @@ public class Ui {
     //@@author wongwh2002
     private static <T extends EntryType> int getTagsCount(ArrayList<T> arrList, String tag,
                                         StringBuilder sb, String listName) {
-        sb.append(listName).append(System.lineSeparator());
+        JsonWriter writer = isJsonLines() ? new JsonWriter(sb) : null;
+        if (writer == null) {
+            sb.append(listName).append(System.lineSeparator());
+        }
         int tagsCount = 0;
         for (int i = 0; i < arrList.size(); i++) {
             EntryType listIndex = arrList.get(i);
             if (listIndex.getTag().equals(tag)) {
                 tagsCount++;
                 int oneIndexedI = i + 1;
+                if (writer != null) {
+                    writeEntryRecord(writer, oneIndexedI, listIndex);
+                    continue;
+                }
                 sb.append(TAB).append(oneIndexedI).append(". ")
                         .append(listIndex).append(System.lineSeparator());
             }
@@ -201,85 +762,102 @@ public class Ui {
 
     public static void printOverspendMessage(String budgetType, double overspendAmont) {
         overspendAmont *= -1;
+        if (isJsonLines()) {
+            json.beginRecord("overspend").field("budget", budgetType).field("amount", overspendAmont);
+            printRecord();
+            return;
+        }
         Ui.printWithTab("!!! You have overspent your " + budgetType + " by: " + overspendAmont + " !!!");
     }
 
     //@@author wx-03
     public static <T extends EntryType> void printWeekly(ArrayList<T> arrList) {
-        StringBuilder filteredList = new StringBuilder();
-        LocalDate currDate = LocalDate.now();
+        LocalDate currDate = WiagiClock.today();
         LocalDate monday = getMondayDate(currDate);
         LocalDate sunday = getSundayDate(currDate);
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
             int indexToUser = indexInList + 1;
             if (isInRange(entry.getDate(), monday, sunday)) {
-                filteredList.append(TAB).append(indexToUser).append(". ")
-                        .append(entry).append(System.lineSeparator());
+                printRow(indexToUser, entry);
             }
         }
-        System.out.print(filteredList);
+        flushRows();
     }
 
     public static <T extends EntryType> void printMonthly(ArrayList<T> arrList) {
-        LocalDate currDate = LocalDate.now();
+        LocalDate currDate = WiagiClock.today();
         LocalDate monthStart = LocalDate.of(currDate.getYear(), currDate.getMonth(), 1);
         LocalDate monthEnd = monthStart.plusDays(currDate.getMonth().length(currDate.isLeapYear()) - 1);
-        StringBuilder filteredList = new StringBuilder();
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
             int indexToUser = indexInList + 1;
             if (isInRange(entry.getDate(), monthStart, monthEnd)) {
-                filteredList.append(TAB).append(indexToUser).append(". ")
-                        .append(entry).append(System.lineSeparator());
+                printRow(indexToUser, entry);
             }
         }
-        System.out.print(filteredList);
+        flushRows();
     }
 
     public static <T extends EntryType> void printBiweekly(ArrayList<T> arrList) {
-        LocalDate currDate = LocalDate.now();
+        LocalDate currDate = WiagiClock.today();
         LocalDate start = getMondayDate(currDate.minusDays(7));
         LocalDate end = getSundayDate(currDate);
-        StringBuilder filteredList = new StringBuilder();
         for (int indexInList = 0; indexInList < arrList.size(); indexInList++) {
             EntryType entry = arrList.get(indexInList);
             int indexToUser = indexInList + 1;
             if (isInRange(entry.getDate(), start, end)) {
-                filteredList.append(TAB).append(indexToUser).append(". ")
-                        .append(entry).append(System.lineSeparator());
+                printRow(indexToUser, entry);
             }
         }
-        System.out.print(filteredList);
+        flushRows();
     }
 
     //@@author wx-03
     public static <T extends EntryType> boolean printListOfTimeRange(ArrayList<T> arrList) {
         while (true) {
             Ui.printWithTab(TIME_RANGE_MESSAGE);
-            String userInput = Ui.readCommand();
+            String userInput = isBatchMode() ? batchOptions.getTimeRangeOption() : Ui.readCommand();
             switch (userInput) {
             case ALL_TIME_OPTION:
-                return true;
             case WEEKLY_OPTION:
-                Ui.printWeekly(arrList);
-                return false;
             case BIWEEKLY_OPTION:
-                Ui.printBiweekly(arrList);
-                return false;
             case MONTHLY_OPTION:
-                Ui.printMonthly(arrList);
-                return false;
+                return printListOfTimeRange(arrList, userInput);
             default:
                 Ui.printWithTab("Invalid input");
             }
         }
     }
 
+    /**
+     * Prints the entries within the time range chosen without prompting the user.
+     *
+     * @param arrList List of entries
+     * @param timeRangeOption One of the options in {@code TIME_RANGE_MESSAGE}
+     * @return True if all entries were chosen, in which case they are left for the caller to print
+     */
+    public static <T extends EntryType> boolean printListOfTimeRange(ArrayList<T> arrList, String timeRangeOption) {
+        switch (timeRangeOption) {
+        case WEEKLY_OPTION:
+            Ui.printWeekly(arrList);
+            return false;
+        case BIWEEKLY_OPTION:
+            Ui.printBiweekly(arrList);
+            return false;
+        case MONTHLY_OPTION:
+            Ui.printMonthly(arrList);
+            return false;
+        default:
+            assert timeRangeOption.equals(ALL_TIME_OPTION) : "time range option should be valid";
+            return true;
+        }
+    }
+
     public static void printStatisticsIfRequired(SpendingList spendings) {
         Ui.printWithTab("List all statistics? [Y/N]:");
         while (true) {
-            String userInput = Ui.readCommand().toLowerCase();
+            String userInput = isBatchMode() ? batchOptions.getStatisticsAnswer() : Ui.readCommand().toLowerCase();
             switch (userInput) {
             case "y":
                 Ui.printArrList(spendings);
@@ -296,9 +874,9 @@ public class Ui {
 
     public static <T extends EntryType> boolean hasRecurrenceBacklog(T toAdd) {
         Ui.printWithTab("Do you want to backlog recurrence entries from " + toAdd.getDate() + " to "
-                + LocalDate.now() + " if any? [Y/N]");
+                + WiagiClock.today() + " if any? [Y/N]");
         while (true) {
-            String userInput = Ui.readCommand().toLowerCase();
+            String userInput = isBatchMode() ? batchOptions.getBacklogAnswer() : Ui.readCommand().toLowerCase();
             switch (userInput) {
             case "y":
                 return true;
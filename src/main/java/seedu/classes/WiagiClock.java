@@ -0,0 +1,54 @@
+package seedu.classes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Provides the current date to the rest of the program. Defaults to the system clock, but can be replaced or advanced
+ * to replay recurrences and budgets over a simulated period of time. Advancing keeps a single offset from the clock
+ * that was last set, so the current date is found in constant time however many days have been simulated.
+ */
+public class WiagiClock {
+    private static volatile Clock baseClock = Clock.systemDefaultZone();
+    private static volatile Duration offset = Duration.ZERO;
+    private static volatile Clock clock = baseClock;
+
+    /**
+     * Returns the current date according to the clock in use.
+     *
+     * @return Current date
+     */
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    public static void setClock(Clock newClock) {
+        assert newClock != null : "Clock should not be null";
+        baseClock = newClock;
+        offset = Duration.ZERO;
+        clock = newClock;
+    }
+
+    /**
+     * Moves the clock forward by the given number of days.
+     *
+     * @param days Number of days to advance the clock by
+     */
+    public static void advanceDays(long days) {
+        assert days >= 0 : "Clock should only move forward";
+        offset = offset.plusDays(days);
+        clock = Clock.offset(baseClock, offset);
+    }
+
+    /**
+     * Restores the clock to the system clock.
+     */
+    public static void reset() {
+        setClock(Clock.systemDefaultZone());
+    }
+}
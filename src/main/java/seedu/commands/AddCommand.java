@@ -1,4 +1,5 @@
 package seedu.commands;
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.exception.WiagiEmptyDescriptionException;
 import seedu.exception.WiagiInvalidInputException;
@@ -8,105 +9,115 @@ import seedu.type.IncomeList;
 import seedu.type.Spending;
 import seedu.type.SpendingList;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import static seedu.classes.Constants.ADD_COMMAND_FORMAT;
 import static seedu.classes.Constants.INVALID_CATEGORY;
 import static seedu.classes.Constants.MISSING_AMOUNT;
 import static seedu.classes.Constants.MISSING_DESCRIPTION;
-import static seedu.classes.Constants.SPACE_REGEX;
 import static seedu.classes.Constants.INCOME;
 import static seedu.classes.Constants.SPENDING;
 
-public class AddCommand extends Command {
+public class AddCommand extends Command implements Transaction.QueuedChange {
 
     public static final String COMMAND_WORD = "add";
     private static final int DESCRIPTION_INDEX = 3;
     private static final int LIST_TYPE_INDEX = 1;
     private static final int AMOUNT_INDEX = 2;
-    private static final int ADD_COMPULSORY_ARGUMENTS_LENGTH = 4;
-    private static final String OPTIONAL_ARGUMENTS_REGEX = "^(.*?)(?:[/~*].*)?$";
 
-    private final String fullCommand;
-    public AddCommand(String fullCommand) {
-        this.fullCommand = fullCommand;
+    private final ParsedCommand command;
+    public AddCommand(ParsedCommand command) {
+        this.command = command;
     }
 
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
         assert incomes != null;
         assert spendings != null;
+        if (Transaction.isOpen()) {
+            Transaction.queue(this);
+            return;
+        }
         try {
             handleCommand(incomes, spendings);
         } catch (WiagiInvalidInputException | WiagiEmptyDescriptionException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(IncomeList incomes, SpendingList spendings)
             throws WiagiInvalidInputException, WiagiEmptyDescriptionException {
+        if (isSpending()) {
+            addSpending(spendings, getAmount(), getDescription());
+        } else {
+            addIncome(incomes, getAmount(), getDescription());
+        }
+    }
+
+    @Override
+    public void stage(Transaction.StagedList<Income> incomes, Transaction.StagedList<Spending> spendings)
+            throws WiagiEmptyDescriptionException {
+        if (isSpending()) {
+            spendings.add(new Spending(command, getAmount(), getDescription()));
+        } else {
+            incomes.add(new Income(command, getAmount(), getDescription()));
+        }
+    }
 
-        String[] arguments = extractArguments(); // [add] [type] [amount] [others]
-        String typeOfList = arguments[LIST_TYPE_INDEX];
-        if (!(typeOfList.equals(SPENDING) || typeOfList.equals(INCOME))) {
+    private boolean isSpending() {
+        checkArguments(); // [add] [type] [amount] [others]
+        boolean isSpending = command.isWord(LIST_TYPE_INDEX, SPENDING);
+        if (!(isSpending || command.isWord(LIST_TYPE_INDEX, INCOME))) {
             throw new WiagiInvalidInputException(INVALID_CATEGORY + ADD_COMMAND_FORMAT);
         }
+        return isSpending;
+    }
 
-        String stringAmount = arguments[AMOUNT_INDEX];
+    private double getAmount() {
+        String stringAmount = command.getWord(AMOUNT_INDEX);
         double amount = CommandUtils.formatAmount(stringAmount, ADD_COMMAND_FORMAT);
         assert amount > 0 : "Amount should be greater than zero";
+        return amount;
+    }
 
-        String descriptionAndOptionalArguments = arguments[DESCRIPTION_INDEX];
-        String description = extractDescription(descriptionAndOptionalArguments);
+    private String getDescription() {
+        String description = command.getRestBeforeOptionalArguments(DESCRIPTION_INDEX);
         assert description != null && !description.isEmpty() : "Description should not be null or empty";
-
-        String optionalArguments = descriptionAndOptionalArguments.substring(description.length());
-
-        if (typeOfList.equals(SPENDING)) {
-            addSpending(spendings, amount, description, optionalArguments);
-        } else {
-            addIncome(incomes, amount, description, optionalArguments);
-        }
+        return description;
     }
 
-    private String[] extractArguments() {
-        String[] arguments = fullCommand.split(SPACE_REGEX, ADD_COMPULSORY_ARGUMENTS_LENGTH);
-        if (arguments.length == AMOUNT_INDEX) {
+    private void checkArguments() {
+        if (command.size() == AMOUNT_INDEX) {
             throw new WiagiInvalidInputException(MISSING_AMOUNT + ADD_COMMAND_FORMAT);
-        } else if (arguments.length == DESCRIPTION_INDEX) {
+        } else if (command.size() == DESCRIPTION_INDEX) {
             throw new WiagiInvalidInputException(MISSING_DESCRIPTION + ADD_COMMAND_FORMAT);
         }
-        return arguments;
-    }
-
-    private String extractDescription(String descriptionAndOptionalArguments) {
-        Pattern pattern = Pattern.compile(OPTIONAL_ARGUMENTS_REGEX);
-        Matcher matcher = pattern.matcher(descriptionAndOptionalArguments);
-        if (matcher.find()) {
-            return matcher.group(1).trim();
-        }
-        return descriptionAndOptionalArguments.trim();  // Return the original if no match is found
     }
 
-    private void addSpending(SpendingList spendings, double amount, String description, String optionalArguments) {
+    private void addSpending(SpendingList spendings, double amount, String description) {
         try {
-            Spending toAdd = new Spending(optionalArguments, amount, description);
+            Spending toAdd = new Spending(command, amount, description);
+            Ui.printWithTab("Entry successfully added!");
+            int sizeBefore = spendings.size();
             spendings.add(toAdd);
             Recurrence.checkRecurrenceBackLog(toAdd, spendings);
-            spendings.checkOverspend();
+            History.recordAdd(command.getInput(), spendings, sizeBefore);
+            if (!Ui.isBatchMode()) {
+                spendings.checkOverspend(toAdd.getTag());
+            }
         } catch (WiagiInvalidInputException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
-    private void addIncome(IncomeList incomes, double amount, String description, String optionalArguments) {
+    private void addIncome(IncomeList incomes, double amount, String description) {
         try {
-            Income toAdd = new Income(optionalArguments, amount, description);
+            Income toAdd = new Income(command, amount, description);
+            Ui.printWithTab("Entry successfully added!");
+            int sizeBefore = incomes.size();
             incomes.add(toAdd);
             Recurrence.checkRecurrenceBackLog(toAdd, incomes);
+            History.recordAdd(command.getInput(), incomes, sizeBefore);
         } catch (WiagiInvalidInputException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 }
@@ -0,0 +1,25 @@
+package seedu.commands;
+
+import seedu.classes.Ui;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+/**
+ * Represents a command that opens a transaction, after which additions, edits and deletions are queued until they
+ * are committed or rolled back.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        try {
+            Transaction.begin();
+            Ui.printWithTab("Transaction started! Changes will be applied on commit.");
+        } catch (WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+}
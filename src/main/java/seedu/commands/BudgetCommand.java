@@ -1,19 +1,21 @@
 package seedu.commands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
+import seedu.type.TagBudget;
 
 import static seedu.classes.Constants.BUDGET_COMMAND_FORMAT;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
 import static seedu.classes.Constants.INVALID_CATEGORY;
 import static seedu.classes.Constants.INVALID_AMOUNT;
-import static seedu.classes.Constants.SPACE_REGEX;
 
 /**
- * Represents a command to set a budget.
+ * Represents a command to set a budget of the whole list of spendings, or of the spendings with a tag. Besides
+ * daily, monthly and yearly budgets, the whole list may have a budget for any rolling window of days.
  */
 public class BudgetCommand extends Command {
 
@@ -24,16 +26,20 @@ public class BudgetCommand extends Command {
     private static final String DAILY = "daily";
     private static final String MONTHLY = "monthly";
     private static final String YEARLY = "yearly";
+    private static final String ROLLING_SUFFIX = "days";
+    private static final int MAX_ROLLING_DAYS = 366;
+    private static final String INVALID_ROLLING_DAYS = "Please enter between 1 and " + MAX_ROLLING_DAYS
+            + " days for a rolling budget! ";
 
-    private final String fullCommand;
+    private final ParsedCommand command;
 
     /**
-     * Constructs a BudgetCommand with the specified full command.
+     * Constructs a BudgetCommand with the specified command.
      *
-     * @param fullCommand The full command string.
+     * @param command The tokenized command.
      */
-    public BudgetCommand(String fullCommand) {
-        this.fullCommand = fullCommand;
+    public BudgetCommand(ParsedCommand command) {
+        this.command = command;
     }
 
     /**
@@ -47,24 +53,32 @@ public class BudgetCommand extends Command {
         try {
             handleCommand(spendings);
         } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(SpendingList spendings) throws WiagiMissingParamsException {
-        String[] arguments = extractArguments();
-        String stringBudget = arguments[BUDGET_AMOUNT_INDEX];
+        checkArguments();
+        String stringBudget = command.getRestBeforeOptionalArguments(BUDGET_AMOUNT_INDEX);
         int budget = formatBudget(stringBudget);
-        String timeRange = arguments[TIME_RANGE_INDEX].toLowerCase();
-        addBudget(spendings, budget, timeRange);
+        String timeRange = command.getWord(TIME_RANGE_INDEX).toLowerCase();
+        String tag = command.getOptionalArgument(ParsedCommand.TAG_DELIMITER);
+        if (tag != null && tag.isEmpty()) {
+            tag = null;
+        }
+        double[] budgetsBefore = History.getBudgets(spendings, tag);
+        if (tag == null) {
+            addBudget(spendings, budget, timeRange);
+        } else {
+            addTagBudget(spendings.getTagBudget(tag), budget, timeRange, tag);
+        }
+        History.recordBudget(command.getInput(), spendings, tag, budgetsBefore);
     }
 
-    private String[] extractArguments() throws WiagiMissingParamsException {
-        String[] arguments = fullCommand.split(SPACE_REGEX, BUDGET_COMPULSORY_ARGUMENTS_LENGTH);
-        if (arguments.length != BUDGET_COMPULSORY_ARGUMENTS_LENGTH) {
+    private void checkArguments() throws WiagiMissingParamsException {
+        if (command.size() < BUDGET_COMPULSORY_ARGUMENTS_LENGTH) {
             throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + BUDGET_COMMAND_FORMAT);
         }
-        return arguments;
     }
 
     private int formatBudget(String stringBudget) {
@@ -90,8 +104,44 @@ public class BudgetCommand extends Command {
             Ui.printWithTab("Successfully set yearly budget of: " + budget);
             break;
         default:
+            addRollingBudget(spendings, budget, timeRange);
+        }
+    }
+
+    /**
+     * Sets a budget for any rolling window of days, given as a period such as {@code 30days}.
+     */
+    private void addRollingBudget(SpendingList spendings, int budget, String timeRange) {
+        if (!timeRange.endsWith(ROLLING_SUFFIX)) {
             throw new WiagiInvalidInputException(INVALID_CATEGORY + BUDGET_COMMAND_FORMAT);
         }
+        int days;
+        try {
+            days = Integer.parseInt(timeRange.substring(0, timeRange.length() - ROLLING_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + BUDGET_COMMAND_FORMAT);
+        }
+        if (days < 1 || days > MAX_ROLLING_DAYS) {
+            throw new WiagiInvalidInputException(INVALID_ROLLING_DAYS + BUDGET_COMMAND_FORMAT);
+        }
+        spendings.setRollingBudget(days, budget);
+        Ui.printWithTab("Successfully set " + days + "-day rolling budget of: " + budget);
     }
-}
 
+    private void addTagBudget(TagBudget tagBudget, int budget, String timeRange, String tag) {
+        switch (timeRange) {
+        case DAILY:
+            tagBudget.setDailyBudget(budget);
+            break;
+        case MONTHLY:
+            tagBudget.setMonthlyBudget(budget);
+            break;
+        case YEARLY:
+            tagBudget.setYearlyBudget(budget);
+            break;
+        default:
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + BUDGET_COMMAND_FORMAT);
+        }
+        Ui.printWithTab("Successfully set " + timeRange + " budget of: " + budget + " for " + tag);
+    }
+}
@@ -10,6 +10,9 @@ public class ByeCommand extends Command {
 
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
+        if (Transaction.isOpen()) {
+            Ui.printWithTab("Discarded " + Transaction.rollback() + " uncommitted changes.");
+        }
         Ui.printWithTab("Bye. Hope to see you again soon!");
     }
 }
@@ -8,6 +8,14 @@ public abstract class Command {
         return this instanceof ByeCommand;
     }
 
+    /**
+     * Checks if the command has changed the data in a way that should be saved right away instead of on exit.
+     *
+     * @return True if the data should be saved after the command
+     */
+    public boolean hasChangesToSave() {
+        return false;
+    }
+
     public abstract void execute(IncomeList incomes, SpendingList spendings);
 }
-
@@ -0,0 +1,24 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+
+/**
+ * Provides a command that is not built into Wiagi. Providers are discovered with {@code ServiceLoader}, so a plugin
+ * jar adds commands by listing its providers in {@code META-INF/services/seedu.commands.CommandProvider}.
+ */
+public interface CommandProvider {
+    /**
+     * Retrieves the word that the command starts with, in lower case.
+     *
+     * @return Command word
+     */
+    String getCommandWord();
+
+    /**
+     * Creates the command for the user's input.
+     *
+     * @param command Tokenized command starting with the command word
+     * @return Command to execute
+     */
+    Command create(ParsedCommand command);
+}
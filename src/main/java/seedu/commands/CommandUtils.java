@@ -1,6 +1,12 @@
 package seedu.commands;
 
 import seedu.exception.WiagiInvalidInputException;
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 import static seedu.classes.Constants.INVALID_AMOUNT;
 import static seedu.classes.Constants.AMOUNT_NOT_NUMBER;
@@ -18,4 +24,89 @@ public class CommandUtils {
             throw new WiagiInvalidInputException(AMOUNT_NOT_NUMBER + commandFormat);
         }
     }
+
+    /**
+     * Removes the entries at the selected positions by moving every remaining entry after the first selected position
+     * forward once and truncating the list, instead of shifting the rest of the list for every removed entry. An
+     * {@code EntryList} removes them itself so that its indexes are updated in one pass.
+     *
+     * @param list List to remove entries from
+     * @param selected Positions of the entries to remove
+     * @return Removed entries in list order
+     */
+    public static <T extends EntryType> ArrayList<T> removeSelected(ArrayList<T> list, BitSet selected) {
+        if (list instanceof EntryList) {
+            return ((EntryList<T>) list).removeSelected(selected);
+        }
+        ArrayList<T> removed = new ArrayList<>(selected.cardinality());
+        int size = list.size();
+        int firstSelected = selected.nextSetBit(0);
+        if (firstSelected == -1) {
+            return removed;
+        }
+        int writeIndex = firstSelected;
+        for (int readIndex = firstSelected; readIndex < size; readIndex++) {
+            if (selected.get(readIndex)) {
+                removed.add(list.get(readIndex));
+            } else {
+                list.set(writeIndex, list.get(readIndex));
+                writeIndex++;
+            }
+        }
+        list.subList(writeIndex, size).clear();
+        return removed;
+    }
+
+    /**
+     * Puts entries removed by {@code removeSelected} back at their positions, moving every entry after the first
+     * position back once. An {@code EntryList} puts them back itself so that its indexes are updated in one pass.
+     *
+     * @param list List the entries were removed from
+     * @param selected Positions the entries were removed from
+     * @param removed Removed entries in list order
+     */
+    public static <T extends EntryType> void insertSelected(ArrayList<T> list, BitSet selected, List<T> removed) {
+        if (list instanceof EntryList) {
+            ((EntryList<T>) list).insertSelected(selected, removed);
+            return;
+        }
+        int readIndex = list.size() - 1;
+        list.addAll(removed);
+        int removedIndex = removed.size() - 1;
+        for (int writeIndex = list.size() - 1; removedIndex >= 0; writeIndex--) {
+            if (selected.get(writeIndex)) {
+                list.set(writeIndex, removed.get(removedIndex));
+                removedIndex--;
+            } else {
+                list.set(writeIndex, list.get(readIndex));
+                readIndex--;
+            }
+        }
+    }
+
+    /**
+     * Updates the running totals of the list after an entry in it was edited in place.
+     *
+     * @param list List holding the entry
+     * @param before Snapshot of the entry before the edit
+     * @param after Entry after the edit
+     */
+    public static void updateTotals(ArrayList<? extends EntryType> list, EntryType before, EntryType after) {
+        if (list instanceof EntryList) {
+            ((EntryList<?>) list).updateTotals(before, after);
+        }
+    }
+
+    /**
+     * Sets every field of an entry in the list back to a snapshot, updating the running totals of the list.
+     *
+     * @param list List holding the entry
+     * @param entry Entry to restore
+     * @param saved Snapshot to restore the entry to
+     */
+    public static void restoreEntry(ArrayList<? extends EntryType> list, EntryType entry, EntryType saved) {
+        EntryType current = entry.snapshot();
+        entry.restore(saved);
+        updateTotals(list, current, entry);
+    }
 }
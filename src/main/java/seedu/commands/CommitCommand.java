@@ -0,0 +1,34 @@
+package seedu.commands;
+
+import seedu.classes.Ui;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+/**
+ * Represents a command that applies every change queued in the open transaction, or none of them if any fails.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    private boolean isCommitted;
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        assert incomes != null;
+        assert spendings != null;
+        try {
+            int changeCount = Transaction.commit(incomes, spendings);
+            isCommitted = true;
+            Ui.printWithTab("Committed " + changeCount + " changes!");
+        } catch (WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasChangesToSave() {
+        return isCommitted;
+    }
+}
@@ -1,35 +1,37 @@
 package seedu.commands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.classes.WiagiLogger;
 import seedu.exception.WiagiInvalidIndexException;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
+import seedu.type.Income;
 import seedu.type.IncomeList;
+import seedu.type.EntryType;
+import seedu.type.Spending;
 import seedu.type.SpendingList;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.logging.Level;
 
 import static seedu.classes.Constants.DELETE_COMMAND_FORMAT;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
-import static seedu.classes.Constants.INDEX_NOT_INTEGER;
-import static seedu.classes.Constants.INDEX_OUT_OF_BOUNDS;
 import static seedu.classes.Constants.INVALID_CATEGORY;
-import static seedu.classes.Constants.SPACE_REGEX;
 import static seedu.classes.Constants.INCOME;
 import static seedu.classes.Constants.SPENDING;
 
-public class DeleteCommand extends Command {
+public class DeleteCommand extends Command implements Transaction.QueuedChange {
 
     public static final String COMMAND_WORD = "delete";
     private static final int LIST_TYPE_INDEX = 1;
     private static final int INDEX_OF_ENTRY_INDEX = 2;
     private static final int DELETE_COMPULSORY_ARGUMENTS_LENGTH = 3;
 
-    private final String fullCommand;
-    public DeleteCommand(String fullCommand) {
-        this.fullCommand = fullCommand;
+    private final ParsedCommand command;
+    public DeleteCommand(ParsedCommand command) {
+        this.command = command;
     }
 
     // @@author wx-03
@@ -37,52 +39,68 @@ public class DeleteCommand extends Command {
     public void execute(IncomeList incomes, SpendingList spendings) {
         assert incomes != null;
         assert spendings != null;
+        if (Transaction.isOpen()) {
+            Transaction.queue(this);
+            return;
+        }
         try {
             handleCommand(incomes, spendings);
         } catch (WiagiMissingParamsException | WiagiInvalidInputException | WiagiInvalidIndexException e) {
             WiagiLogger.logger.log(Level.WARNING, "User input error", e);
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(IncomeList incomes, SpendingList spendings)
             throws WiagiMissingParamsException, WiagiInvalidIndexException {
-        String[] arguments = extractArguments();
-        String typeOfList = arguments[LIST_TYPE_INDEX];
-        if (!(typeOfList.equals(SPENDING) || typeOfList.equals(INCOME))) {
-            throw new WiagiInvalidInputException(INVALID_CATEGORY + DELETE_COMMAND_FORMAT);
-        }
-        switch (typeOfList) {
+        switch (getListType()) {
         case INCOME:
-            deleteEntry(arguments, incomes);
+            deleteEntry(incomes);
             break;
         case SPENDING:
-            deleteEntry(arguments, spendings);
+            deleteEntry(spendings);
             break;
         default:
             throw new WiagiInvalidInputException(INVALID_CATEGORY + DELETE_COMMAND_FORMAT);
         }
     }
 
-    private String[] extractArguments() throws WiagiMissingParamsException {
-        String[] arguments = fullCommand.split(SPACE_REGEX, DELETE_COMPULSORY_ARGUMENTS_LENGTH);
-        if (arguments.length < DELETE_COMPULSORY_ARGUMENTS_LENGTH) {
+    @Override
+    public void stage(Transaction.StagedList<Income> incomes, Transaction.StagedList<Spending> spendings)
+            throws WiagiMissingParamsException, WiagiInvalidIndexException {
+        Transaction.StagedList<?> list = getListType().equals(INCOME) ? incomes : spendings;
+        list.remove(parseSelector().select(list.getEntries()));
+    }
+
+    private String getListType() throws WiagiMissingParamsException {
+        checkArguments();
+        String typeOfList = command.getWord(LIST_TYPE_INDEX);
+        if (!(typeOfList.equals(SPENDING) || typeOfList.equals(INCOME))) {
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + DELETE_COMMAND_FORMAT);
+        }
+        return typeOfList;
+    }
+
+    private void checkArguments() throws WiagiMissingParamsException {
+        if (command.size() < DELETE_COMPULSORY_ARGUMENTS_LENGTH) {
             throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER
                     + DELETE_COMMAND_FORMAT);
         }
-        return arguments;
     }
 
-    private <T> void deleteEntry(String[] arguments, ArrayList<T> arrList) throws WiagiInvalidIndexException {
-        String stringIndex = arguments[INDEX_OF_ENTRY_INDEX];
-        try {
-            int index = Integer.parseInt(stringIndex) - 1;
-            arrList.remove(index);
-        } catch (NumberFormatException e) {
-            throw new WiagiInvalidInputException(INDEX_NOT_INTEGER + DELETE_COMMAND_FORMAT);
-        } catch (IndexOutOfBoundsException e) {
-            throw new WiagiInvalidIndexException(INDEX_OUT_OF_BOUNDS);
+    private EntrySelector parseSelector() {
+        return EntrySelector.parse(command, INDEX_OF_ENTRY_INDEX, command.size(), DELETE_COMMAND_FORMAT);
+    }
+
+    private <T extends EntryType> void deleteEntry(ArrayList<T> arrList) throws WiagiInvalidIndexException {
+        EntrySelector selector = parseSelector();
+        BitSet selected = selector.select(arrList);
+        ArrayList<T> removed = CommandUtils.removeSelected(arrList, selected);
+        History.recordDelete(command.getInput(), arrList, selected, removed);
+        if (selector.isSingleIndex()) {
+            Ui.printWithTab("Successfully deleted!");
+        } else {
+            Ui.printWithTab("Successfully deleted " + removed.size() + " entries!");
         }
-        Ui.printWithTab("Successfully deleted!");
     }
 }
@@ -1,42 +1,48 @@
 package seedu.commands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.exception.WiagiInvalidIndexException;
 import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
+import seedu.type.Income;
 import seedu.type.IncomeList;
+import seedu.type.Spending;
 import seedu.type.SpendingList;
 import seedu.type.EntryType;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
 
 import static seedu.classes.Constants.EDIT_COMMAND_FORMAT;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
-import static seedu.classes.Constants.INDEX_NOT_INTEGER;
-import static seedu.classes.Constants.INDEX_OUT_OF_BOUNDS;
 import static seedu.classes.Constants.INVALID_CATEGORY;
 import static seedu.classes.Constants.INVALID_FIELD;
-import static seedu.classes.Constants.SPACE_REGEX;
 import static seedu.classes.Constants.INCOME;
 import static seedu.classes.Constants.SPENDING;
 
-public class EditCommand extends Command {
+public class EditCommand extends Command implements Transaction.QueuedChange {
 
     public static final String COMMAND_WORD = "edit";
     private static final int TYPE_INDEX = 1;
     private static final int INDEX_OF_ENTRY_INDEX = 2;
-    private static final int CATEGORY_INDEX = 3;
-    private static final int NEW_VALUE_INDEX = 4;
     private static final int EDIT_COMPULSORY_ARGUMENTS_LENGTH = 5;
     private static final String AMOUNT_CATEGORY = "amount";
     private static final String DESCRIPTION_CATEGORY = "description";
     private static final String DATE_CATEGORY = "date";
     private static final String TAG_CATEGORY = "tag";
+    private static final String END_DATE_CATEGORY = "until";
+    private static final String MAX_OCCURRENCES_CATEGORY = "count";
+    private static final String BUSINESS_DAY_ROLL_CATEGORY = "roll";
+    private static final List<String> CATEGORIES = List.of(AMOUNT_CATEGORY, DESCRIPTION_CATEGORY, DATE_CATEGORY,
+            TAG_CATEGORY, END_DATE_CATEGORY, MAX_OCCURRENCES_CATEGORY, BUSINESS_DAY_ROLL_CATEGORY);
 
-    private final String fullCommand;
+    private final ParsedCommand command;
 
-    public EditCommand(String fullCommand) {
-        this.fullCommand = fullCommand;
+    public EditCommand(ParsedCommand command) {
+        this.command = command;
     }
 
     /**
@@ -49,46 +55,127 @@ public class EditCommand extends Command {
     public void execute(IncomeList incomes, SpendingList spendings) {
         assert incomes != null;
         assert spendings != null;
+        if (Transaction.isOpen()) {
+            Transaction.queue(this);
+            return;
+        }
         try {
             handleCommand(incomes, spendings);
         } catch (WiagiMissingParamsException | WiagiInvalidInputException | WiagiInvalidIndexException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(IncomeList incomes, SpendingList spendings)
             throws WiagiMissingParamsException, WiagiInvalidIndexException {
-        String[] arguments = extractArguments();
-        String typeOfList = arguments[TYPE_INDEX];
-        if (!(typeOfList.equals(SPENDING) || typeOfList.equals(INCOME))) {
-            throw new WiagiInvalidInputException(INVALID_CATEGORY + EDIT_COMMAND_FORMAT);
-        }
-        switch (typeOfList) {
+        switch (getListType()) {
         case INCOME:
-            editList(arguments, incomes);
+            editList(incomes);
             break;
         case SPENDING:
-            editList(arguments, spendings);
+            editList(spendings);
             break;
         default:
             throw new WiagiInvalidInputException(INVALID_CATEGORY + EDIT_COMMAND_FORMAT);
         }
     }
 
-    private String[] extractArguments() throws WiagiMissingParamsException {
-        String[] arguments = fullCommand.split(SPACE_REGEX, EDIT_COMPULSORY_ARGUMENTS_LENGTH);
-        if (arguments.length < EDIT_COMPULSORY_ARGUMENTS_LENGTH) {
+    @Override
+    public void stage(Transaction.StagedList<Income> incomes, Transaction.StagedList<Spending> spendings)
+            throws WiagiMissingParamsException, WiagiInvalidIndexException {
+        Transaction.StagedList<?> list = getListType().equals(INCOME) ? incomes : spendings;
+        int categoryIndex = findCategoryIndex();
+        BitSet selected = parseSelector(categoryIndex).select(list.getEntries());
+        String newValue = command.getRest(categoryIndex + 1);
+        String category = command.getWord(categoryIndex);
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            editEntry(list.edit(i), category, newValue);
+        }
+    }
+
+    private String getListType() throws WiagiMissingParamsException {
+        checkArguments();
+        String typeOfList = command.getWord(TYPE_INDEX);
+        if (!(typeOfList.equals(SPENDING) || typeOfList.equals(INCOME))) {
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + EDIT_COMMAND_FORMAT);
+        }
+        return typeOfList;
+    }
+
+    private void checkArguments() throws WiagiMissingParamsException {
+        if (command.size() < EDIT_COMPULSORY_ARGUMENTS_LENGTH) {
             throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + EDIT_COMMAND_FORMAT);
         }
-        return arguments;
     }
 
-    private <T extends ArrayList<? extends EntryType>> void editList(String[] arguments, T list)
-            throws WiagiInvalidIndexException {
-        String index = arguments[INDEX_OF_ENTRY_INDEX];
-        EntryType entryToEdit = extractEntry(list, index);
-        String newValue = arguments[NEW_VALUE_INDEX];
-        String category = arguments[CATEGORY_INDEX];
+    /**
+     * Finds the field to edit, which is the first field word after the selector, so that the selector may be made of
+     * several words such as {@code 3-10 *food*}.
+     *
+     * @return Index of the field word
+     * @throws WiagiMissingParamsException If the field is not followed by a new value
+     */
+    private int findCategoryIndex() throws WiagiMissingParamsException {
+        for (int i = INDEX_OF_ENTRY_INDEX + 1; i < command.size(); i++) {
+            if (CATEGORIES.contains(command.getWord(i))) {
+                if (i == command.size() - 1) {
+                    throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + EDIT_COMMAND_FORMAT);
+                }
+                return i;
+            }
+        }
+        throw new WiagiInvalidInputException(INVALID_FIELD + EDIT_COMMAND_FORMAT);
+    }
+
+    private EntrySelector parseSelector(int categoryIndex) {
+        return EntrySelector.parse(command, INDEX_OF_ENTRY_INDEX, categoryIndex, EDIT_COMMAND_FORMAT);
+    }
+
+    private <T extends ArrayList<? extends EntryType>> void editList(T list)
+            throws WiagiMissingParamsException, WiagiInvalidIndexException {
+        int categoryIndex = findCategoryIndex();
+        EntrySelector selector = parseSelector(categoryIndex);
+        BitSet selected = selector.select(list);
+        String newValue = command.getRest(categoryIndex + 1);
+        String category = command.getWord(categoryIndex);
+        ArrayList<EntryType> editedEntries = new ArrayList<>();
+        ArrayList<EntryType> snapshots = new ArrayList<>();
+        try {
+            for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+                EntryType entryToEdit = list.get(i);
+                editedEntries.add(entryToEdit);
+                snapshots.add(entryToEdit.snapshot());
+                editEntry(entryToEdit, category, newValue);
+                CommandUtils.updateTotals(list, snapshots.get(snapshots.size() - 1), entryToEdit);
+            }
+        } catch (WiagiInvalidInputException e) {
+            restoreEditedEntries(list, selected, snapshots);
+            throw e;
+        }
+        History.recordEdit(command.getInput(), list, editedEntries, snapshots);
+        if (selector.isSingleIndex()) {
+            Ui.printWithTab("Edit Successful!");
+        } else {
+            Ui.printWithTab("Successfully edited " + snapshots.size() + " entries!");
+        }
+        if (list instanceof SpendingList && !Ui.isBatchMode()) {
+            checkTagOverspend((SpendingList) list, editedEntries);
+        }
+    }
+
+    /**
+     * Checks the budgets of every tag that the edited spendings now have.
+     */
+    private static void checkTagOverspend(SpendingList spendings, ArrayList<EntryType> editedEntries) {
+        HashSet<String> tags = new HashSet<>();
+        for (EntryType entry : editedEntries) {
+            if (tags.add(entry.getTag())) {
+                spendings.checkTagOverspend(entry.getTag());
+            }
+        }
+    }
+
+    private void editEntry(EntryType entryToEdit, String category, String newValue) {
         switch (category) {
         case AMOUNT_CATEGORY:
             entryToEdit.editAmount(newValue);
@@ -102,21 +189,30 @@ public class EditCommand extends Command {
         case TAG_CATEGORY:
             entryToEdit.editTag(newValue);
             break;
+        case END_DATE_CATEGORY:
+            entryToEdit.editRecurrenceEndDate(newValue);
+            break;
+        case MAX_OCCURRENCES_CATEGORY:
+            entryToEdit.editMaxOccurrences(newValue);
+            break;
+        case BUSINESS_DAY_ROLL_CATEGORY:
+            entryToEdit.editBusinessDayRoll(newValue);
+            break;
         default:
             throw new WiagiInvalidInputException(INVALID_FIELD + EDIT_COMMAND_FORMAT);
         }
-        Ui.printWithTab("Edit Successful!");
     }
 
-    private <T extends ArrayList<? extends EntryType>> EntryType extractEntry(T list, String stringIndex)
-            throws WiagiInvalidIndexException {
-        try {
-            int index = Integer.parseInt(stringIndex) - 1;
-            return list.get(index);
-        } catch (NumberFormatException e) {
-            throw new WiagiInvalidIndexException(INDEX_NOT_INTEGER);
-        } catch (IndexOutOfBoundsException e) {
-            throw new WiagiInvalidIndexException(INDEX_OUT_OF_BOUNDS);
+    /**
+     * Restores the entries edited so far when an edit fails partway, so that either every selected entry is edited
+     * or none of them are.
+     */
+    private static void restoreEditedEntries(ArrayList<? extends EntryType> list, BitSet selected,
+            ArrayList<EntryType> snapshots) {
+        int i = selected.nextSetBit(0);
+        for (EntryType snapshot : snapshots) {
+            CommandUtils.restoreEntry(list, list.get(i), snapshot);
+            i = selected.nextSetBit(i + 1);
         }
     }
 }
@@ -0,0 +1,181 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+import seedu.exception.WiagiInvalidIndexException;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.query.Query;
+import seedu.query.QueryPlanner;
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static seedu.classes.Constants.INCORRECT_DATE_FORMAT;
+import static seedu.classes.Constants.INDEX_NOT_INTEGER;
+import static seedu.classes.Constants.INDEX_OUT_OF_BOUNDS;
+
+/**
+ * Selects the entries that a {@code DeleteCommand} or {@code EditCommand} applies to. Every word of a selector is
+ * one of the following, and an entry is selected if it matches every kind of word given:
+ * <ul>
+ *     <li>{@code 3} or {@code 3-500}: an index or an inclusive range of indexes</li>
+ *     <li>{@code *TAG*}: entries with the tag</li>
+ *     <li>{@code /2024-01-01..2024-12-31/}: entries dated within the inclusive range, where either end may be left
+ *     out, or {@code /2024-01-01/} for a single day</li>
+ *     <li>{@code amount>=500}: a condition of a {@code Query}, such as a range of amounts</li>
+ * </ul>
+ * Without indexes, the entries matching conditions are found by {@code QueryPlanner}, so a range of amounts is
+ * answered from the amount index of the list instead of checking every entry.
+ */
+class EntrySelector {
+    private static final String INDEX_RANGE_SEPARATOR = "-";
+    private static final String DATE_RANGE_SEPARATOR = "..";
+    private static final char TAG_DELIMITER = ParsedCommand.TAG_DELIMITER;
+    private static final char DATE_DELIMITER = ParsedCommand.DATE_DELIMITER;
+
+    private final ArrayList<int[]> indexRanges = new ArrayList<>();
+    private String tag;
+    private boolean hasDateRange;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private final ArrayList<String> conditions = new ArrayList<>();
+    private Query query;
+
+    private EntrySelector() {
+    }
+
+    /**
+     * Parses the words of the command from {@code start} until before {@code end} as a selector.
+     *
+     * @param command Tokenized command
+     * @param start Index of the first word of the selector
+     * @param end Index after the last word of the selector
+     * @param commandFormat Format of the command, shown if the selector is invalid
+     * @return Selector of entries
+     * @throws WiagiInvalidInputException If a word is not an index, index range, tag, date range or condition
+     */
+    static EntrySelector parse(ParsedCommand command, int start, int end, String commandFormat)
+            throws WiagiInvalidInputException {
+        EntrySelector selector = new EntrySelector();
+        for (int i = start; i < end; i++) {
+            selector.parseWord(command.getWord(i), commandFormat);
+        }
+        if (!selector.conditions.isEmpty()) {
+            selector.query = Query.parse(selector.conditions);
+        }
+        return selector;
+    }
+
+    private void parseWord(String word, String commandFormat) throws WiagiInvalidInputException {
+        if (isEnclosedBy(word, TAG_DELIMITER)) {
+            tag = word.substring(1, word.length() - 1);
+        } else if (isEnclosedBy(word, DATE_DELIMITER)) {
+            parseDateRange(word.substring(1, word.length() - 1), commandFormat);
+        } else if (Query.isCondition(word)) {
+            conditions.add(word);
+        } else {
+            indexRanges.add(parseIndexRange(word, commandFormat));
+        }
+    }
+
+    private static boolean isEnclosedBy(String word, char delimiter) {
+        return word.length() >= 2 && word.charAt(0) == delimiter && word.charAt(word.length() - 1) == delimiter;
+    }
+
+    private void parseDateRange(String dateRange, String commandFormat) throws WiagiInvalidInputException {
+        hasDateRange = true;
+        int separatorIndex = dateRange.indexOf(DATE_RANGE_SEPARATOR);
+        try {
+            if (separatorIndex == -1) {
+                fromDate = LocalDate.parse(dateRange);
+                toDate = fromDate;
+                return;
+            }
+            String from = dateRange.substring(0, separatorIndex);
+            String to = dateRange.substring(separatorIndex + DATE_RANGE_SEPARATOR.length());
+            fromDate = from.isEmpty() ? null : LocalDate.parse(from);
+            toDate = to.isEmpty() ? null : LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            throw new WiagiInvalidInputException(INCORRECT_DATE_FORMAT + commandFormat);
+        }
+    }
+
+    /**
+     * Parses a 1-based index or inclusive index range into a 0-based range that excludes its end.
+     */
+    private static int[] parseIndexRange(String word, String commandFormat) throws WiagiInvalidInputException {
+        int separatorIndex = word.indexOf(INDEX_RANGE_SEPARATOR, 1);
+        try {
+            if (separatorIndex == -1) {
+                int index = Integer.parseInt(word);
+                return new int[]{index - 1, index};
+            }
+            int first = Integer.parseInt(word.substring(0, separatorIndex));
+            int last = Integer.parseInt(word.substring(separatorIndex + 1));
+            return new int[]{first - 1, last};
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INDEX_NOT_INTEGER + commandFormat);
+        }
+    }
+
+    /**
+     * Checks if the selector picks exactly one entry by its index.
+     *
+     * @return True if the selector is a single index
+     */
+    boolean isSingleIndex() {
+        return tag == null && !hasDateRange && query == null && indexRanges.size() == 1
+                && indexRanges.get(0)[1] - indexRanges.get(0)[0] == 1;
+    }
+
+    /**
+     * Finds the positions of the selected entries in a single pass over the indexes that the selector allows, or over
+     * the entries found by the query if there are conditions but no indexes.
+     *
+     * @param list List to select entries from
+     * @return Positions of the selected entries
+     * @throws WiagiInvalidIndexException If an index is outside of the list
+     */
+    BitSet select(List<? extends EntryType> list) throws WiagiInvalidIndexException {
+        BitSet selected = new BitSet(list.size());
+        boolean isQueried = false;
+        if (indexRanges.isEmpty() && query != null && list instanceof EntryList) {
+            for (int position : QueryPlanner.plan((EntryList<? extends EntryType>) list, query).run()) {
+                selected.set(position);
+            }
+            isQueried = true;
+        } else if (indexRanges.isEmpty()) {
+            selected.set(0, list.size());
+        }
+        for (int[] range : indexRanges) {
+            if (range[0] < 0 || range[1] <= range[0] || range[1] > list.size()) {
+                throw new WiagiInvalidIndexException(INDEX_OUT_OF_BOUNDS);
+            }
+            selected.set(range[0], range[1]);
+        }
+        if (tag == null && !hasDateRange && (query == null || isQueried)) {
+            return selected;
+        }
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            if (!matches(list.get(i)) || query != null && !isQueried && !query.matches(list.get(i))) {
+                selected.clear(i);
+            }
+        }
+        return selected;
+    }
+
+    private boolean matches(EntryType entry) {
+        if (tag != null && !tag.equals(entry.getTag())) {
+            return false;
+        }
+        LocalDate date = entry.getDate();
+        if (fromDate != null && date.isBefore(fromDate)) {
+            return false;
+        }
+        return toDate == null || !date.isAfter(toDate);
+    }
+}
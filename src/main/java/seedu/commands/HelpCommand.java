@@ -21,6 +21,10 @@ public class HelpCommand extends Command {
         appendEditCommandHelp(helpText);
         appendDeleteCommandHelp(helpText);
         appendBudgetCommandHelp(helpText);
+        appendSimulateCommandHelp(helpText);
+        appendReportCommandHelp(helpText);
+        appendTransactionCommandHelp(helpText);
+        appendHistoryCommandHelp(helpText);
         appendOtherCommandsHelp(helpText);
         Ui.printWithTab(helpText.toString());
     }
@@ -31,8 +35,16 @@ public class HelpCommand extends Command {
                 .append(System.lineSeparator())
                 .append("\tadd spending {$AMOUNT} {$DESCRIPTION} [/$DATE/] [*$TAG*] [~$FREQUENCY~]")
                 .append(System.lineSeparator())
+                .append("\t$FREQUENCY may end with [until $END_DATE], [count $TIMES] and [roll $DIRECTION [$CALENDAR]]")
+                .append(System.lineSeparator())
                 .append("\te.g., add income 5000 Salary /2024-03-15/ *work* ~monthly~").append(System.lineSeparator())
                 .append("\te.g., add spending 50 Lunch /2024-03-15/ *food*").append(System.lineSeparator())
+                .append("\te.g., add spending 1200 Rent *home* ~every 2 weeks~").append(System.lineSeparator())
+                .append("\te.g., add income 3000 Salary ~FREQ=MONTHLY;BYDAY=-1FR~").append(System.lineSeparator())
+                .append("\te.g., add spending 15 Gym ~monthly until 2025-12-31 count 12~")
+                .append(System.lineSeparator())
+                .append("\te.g., add income 3000 Salary /2024-01-31/ ~monthly roll backward sg~")
+                .append(System.lineSeparator())
                 .append(System.lineSeparator());
     }
 
@@ -41,7 +53,17 @@ public class HelpCommand extends Command {
                 .append("\tlist - shows all entries").append(System.lineSeparator())
                 .append("\tlist incomes - shows all income entries").append(System.lineSeparator())
                 .append("\tlist spendings - shows all spending entries").append(System.lineSeparator())
+                .append("\tlist spendings weekly --stats - lists without prompting").append(System.lineSeparator())
+                .append("\tlist spendings --reverse --limit=20 - shows the latest 20 spendings")
+                .append(System.lineSeparator())
+                .append("\tlist spendings top 10 monthly - shows the 10 largest spendings of this month")
+                .append(System.lineSeparator())
+                .append("\tlist spendings amount>50 tag=food date>=2024-01-01 - shows the matching spendings")
+                .append(System.lineSeparator())
+                .append("\tlist spendings tag=food explain - also shows how the matching spendings were found")
+                .append(System.lineSeparator())
                 .append("\tlist tags {$TAG} - shows entries with specific tag").append(System.lineSeparator())
+                .append("\tlist tags top 5 - shows the 5 tags with the largest totals").append(System.lineSeparator())
                 .append(System.lineSeparator());
     }
 
@@ -50,21 +72,67 @@ public class HelpCommand extends Command {
                 .append("\tedit {$TYPE} {$INDEX} {$FIELD} {$NEW_VALUE}").append(System.lineSeparator())
                 .append("\te.g., edit spending 1 amount 100").append(System.lineSeparator())
                 .append("\te.g., edit income 2 description Bonus").append(System.lineSeparator())
+                .append("\te.g., edit spending 3 until 2025-06-30").append(System.lineSeparator())
+                .append("\te.g., edit spending 3 count none").append(System.lineSeparator())
+                .append("\te.g., edit income 1 roll forward").append(System.lineSeparator())
+                .append("\te.g., edit spending 3-10 tag food").append(System.lineSeparator())
+                .append("\te.g., edit spending 1-20 *food* tag dining").append(System.lineSeparator())
                 .append(System.lineSeparator());
     }
 
     private void appendDeleteCommandHelp(StringBuilder helpText) {
         helpText.append("Deleting Entries:").append(System.lineSeparator())
                 .append("\tdelete {$TYPE} {$INDEX}").append(System.lineSeparator())
+                .append("\tdelete {$TYPE} {$FIRST-$LAST} [*$TAG*] [/$FROM..$TO/]").append(System.lineSeparator())
                 .append("\te.g., delete spending 1").append(System.lineSeparator())
+                .append("\te.g., delete spending *food* /2024-01-01..2024-12-31/").append(System.lineSeparator())
+                .append("\te.g., delete spending amount>=500 amount<=5000").append(System.lineSeparator())
                 .append(System.lineSeparator());
     }
 
     private void appendBudgetCommandHelp(StringBuilder helpText) {
         helpText.append("Setting Budget:").append(System.lineSeparator())
-                .append("\tbudget {$PERIOD} {$AMOUNT}").append(System.lineSeparator())
+                .append("\tbudget {$PERIOD} {$AMOUNT} [*$TAG*]").append(System.lineSeparator())
                 .append("\te.g., budget daily 50").append(System.lineSeparator())
                 .append("\te.g., budget monthly 1500").append(System.lineSeparator())
+                .append("\te.g., budget monthly 200 *food*").append(System.lineSeparator())
+                .append("\te.g., budget 30days 1000").append(System.lineSeparator())
+                .append(System.lineSeparator());
+    }
+
+    private void appendSimulateCommandHelp(StringBuilder helpText) {
+        helpText.append("Simulating Time:").append(System.lineSeparator())
+                .append("\tsimulate {$DAYS} - previews the coming days, adding recurring entries and checking budgets"
+                        + " without changing your data")
+                .append(System.lineSeparator())
+                .append("\te.g., simulate 365").append(System.lineSeparator())
+                .append(System.lineSeparator());
+    }
+
+    private void appendTransactionCommandHelp(StringBuilder helpText) {
+        helpText.append("Grouping Changes:").append(System.lineSeparator())
+                .append("\tbegin - queues the following add, edit and delete commands").append(System.lineSeparator())
+                .append("\tcommit - applies all queued changes, or none of them if any fails")
+                .append(System.lineSeparator())
+                .append("\trollback - discards all queued changes").append(System.lineSeparator())
+                .append(System.lineSeparator());
+    }
+
+    private void appendReportCommandHelp(StringBuilder helpText) {
+        helpText.append("Reporting Totals:").append(System.lineSeparator())
+                .append("\treport [spendings/incomes] [$CONDITIONS] - totals by month and tag, year and day of week")
+                .append(System.lineSeparator())
+                .append("\tstats [spendings/incomes] - mean, variance, percentiles and top tags")
+                .append(System.lineSeparator())
+                .append(System.lineSeparator());
+    }
+
+    private void appendHistoryCommandHelp(StringBuilder helpText) {
+        helpText.append("Undoing Changes:").append(System.lineSeparator())
+                .append("\tundo - reverts the latest add, edit, delete, budget or commit")
+                .append(System.lineSeparator())
+                .append("\tredo - applies the latest undone change again").append(System.lineSeparator())
+                .append("\thistory {$DEPTH} - sets how many changes can be undone").append(System.lineSeparator())
                 .append(System.lineSeparator());
     }
 
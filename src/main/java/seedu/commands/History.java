@@ -0,0 +1,261 @@
+package seedu.commands;
+
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.EntryType;
+import seedu.type.RollingBudget;
+import seedu.type.SpendingList;
+import seedu.type.TagBudget;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+import static seedu.classes.Constants.NOTHING_TO_REDO;
+import static seedu.classes.Constants.NOTHING_TO_UNDO;
+
+/**
+ * Keeps the changes made by mutating commands so that they can be undone and redone. Every change stores only what
+ * it touched, such as the entries it added, removed or edited, so undoing or redoing it does not depend on the size
+ * of the lists. Only the latest changes are kept, up to the history depth.
+ */
+public class History {
+    public static final int DEFAULT_DEPTH = 50;
+    private static final int TAG_BUDGET_COUNT = 3;
+
+    private static final Deque<Change> undoStack = new ArrayDeque<>();
+    private static final Deque<Change> redoStack = new ArrayDeque<>();
+    private static int depth = DEFAULT_DEPTH;
+    private static ArrayList<Change> group;
+
+    /**
+     * Holds a change made by a command, together with the actions that undo and redo it.
+     */
+    private static class Change {
+        private final String description;
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Change(String description, Runnable undo, Runnable redo) {
+            this.description = description;
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+
+    private static void record(String description, Runnable undo, Runnable redo) {
+        Change change = new Change(description, undo, redo);
+        if (group != null) {
+            group.add(change);
+            return;
+        }
+        redoStack.clear();
+        undoStack.push(change);
+        while (undoStack.size() > depth) {
+            undoStack.removeLast();
+        }
+    }
+
+    /**
+     * Records entries that were appended to the end of the list, including the recurrence backlog of a new entry.
+     *
+     * @param description Command that made the change
+     * @param list List the entries were added to
+     * @param sizeBefore Size of the list before the entries were added
+     */
+    static <T> void recordAdd(String description, ArrayList<T> list, int sizeBefore) {
+        ArrayList<T> added = new ArrayList<>(list.subList(sizeBefore, list.size()));
+        record(description, () -> list.subList(sizeBefore, list.size()).clear(), () -> list.addAll(added));
+    }
+
+    /**
+     * Records entries that were removed from the list with {@code CommandUtils.removeSelected}.
+     *
+     * @param description Command that made the change
+     * @param list List the entries were removed from
+     * @param positions Positions the entries were removed from
+     * @param removed Removed entries in list order
+     */
+    static <T extends EntryType> void recordDelete(String description, ArrayList<T> list, BitSet positions,
+            List<T> removed) {
+        record(description, () -> CommandUtils.insertSelected(list, positions, removed),
+                () -> CommandUtils.removeSelected(list, positions));
+    }
+
+    /**
+     * Records entries that were edited in place.
+     *
+     * @param description Command that made the change
+     * @param list List holding the entries
+     * @param entries Edited entries
+     * @param before Snapshots of the entries before they were edited
+     */
+    static void recordEdit(String description, ArrayList<? extends EntryType> list, List<EntryType> entries,
+            List<EntryType> before) {
+        List<EntryType> after = new ArrayList<>(entries.size());
+        for (EntryType entry : entries) {
+            after.add(entry.snapshot());
+        }
+        record(description, () -> restoreAll(list, entries, before), () -> restoreAll(list, entries, after));
+    }
+
+    private static void restoreAll(ArrayList<? extends EntryType> list, List<EntryType> entries,
+            List<EntryType> snapshots) {
+        for (int i = 0; i < entries.size(); i++) {
+            CommandUtils.restoreEntry(list, entries.get(i), snapshots.get(i));
+        }
+    }
+
+    /**
+     * Records a change to the budgets of the whole list or of a tag.
+     *
+     * @param description Command that made the change
+     * @param spendings List of spendings holding the budgets
+     * @param tag Tag whose budgets changed, or null for the budgets of the whole list
+     * @param before Budgets before the change, as returned by {@code getBudgets}
+     */
+    static void recordBudget(String description, SpendingList spendings, String tag, double[] before) {
+        double[] after = getBudgets(spendings, tag);
+        record(description, () -> setBudgets(spendings, tag, before), () -> setBudgets(spendings, tag, after));
+    }
+
+    static double[] getBudgets(SpendingList spendings, String tag) {
+        if (tag == null) {
+            RollingBudget rollingBudget = spendings.getRollingBudget();
+            return new double[]{spendings.getDailyBudget(), spendings.getMonthlyBudget(),
+                    spendings.getYearlyBudget(), rollingBudget == null ? 0 : rollingBudget.getDays(),
+                    rollingBudget == null ? 0 : rollingBudget.getBudget()};
+        }
+        TagBudget tagBudget = spendings.findTagBudget(tag);
+        if (tagBudget == null) {
+            return new double[TAG_BUDGET_COUNT];
+        }
+        return new double[]{tagBudget.getDailyBudget(), tagBudget.getMonthlyBudget(), tagBudget.getYearlyBudget()};
+    }
+
+    private static void setBudgets(SpendingList spendings, String tag, double[] budgets) {
+        if (tag == null) {
+            spendings.setDailyBudget(budgets[0]);
+            spendings.setMonthlyBudget(budgets[1]);
+            spendings.setYearlyBudget(budgets[2]);
+            RollingBudget rollingBudget = spendings.getRollingBudget();
+            if (rollingBudget == null || rollingBudget.getDays() != budgets[3]
+                    || rollingBudget.getBudget() != budgets[4]) {
+                spendings.setRollingBudget((int) budgets[3], budgets[4]);
+            }
+            return;
+        }
+        TagBudget tagBudget = spendings.findTagBudget(tag);
+        if (tagBudget == null) {
+            if (Arrays.equals(budgets, new double[TAG_BUDGET_COUNT])) {
+                return;
+            }
+            tagBudget = spendings.getTagBudget(tag);
+        }
+        tagBudget.setDailyBudget(budgets[0]);
+        tagBudget.setMonthlyBudget(budgets[1]);
+        tagBudget.setYearlyBudget(budgets[2]);
+    }
+
+    /**
+     * Starts collecting changes into a group that is undone and redone as a single change.
+     */
+    static void beginGroup() {
+        group = new ArrayList<>();
+    }
+
+    /**
+     * Records the changes collected since {@code beginGroup} as a single change.
+     *
+     * @param description Command that made the changes
+     */
+    static void endGroup(String description) {
+        List<Change> changes = group;
+        group = null;
+        if (changes.isEmpty()) {
+            return;
+        }
+        record(description, () -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo.run();
+            }
+        }, () -> {
+            for (Change change : changes) {
+                change.redo.run();
+            }
+        });
+    }
+
+    /**
+     * Undoes the changes collected since {@code beginGroup} and drops them.
+     */
+    static void revertGroup() {
+        List<Change> changes = group;
+        group = null;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo.run();
+        }
+    }
+
+    /**
+     * Undoes the latest change that has not been undone.
+     *
+     * @return Command that made the change
+     * @throws WiagiInvalidInputException If there is no change to undo
+     */
+    static String undo() throws WiagiInvalidInputException {
+        if (undoStack.isEmpty()) {
+            throw new WiagiInvalidInputException(NOTHING_TO_UNDO);
+        }
+        Change change = undoStack.pop();
+        change.undo.run();
+        redoStack.push(change);
+        return change.description;
+    }
+
+    /**
+     * Redoes the latest change that was undone.
+     *
+     * @return Command that made the change
+     * @throws WiagiInvalidInputException If there is no change to redo
+     */
+    static String redo() throws WiagiInvalidInputException {
+        if (redoStack.isEmpty()) {
+            throw new WiagiInvalidInputException(NOTHING_TO_REDO);
+        }
+        Change change = redoStack.pop();
+        change.redo.run();
+        undoStack.push(change);
+        return change.description;
+    }
+
+    /**
+     * Sets the number of changes that can be undone, dropping the oldest changes beyond it.
+     *
+     * @param newDepth Number of changes to keep, which may be zero to turn off undo
+     */
+    static void setDepth(int newDepth) {
+        assert newDepth >= 0 : "history depth should not be negative";
+        depth = newDepth;
+        while (undoStack.size() > depth) {
+            undoStack.removeLast();
+        }
+        while (redoStack.size() > depth) {
+            redoStack.removeLast();
+        }
+    }
+
+    static int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Forgets every change, for when the lists are changed in a way that is not recorded.
+     */
+    public static void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+import seedu.classes.Ui;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import static seedu.classes.Constants.HISTORY_COMMAND_FORMAT;
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+
+/**
+ * Represents a command that sets how many changes can be undone.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+    private static final int DEPTH_INDEX = 1;
+    private static final int HISTORY_COMPULSORY_ARGUMENTS_LENGTH = 2;
+    private static final String INVALID_DEPTH = "Please enter zero or a positive integer for the depth! ";
+
+    private final ParsedCommand command;
+
+    public HistoryCommand(ParsedCommand command) {
+        this.command = command;
+    }
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        try {
+            if (command.size() != HISTORY_COMPULSORY_ARGUMENTS_LENGTH) {
+                throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + HISTORY_COMMAND_FORMAT);
+            }
+            int depth = formatDepth(command.getWord(DEPTH_INDEX));
+            History.setDepth(depth);
+            Ui.printWithTab("Up to " + depth + " changes can now be undone");
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+
+    private int formatDepth(String stringDepth) {
+        try {
+            int depth = Integer.parseInt(stringDepth);
+            if (depth < 0) {
+                throw new WiagiInvalidInputException(INVALID_DEPTH + HISTORY_COMMAND_FORMAT);
+            }
+            return depth;
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_DEPTH + HISTORY_COMMAND_FORMAT);
+        }
+    }
+}
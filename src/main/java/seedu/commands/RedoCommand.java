@@ -0,0 +1,28 @@
+package seedu.commands;
+
+import seedu.classes.Ui;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import static seedu.classes.Constants.TRANSACTION_ALREADY_OPEN;
+
+/**
+ * Represents a command that redoes the latest change that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        try {
+            if (Transaction.isOpen()) {
+                throw new WiagiInvalidInputException(TRANSACTION_ALREADY_OPEN);
+            }
+            Ui.printWithTab("Redone: " + History.redo());
+        } catch (WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+}
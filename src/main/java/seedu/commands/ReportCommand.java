@@ -0,0 +1,94 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+import seedu.classes.Ui;
+import seedu.commands.listcommands.ListIncomesCommand;
+import seedu.commands.listcommands.ListSpendingsCommand;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.query.Query;
+import seedu.query.QueryPlanner;
+import seedu.type.EntryList;
+import seedu.type.IncomeList;
+import seedu.type.Report;
+import seedu.type.SpendingList;
+
+import java.util.ArrayList;
+
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+import static seedu.classes.Constants.INVALID_CATEGORY;
+import static seedu.classes.Constants.REPORT_COMMAND_FORMAT;
+
+/**
+ * Represents a command that prints the totals of spendings, incomes or both grouped by month and tag, by year and by
+ * day of the week. Each list is read once for all of the groups. Conditions such as {@code amount>=500} limit the
+ * report to the matching entries, which are found by {@code QueryPlanner} so that a range of amounts is answered from
+ * the amount index of the list.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+    private static final int LIST_TYPE_INDEX = 1;
+    private static final int CONDITIONS_INDEX = 2;
+
+    private final ParsedCommand command;
+
+    public ReportCommand(ParsedCommand command) {
+        this.command = command;
+    }
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        assert incomes != null;
+        assert spendings != null;
+        try {
+            handleCommand(incomes, spendings);
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+
+    private void handleCommand(IncomeList incomes, SpendingList spendings) throws WiagiMissingParamsException {
+        boolean hasCategory = command.size() > 1 && !Query.isCondition(command.getWord(LIST_TYPE_INDEX));
+        Query query = parseQuery(hasCategory ? CONDITIONS_INDEX : LIST_TYPE_INDEX);
+        if (!hasCategory) {
+            Ui.printReport(Ui.SPENDING, reportOf(spendings, query));
+            Ui.printReport(Ui.INCOME, reportOf(incomes, query));
+            return;
+        }
+        switch (command.getWord(LIST_TYPE_INDEX)) {
+        case ListSpendingsCommand.COMMAND_WORD:
+            Ui.printReport(Ui.SPENDING, reportOf(spendings, query));
+            break;
+        case ListIncomesCommand.COMMAND_WORD:
+            Ui.printReport(Ui.INCOME, reportOf(incomes, query));
+            break;
+        default:
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + REPORT_COMMAND_FORMAT);
+        }
+    }
+
+    /**
+     * Parses the words of the command from {@code start} onwards as the conditions of a query.
+     *
+     * @return Query of the conditions, or null if there are none
+     * @throws WiagiMissingParamsException If a word is not a condition
+     */
+    private Query parseQuery(int start) throws WiagiMissingParamsException {
+        if (command.size() <= start) {
+            return null;
+        }
+        ArrayList<String> conditions = new ArrayList<>();
+        for (int i = start; i < command.size(); i++) {
+            if (!Query.isCondition(command.getWord(i))) {
+                throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + REPORT_COMMAND_FORMAT);
+            }
+            conditions.add(command.getWord(i));
+        }
+        return Query.parse(conditions);
+    }
+
+    private static Report reportOf(EntryList<?> list, Query query) {
+        return query == null ? Report.of(list) : Report.of(QueryPlanner.findEntries(list, query));
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.commands;
+
+import seedu.classes.Ui;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+/**
+ * Represents a command that discards every change queued in the open transaction.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        try {
+            int changeCount = Transaction.rollback();
+            Ui.printWithTab("Discarded " + changeCount + " changes!");
+        } catch (WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+}
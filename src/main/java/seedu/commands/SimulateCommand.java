@@ -0,0 +1,163 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+import seedu.classes.Ui;
+import seedu.classes.WiagiClock;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.type.EntryType;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+import static seedu.classes.Constants.SIMULATE_COMMAND_FORMAT;
+
+/**
+ * Represents a command that advances the clock by a number of days, running recurrences and budget checks for every
+ * simulated day. The clock and the entries are saved first and put back once the simulation ends, so the simulated
+ * entries are never saved and the program carries on at the real date.
+ */
+public class SimulateCommand extends Command {
+
+    public static final String COMMAND_WORD = "simulate";
+    private static final int DAYS_INDEX = 1;
+    private static final int SIMULATE_COMPULSORY_ARGUMENTS_LENGTH = 2;
+    private static final int MAX_DAYS = 3660;
+    private static final String INVALID_DAYS = "Please enter a number of days from 1 to " + MAX_DAYS + "! ";
+
+    private final ParsedCommand command;
+
+    /**
+     * Constructs a SimulateCommand with the specified command.
+     *
+     * @param command The tokenized command.
+     */
+    public SimulateCommand(ParsedCommand command) {
+        this.command = command;
+    }
+
+    /**
+     * Executes the simulate command by advancing the clock one day at a time.
+     *
+     * @param incomes   The list of incomes.
+     * @param spendings The list of spendings.
+     */
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        assert incomes != null;
+        assert spendings != null;
+        try {
+            handleCommand(incomes, spendings);
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+
+    private void handleCommand(IncomeList incomes, SpendingList spendings) throws WiagiMissingParamsException {
+        if (command.size() != SIMULATE_COMPULSORY_ARGUMENTS_LENGTH) {
+            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + SIMULATE_COMMAND_FORMAT);
+        }
+        int days = formatDays(command.getWord(DAYS_INDEX));
+        simulate(incomes, spendings, days);
+    }
+
+    private int formatDays(String stringDays) {
+        try {
+            int days = Integer.parseInt(stringDays);
+            if (days <= 0 || days > MAX_DAYS) {
+                throw new WiagiInvalidInputException(INVALID_DAYS + SIMULATE_COMMAND_FORMAT);
+            }
+            return days;
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_DAYS + SIMULATE_COMMAND_FORMAT);
+        }
+    }
+
+    private void simulate(IncomeList incomes, SpendingList spendings, int days) {
+        Clock clock = WiagiClock.getClock();
+        ListSnapshot<?> savedIncomes = new ListSnapshot<>(incomes);
+        ListSnapshot<?> savedSpendings = new ListSnapshot<>(spendings);
+        int daysOverDailyBudget = 0;
+        int daysOverMonthlyBudget = 0;
+        int daysOverYearlyBudget = 0;
+        int daysOverRollingBudget = 0;
+        int incomesAdded;
+        int spendingsAdded;
+        LocalDate lastDay;
+        try {
+            for (int day = 0; day < days; day++) {
+                WiagiClock.advanceDays(1);
+                incomes.updateRecurrence();
+                spendings.updateRecurrence();
+                if (spendings.getDailyBudget() < spendings.getDailySpending()) {
+                    daysOverDailyBudget++;
+                }
+                if (spendings.getMonthlyBudget() < spendings.getMonthlySpending()) {
+                    daysOverMonthlyBudget++;
+                }
+                if (spendings.getYearlyBudget() < spendings.getYearlySpending()) {
+                    daysOverYearlyBudget++;
+                }
+                if (spendings.getRollingBudget() != null
+                        && spendings.getRollingBudget().getBudget() < spendings.getRollingSpending()) {
+                    daysOverRollingBudget++;
+                }
+            }
+            incomesAdded = incomes.size() - savedIncomes.size();
+            spendingsAdded = spendings.size() - savedSpendings.size();
+            lastDay = WiagiClock.today();
+        } finally {
+            WiagiClock.setClock(clock);
+            savedIncomes.restore();
+            savedSpendings.restore();
+        }
+        Ui.printWithTab("Simulated " + days + " days up to " + lastDay);
+        Ui.printWithDoubleTab("Recurring incomes added: " + incomesAdded);
+        Ui.printWithDoubleTab("Recurring spendings added: " + spendingsAdded);
+        Ui.printWithDoubleTab("Days over daily budget: " + daysOverDailyBudget);
+        Ui.printWithDoubleTab("Days over monthly budget: " + daysOverMonthlyBudget);
+        Ui.printWithDoubleTab("Days over yearly budget: " + daysOverYearlyBudget);
+        if (spendings.getRollingBudget() != null) {
+            Ui.printWithDoubleTab("Days over rolling budget: " + daysOverRollingBudget);
+        }
+    }
+
+    /**
+     * Holds the entries of a list and the last recurrence of each of them, as they were before the simulation.
+     * Catching up recurrences only adds entries and moves the last recurrence of the entries that recur, so these
+     * are all that have to be put back.
+     */
+    private static class ListSnapshot<T extends EntryType> {
+        private final ArrayList<T> list;
+        private final ArrayList<T> entries;
+        private final ArrayList<LocalDate> lastRecurrences = new ArrayList<>();
+
+        private ListSnapshot(ArrayList<T> list) {
+            this.list = list;
+            this.entries = new ArrayList<>(list);
+            for (T entry : entries) {
+                lastRecurrences.add(entry.getLastRecurrence());
+            }
+        }
+
+        private int size() {
+            return entries.size();
+        }
+
+        /**
+         * Puts the entries back into the list with the last recurrences they had. The clock must be restored first,
+         * since the rolling budget is refilled up to the current date.
+         */
+        private void restore() {
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).editLastRecurrence(lastRecurrences.get(i));
+            }
+            list.clear();
+            list.addAll(entries);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.commands;
+
+import seedu.classes.ParsedCommand;
+import seedu.classes.Ui;
+import seedu.commands.listcommands.ListIncomesCommand;
+import seedu.commands.listcommands.ListSpendingsCommand;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+import static seedu.classes.Constants.INVALID_CATEGORY;
+import static seedu.classes.Constants.STATS_COMMAND_FORMAT;
+
+/**
+ * Represents a command that prints the mean, variance and percentiles of the amounts of spendings, incomes or both,
+ * with the tags that have the largest totals. The statistics are kept up to date by the lists as entries change, so
+ * the entries are not read again.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    private static final int LIST_TYPE_INDEX = 1;
+    private static final int STATS_MAX_ARGUMENTS_LENGTH = 2;
+    private static final int TOP_TAG_COUNT = 5;
+
+    private final ParsedCommand command;
+
+    public StatsCommand(ParsedCommand command) {
+        this.command = command;
+    }
+
+    @Override
+    public void execute(IncomeList incomes, SpendingList spendings) {
+        assert incomes != null;
+        assert spendings != null;
+        try {
+            handleCommand(incomes, spendings);
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+        }
+    }
+
+    private void handleCommand(IncomeList incomes, SpendingList spendings) throws WiagiMissingParamsException {
+        if (command.size() > STATS_MAX_ARGUMENTS_LENGTH) {
+            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + STATS_COMMAND_FORMAT);
+        }
+        if (command.size() == 1) {
+            Ui.printStats(Ui.SPENDING, spendings.getStatistics(), TOP_TAG_COUNT);
+            Ui.printStats(Ui.INCOME, incomes.getStatistics(), TOP_TAG_COUNT);
+            return;
+        }
+        switch (command.getWord(LIST_TYPE_INDEX)) {
+        case ListSpendingsCommand.COMMAND_WORD:
+            Ui.printStats(Ui.SPENDING, spendings.getStatistics(), TOP_TAG_COUNT);
+            break;
+        case ListIncomesCommand.COMMAND_WORD:
+            Ui.printStats(Ui.INCOME, incomes.getStatistics(), TOP_TAG_COUNT);
+            break;
+        default:
+            throw new WiagiInvalidInputException(INVALID_CATEGORY + STATS_COMMAND_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.commands;
+
+import seedu.classes.Ui;
+import seedu.exception.WiagiEmptyDescriptionException;
+import seedu.exception.WiagiInvalidIndexException;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.recurrence.Recurrence;
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static seedu.classes.Constants.NO_OPEN_TRANSACTION;
+import static seedu.classes.Constants.TRANSACTION_ALREADY_OPEN;
+import static seedu.classes.Constants.TRANSACTION_FAILED;
+
+/**
+ * Holds the change set of the open transaction. While a transaction is open, {@code AddCommand},
+ * {@code EditCommand} and {@code DeleteCommand} are queued here instead of being executed. Committing stages the
+ * queued changes in order on working copies of the lists, leaving the lists untouched, so if any of them fails
+ * nothing is applied. Once every change is staged, the result is applied to each list in one batch: the deleted
+ * entries are removed in one pass, the edits are copied onto their entries and the added entries are appended,
+ * and the running totals are recounted once. The batch is recorded as one change in {@code History}, and the
+ * budgets are checked once at the end.
+ */
+public class Transaction {
+    private static ArrayList<QueuedChange> changes;
+
+    /**
+     * Represents a change that can be queued in a transaction and staged on the lists as the changes queued before it
+     * leave them.
+     */
+    interface QueuedChange {
+        /**
+         * Makes the change on the staged lists without printing anything.
+         *
+         * @param incomes Staged list of incomes
+         * @param spendings Staged list of spendings
+         */
+        void stage(StagedList<Income> incomes, StagedList<Spending> spendings)
+                throws WiagiMissingParamsException, WiagiInvalidIndexException, WiagiEmptyDescriptionException;
+    }
+
+    /**
+     * Holds a working copy of a list with the queued changes staged on it. Entries that are edited are replaced by
+     * copies in the working copy, and each position also keeps the entry of the list that it stands for, so that the
+     * staged result can be applied to the list in one batch.
+     */
+    static class StagedList<T extends EntryType> {
+        private final EntryList<T> list;
+        private final ArrayList<EntryType> entries;
+        private final ArrayList<T> origins;
+        private final Set<EntryType> added = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private StagedList(EntryList<T> list) {
+            this.list = list;
+            this.entries = new ArrayList<>(list);
+            this.origins = new ArrayList<>(list);
+        }
+
+        /**
+         * Returns the entries as the changes staged so far leave them, for selecting entries by index or by field.
+         *
+         * @return Staged entries
+         */
+        List<EntryType> getEntries() {
+            return entries;
+        }
+
+        void add(T entry) {
+            entries.add(entry);
+            origins.add(entry);
+            added.add(entry);
+        }
+
+        void remove(BitSet selected) {
+            CommandUtils.removeSelected(entries, selected);
+            CommandUtils.removeSelected(origins, selected);
+        }
+
+        /**
+         * Returns the staged entry at the position to be edited, copying it first if it is an entry of the list.
+         *
+         * @param index Position of the entry
+         * @return Entry to edit in place
+         */
+        EntryType edit(int index) {
+            EntryType entry = entries.get(index);
+            if (entry == origins.get(index) && !added.contains(entry)) {
+                entry = entry.snapshot();
+                entries.set(index, entry);
+            }
+            return entry;
+        }
+
+        /**
+         * Applies the staged entries to the list and records the changes in {@code History}. The entries of the list
+         * that are still staged keep their order, and added entries only ever follow them, so one pass over the list
+         * finds the deleted entries.
+         */
+        private void apply(String description) {
+            BitSet deleted = new BitSet(list.size());
+            int staged = 0;
+            for (int i = 0; i < list.size(); i++) {
+                if (staged < origins.size() && origins.get(staged) == list.get(i)) {
+                    staged++;
+                } else {
+                    deleted.set(i);
+                }
+            }
+            if (!deleted.isEmpty()) {
+                ArrayList<T> removed = list.removeSelected(deleted);
+                History.recordDelete(description, list, deleted, removed);
+            }
+
+            ArrayList<EntryType> edited = new ArrayList<>();
+            ArrayList<EntryType> before = new ArrayList<>();
+            for (int i = 0; i < staged; i++) {
+                if (entries.get(i) != origins.get(i)) {
+                    T entry = origins.get(i);
+                    edited.add(entry);
+                    before.add(entry.snapshot());
+                    entry.restore(entries.get(i));
+                }
+            }
+            if (!edited.isEmpty()) {
+                list.recountEditedTotals();
+                History.recordEdit(description, list, edited, before);
+            }
+
+            int sizeBefore = list.size();
+            List<T> toAdd = origins.subList(staged, origins.size());
+            list.addAll(toAdd);
+            for (T entry : toAdd) {
+                Recurrence.checkRecurrenceBackLog(entry, list);
+            }
+            if (list.size() != sizeBefore) {
+                History.recordAdd(description, list, sizeBefore);
+            }
+        }
+    }
+
+    public static boolean isOpen() {
+        return changes != null;
+    }
+
+    static void begin() throws WiagiInvalidInputException {
+        if (isOpen()) {
+            throw new WiagiInvalidInputException(TRANSACTION_ALREADY_OPEN);
+        }
+        changes = new ArrayList<>();
+    }
+
+    static void queue(QueuedChange change) {
+        assert isOpen() : "changes should only be queued in an open transaction";
+        changes.add(change);
+        Ui.printWithTab("Change queued! (" + changes.size() + " pending)");
+    }
+
+    /**
+     * Discards the queued changes without applying them.
+     *
+     * @return Number of changes discarded
+     * @throws WiagiInvalidInputException If there is no open transaction
+     */
+    public static int rollback() throws WiagiInvalidInputException {
+        if (!isOpen()) {
+            throw new WiagiInvalidInputException(NO_OPEN_TRANSACTION);
+        }
+        int changeCount = changes.size();
+        changes = null;
+        return changeCount;
+    }
+
+    /**
+     * Stages the queued changes in order, then applies them to the lists in one batch and closes the transaction.
+     * The recurrence backlogs of added entries are only caught up once the batch is applied.
+     *
+     * @param incomes List of incomes
+     * @param spendings List of spendings
+     * @return Number of changes applied
+     * @throws WiagiInvalidInputException If there is no open transaction, or a change failed and nothing was applied
+     */
+    static int commit(IncomeList incomes, SpendingList spendings) throws WiagiInvalidInputException {
+        if (!isOpen()) {
+            throw new WiagiInvalidInputException(NO_OPEN_TRANSACTION);
+        }
+        ArrayList<QueuedChange> toApply = changes;
+        changes = null;
+        StagedList<Income> stagedIncomes = new StagedList<>(incomes);
+        StagedList<Spending> stagedSpendings = new StagedList<>(spendings);
+        for (int i = 0; i < toApply.size(); i++) {
+            try {
+                toApply.get(i).stage(stagedIncomes, stagedSpendings);
+            } catch (WiagiMissingParamsException | WiagiInvalidIndexException | WiagiEmptyDescriptionException
+                    | WiagiInvalidInputException e) {
+                throw new WiagiInvalidInputException(TRANSACTION_FAILED + "(change " + (i + 1) + ") "
+                        + e.getMessage());
+            }
+        }
+        String description = CommitCommand.COMMAND_WORD + " of " + toApply.size() + " changes";
+        History.beginGroup();
+        stagedIncomes.apply(description);
+        stagedSpendings.apply(description);
+        History.endGroup(description);
+        spendings.checkOverspend();
+        return toApply.size();
+    }
+}
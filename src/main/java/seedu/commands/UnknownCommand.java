@@ -7,6 +7,6 @@ import seedu.type.SpendingList;
 public class UnknownCommand extends Command {
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
-        Ui.printWithTab("Unknown command");
+        Ui.printError("Unknown command");
     }
 }
@@ -20,6 +20,6 @@ public class InvalidListCommand extends Command {
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
         WiagiLogger.logger.log(Level.WARNING, "Invalid list command", exception);
-        Ui.printWithTab(exception.getMessage());
+        Ui.printError(exception.getMessage());
     }
 }
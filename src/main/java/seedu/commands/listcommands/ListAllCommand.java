@@ -1,23 +1,50 @@
 package seedu.commands.listcommands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.commands.Command;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
 
 public class ListAllCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
-    private final String[] arguments;
+    private static final int ARGUMENTS_INDEX = 1;
+    private final ParsedCommand arguments;
 
-    public ListAllCommand(String [] arguments) {
+    public ListAllCommand(ParsedCommand arguments) {
         this.arguments = arguments;
     }
 
     //@@author rharwo
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
-        assert arguments[0].equals(COMMAND_WORD) : "command should be 'list'";
+        assert arguments.isWord(0, COMMAND_WORD) : "command should be 'list'";
+        ListArguments listArguments;
+        try {
+            listArguments = ListArguments.parse(arguments, ARGUMENTS_INDEX, false);
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+            return;
+        }
+        if (listArguments.isQuery()) {
+            Ui.printQuery(spendings, listArguments.getQuery(), listArguments.getTimeRangeOption(),
+                    listArguments.getOffset(), listArguments.getLimit(), listArguments.isReverse(),
+                    listArguments.isExplain());
+            Ui.printQuery(incomes, listArguments.getQuery(), listArguments.getTimeRangeOption(),
+                    listArguments.getOffset(), listArguments.getLimit(), listArguments.isReverse(),
+                    listArguments.isExplain());
+            return;
+        }
+        if (listArguments.isPaged()) {
+            Ui.printListPage(spendings, listArguments.getTimeRangeOption(), listArguments.getOffset(),
+                    listArguments.getLimit(), listArguments.isReverse());
+            Ui.printListPage(incomes, listArguments.getTimeRangeOption(), listArguments.getOffset(),
+                    listArguments.getLimit(), listArguments.isReverse());
+            return;
+        }
         Ui.printArrList(spendings);
         Ui.printArrList(incomes);
     }
@@ -0,0 +1,221 @@
+package seedu.commands.listcommands;
+
+import seedu.classes.ParsedCommand;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.exception.WiagiMissingParamsException;
+import seedu.query.Query;
+
+import java.util.ArrayList;
+
+import static seedu.classes.Constants.ALL_TIME_OPTION;
+import static seedu.classes.Constants.BIWEEKLY_OPTION;
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
+import static seedu.classes.Constants.LIST_COMPULSORY_ARGUMENTS_LENGTH;
+import static seedu.classes.Constants.MONTHLY_OPTION;
+import static seedu.classes.Constants.WEEKLY_OPTION;
+
+/**
+ * Holds the optional arguments of {@code list}, {@code list spendings} and {@code list incomes}, such as
+ * {@code list spendings weekly --stats} or {@code list spendings --reverse --limit=20}. Giving any of them answers the
+ * prompts of the command up front, and giving a limit, offset or reverse order lists only one page of entries.
+ * {@code top $K} lists only the entries with the largest amounts instead. Conditions such as {@code amount>50} list
+ * only the entries matching all of them, and {@code explain} also prints how they were found.
+ */
+class ListArguments {
+    private static final String ALL_TIME_ARGUMENT = "all";
+    private static final String WEEKLY_ARGUMENT = "weekly";
+    private static final String BIWEEKLY_ARGUMENT = "biweekly";
+    private static final String MONTHLY_ARGUMENT = "monthly";
+    private static final String STATISTICS_FLAG = "--stats";
+    private static final String REVERSE_FLAG = "--reverse";
+    private static final String LIMIT_FLAG = "--limit=";
+    private static final String OFFSET_FLAG = "--offset=";
+    private static final String EXPLAIN_ARGUMENT = "explain";
+    static final String TOP_ARGUMENT = "top";
+
+    private final boolean hasArguments;
+    private String timeRangeOption = ALL_TIME_OPTION;
+    private boolean isStatisticsRequired;
+    private boolean isReverse;
+    private int limit = Integer.MAX_VALUE;
+    private int offset;
+    private boolean isPaged;
+    private int topCount = -1;
+    private boolean isExplain;
+    private Query query;
+
+    private ListArguments(boolean hasArguments) {
+        this.hasArguments = hasArguments;
+    }
+
+    /**
+     * Parses the words after the category of the list command.
+     *
+     * @param arguments Tokenized list command
+     * @param isStatisticsAllowed True if {@code --stats} may be given
+     * @return Optional arguments of the list command
+     * @throws WiagiMissingParamsException If a word is not a time range, flag or condition, or is given twice
+     * @throws WiagiInvalidInputException If a condition is invalid
+     */
+    static ListArguments parse(ParsedCommand arguments, boolean isStatisticsAllowed)
+            throws WiagiMissingParamsException {
+        return parse(arguments, LIST_COMPULSORY_ARGUMENTS_LENGTH, isStatisticsAllowed);
+    }
+
+    /**
+     * Parses the words of the list command from the given index onwards.
+     *
+     * @param arguments Tokenized list command
+     * @param start Index of the first optional argument
+     * @param isStatisticsAllowed True if {@code --stats} may be given
+     * @return Optional arguments of the list command
+     * @throws WiagiMissingParamsException If a word is not a time range, flag or condition, or is given twice
+     * @throws WiagiInvalidInputException If a condition is invalid
+     */
+    static ListArguments parse(ParsedCommand arguments, int start, boolean isStatisticsAllowed)
+            throws WiagiMissingParamsException {
+        ListArguments listArguments = new ListArguments(arguments.size() > start);
+        boolean hasTimeRange = false;
+        ArrayList<String> conditions = new ArrayList<>();
+        for (int i = start; i < arguments.size(); i++) {
+            String word = arguments.getWord(i).toLowerCase();
+            if (Query.isCondition(word)) {
+                conditions.add(arguments.getWord(i));
+            } else if (word.equals(EXPLAIN_ARGUMENT) && !listArguments.isExplain) {
+                listArguments.isExplain = true;
+            } else if (word.equals(STATISTICS_FLAG) && isStatisticsAllowed && !listArguments.isStatisticsRequired) {
+                listArguments.isStatisticsRequired = true;
+            } else if (word.equals(REVERSE_FLAG)) {
+                listArguments.isReverse = true;
+                listArguments.isPaged = true;
+            } else if (word.startsWith(LIMIT_FLAG)) {
+                listArguments.limit = parseCount(word.substring(LIMIT_FLAG.length()));
+                listArguments.isPaged = true;
+            } else if (word.startsWith(OFFSET_FLAG)) {
+                listArguments.offset = parseCount(word.substring(OFFSET_FLAG.length()));
+                listArguments.isPaged = true;
+            } else if (word.equals(TOP_ARGUMENT) && listArguments.topCount == -1 && i + 1 < arguments.size()) {
+                i++;
+                listArguments.topCount = parseCount(arguments.getWord(i));
+            } else if (!hasTimeRange && toTimeRangeOption(word) != null) {
+                listArguments.timeRangeOption = toTimeRangeOption(word);
+                hasTimeRange = true;
+            } else {
+                throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+            }
+        }
+        if (!conditions.isEmpty() || listArguments.isExplain) {
+            listArguments.query = Query.parse(conditions);
+        }
+        if (listArguments.isTop() && (listArguments.isPaged || listArguments.isQuery())) {
+            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+        }
+        return listArguments;
+    }
+
+    /**
+     * Parses a count given to a flag, such as the number of entries to list.
+     *
+     * @param count Count to parse
+     * @return Count, which is not negative
+     * @throws WiagiMissingParamsException If the count is not a non-negative integer
+     */
+    static int parseCount(String count) throws WiagiMissingParamsException {
+        int parsedCount;
+        try {
+            parsedCount = Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+        }
+        if (parsedCount < 0) {
+            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+        }
+        return parsedCount;
+    }
+
+    private static String toTimeRangeOption(String word) {
+        switch (word) {
+        case ALL_TIME_ARGUMENT:
+            return ALL_TIME_OPTION;
+        case WEEKLY_ARGUMENT:
+            return WEEKLY_OPTION;
+        case BIWEEKLY_ARGUMENT:
+            return BIWEEKLY_OPTION;
+        case MONTHLY_ARGUMENT:
+            return MONTHLY_OPTION;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Checks if any optional argument was given, in which case the user should not be prompted.
+     *
+     * @return True if the command has optional arguments
+     */
+    boolean hasArguments() {
+        return hasArguments;
+    }
+
+    String getTimeRangeOption() {
+        return timeRangeOption;
+    }
+
+    boolean isStatisticsRequired() {
+        return isStatisticsRequired;
+    }
+
+    /**
+     * Checks if only a page of the entries should be listed, which is the case if a limit, offset or reverse order
+     * is given.
+     *
+     * @return True if the entries should be paged
+     */
+    boolean isPaged() {
+        return isPaged;
+    }
+
+    boolean isReverse() {
+        return isReverse;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Checks if only the entries with the largest amounts should be listed.
+     *
+     * @return True if {@code top $K} is given
+     */
+    boolean isTop() {
+        return topCount != -1;
+    }
+
+    int getTopCount() {
+        return topCount;
+    }
+
+    /**
+     * Checks if only the entries matching conditions should be listed, which is the case if conditions or
+     * {@code explain} are given.
+     *
+     * @return True if the entries should be found by a query
+     */
+    boolean isQuery() {
+        return query != null;
+    }
+
+    Query getQuery() {
+        return query;
+    }
+
+    boolean isExplain() {
+        return isExplain;
+    }
+}
@@ -1,40 +1,54 @@
 package seedu.commands.listcommands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.commands.Command;
+import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
 
-import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
-import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
 import static seedu.classes.Constants.LIST_TYPE_INDEX;
-import static seedu.classes.Constants.LIST_COMPULSORY_ARGUMENTS_LENGTH;
 
 public class ListIncomesCommand extends Command {
 
     public static final String COMMAND_WORD = "incomes";
-    private final String[] arguments;
+    private final ParsedCommand arguments;
 
-    public ListIncomesCommand(String[] fullCommands) {
-        this.arguments = fullCommands;
+    public ListIncomesCommand(ParsedCommand arguments) {
+        this.arguments = arguments;
     }
 
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
-        assert arguments[LIST_TYPE_INDEX].equals(COMMAND_WORD) : "command should be to list incomes";
+        assert arguments.isWord(LIST_TYPE_INDEX, COMMAND_WORD) : "command should be to list incomes";
         try {
             handleCommand(incomes);
-        } catch (WiagiMissingParamsException e) {
-            Ui.printWithTab(e.getMessage());
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(IncomeList incomes) throws WiagiMissingParamsException {
-        if (arguments.length != LIST_COMPULSORY_ARGUMENTS_LENGTH) {
-            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+        ListArguments listArguments = ListArguments.parse(arguments, false);
+        if (listArguments.isTop()) {
+            Ui.printTop(incomes, listArguments.getTimeRangeOption(), listArguments.getTopCount());
+            return;
         }
-        boolean isListAllIncomes =  Ui.printListOfTimeRange(incomes);
+        if (listArguments.isQuery()) {
+            Ui.printQuery(incomes, listArguments.getQuery(), listArguments.getTimeRangeOption(),
+                    listArguments.getOffset(), listArguments.getLimit(), listArguments.isReverse(),
+                    listArguments.isExplain());
+            return;
+        }
+        if (listArguments.isPaged()) {
+            Ui.printListPage(incomes, listArguments.getTimeRangeOption(), listArguments.getOffset(),
+                    listArguments.getLimit(), listArguments.isReverse());
+            return;
+        }
+        boolean isListAllIncomes = listArguments.hasArguments()
+                ? Ui.printListOfTimeRange(incomes, listArguments.getTimeRangeOption())
+                : Ui.printListOfTimeRange(incomes);
         if (isListAllIncomes) {
             Ui.printArrList(incomes);
         }
@@ -1,42 +1,73 @@
 package seedu.commands.listcommands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.commands.Command;
+import seedu.exception.WiagiInvalidInputException;
 import seedu.exception.WiagiMissingParamsException;
 import seedu.type.IncomeList;
 import seedu.type.SpendingList;
 
-import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
-import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
 import static seedu.classes.Constants.LIST_TYPE_INDEX;
-import static seedu.classes.Constants.LIST_COMPULSORY_ARGUMENTS_LENGTH;
 
 public class ListSpendingsCommand extends Command {
 
     public static final String COMMAND_WORD = "spendings";
-    private final String[] arguments;
+    private final ParsedCommand arguments;
 
-    public ListSpendingsCommand(String[] fullCommands) {
-        this.arguments = fullCommands;
+    public ListSpendingsCommand(ParsedCommand arguments) {
+        this.arguments = arguments;
     }
 
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
-        assert arguments[LIST_TYPE_INDEX].equals(COMMAND_WORD) : "command should be to list spendings";
+        assert arguments.isWord(LIST_TYPE_INDEX, COMMAND_WORD) : "command should be to list spendings";
         try {
             handleCommand(spendings);
-        } catch (WiagiMissingParamsException e) {
-            Ui.printWithTab(e.getMessage());
+        } catch (WiagiMissingParamsException | WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(SpendingList spendings) throws WiagiMissingParamsException {
-        if (arguments.length != LIST_COMPULSORY_ARGUMENTS_LENGTH) {
-            throw new WiagiMissingParamsException(INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT);
+        ListArguments listArguments = ListArguments.parse(arguments, true);
+        if (listArguments.isTop()) {
+            Ui.printTop(spendings, listArguments.getTimeRangeOption(), listArguments.getTopCount());
+            if (listArguments.isStatisticsRequired()) {
+                Ui.printSpendingStatistics(spendings);
+            }
+            return;
         }
-        boolean isListAllSpendings = Ui.printListOfTimeRange(spendings);
+        if (listArguments.isQuery()) {
+            Ui.printQuery(spendings, listArguments.getQuery(), listArguments.getTimeRangeOption(),
+                    listArguments.getOffset(), listArguments.getLimit(), listArguments.isReverse(),
+                    listArguments.isExplain());
+            if (listArguments.isStatisticsRequired()) {
+                Ui.printSpendingStatistics(spendings);
+            }
+            return;
+        }
+        if (listArguments.isPaged()) {
+            Ui.printListPage(spendings, listArguments.getTimeRangeOption(), listArguments.getOffset(),
+                    listArguments.getLimit(), listArguments.isReverse());
+            if (listArguments.isStatisticsRequired()) {
+                Ui.printSpendingStatistics(spendings);
+            }
+            return;
+        }
+        if (!listArguments.hasArguments()) {
+            boolean isListAllSpendings = Ui.printListOfTimeRange(spendings);
+            if (isListAllSpendings) {
+                Ui.printStatisticsIfRequired(spendings);
+            }
+            return;
+        }
+        boolean isListAllSpendings = Ui.printListOfTimeRange(spendings, listArguments.getTimeRangeOption());
         if (isListAllSpendings) {
-            Ui.printStatisticsIfRequired(spendings);
+            Ui.printArrList(spendings);
+        }
+        if (listArguments.isStatisticsRequired()) {
+            Ui.printSpendingStatistics(spendings);
         }
     }
 }
@@ -1,5 +1,6 @@
 package seedu.commands.listcommands;
 
+import seedu.classes.ParsedCommand;
 import seedu.classes.Ui;
 import seedu.commands.Command;
 import seedu.exception.WiagiInvalidInputException;
@@ -13,29 +14,37 @@ public class ListTagsCommand extends Command {
     private static final int LIST_CATEGORY_INDEX = 1;
     private static final int LIST_TAG_NAME_INDEX = 2;
     private static final int LIST_SPECIFIC_TAG_LENGTH = 3;
-    private final String[] arguments;
+    private static final int LIST_TOP_TAGS_LENGTH = 4;
+    private static final int TOP_COUNT_INDEX = 3;
+    private final ParsedCommand arguments;
 
-    public ListTagsCommand(String[] arguments) {
+    public ListTagsCommand(ParsedCommand arguments) {
         this.arguments = arguments;
     }
 
     //@@author wongwh2002
     @Override
     public void execute(IncomeList incomes, SpendingList spendings) {
-        assert arguments[LIST_CATEGORY_INDEX].equals(COMMAND_WORD) : "command should be to list tags";
+        assert arguments.isWord(LIST_CATEGORY_INDEX, COMMAND_WORD) : "command should be to list tags";
         try {
             handleCommand(incomes, spendings);
         } catch (WiagiInvalidInputException | WiagiMissingParamsException e) {
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
     }
 
     private void handleCommand(IncomeList incomes, SpendingList spendings) throws WiagiMissingParamsException {
-        if (arguments.length < LIST_SPECIFIC_TAG_LENGTH) {
+        if (arguments.size() < LIST_SPECIFIC_TAG_LENGTH) {
             Ui.printAllTags(incomes, spendings);
             return;
         }
-        String tagName = arguments[LIST_TAG_NAME_INDEX];
+        String tagName = arguments.getWord(LIST_TAG_NAME_INDEX);
+        if (arguments.size() == LIST_TOP_TAGS_LENGTH && tagName.equals(ListArguments.TOP_ARGUMENT)) {
+            int topCount = ListArguments.parseCount(arguments.getWord(TOP_COUNT_INDEX));
+            Ui.printTopTags(Ui.SPENDING, spendings.getStatistics(), topCount);
+            Ui.printTopTags(Ui.INCOME, incomes.getStatistics(), topCount);
+            return;
+        }
         assert tagName != null : "tag name should not be null";
         Ui.printSpecificTag(incomes, spendings, tagName);
     }
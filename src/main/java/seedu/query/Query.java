@@ -0,0 +1,307 @@
+package seedu.query;
+
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.EntryType;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static seedu.classes.Constants.AMOUNT_NOT_NUMBER;
+import static seedu.classes.Constants.INCORRECT_DATE_FORMAT;
+import static seedu.classes.Constants.INVALID_CONDITION;
+import static seedu.classes.Constants.QUERY_FORMAT;
+
+/**
+ * Holds the conditions of a query on a list of entries, such as {@code amount>50 tag=food date>=2024-01-01}. Each
+ * condition is a field, an operator and a value with no spaces between them, and is parsed once into a predicate.
+ * Amounts and dates can be compared with {@code = != > >= < <=}, and tags and descriptions can be matched with
+ * {@code =}, {@code !=} or {@code ~}, which matches if they contain the value in any case.
+ *
+ * <p>Amount and date conditions other than {@code !=} are folded into a single range of amounts and a single range of
+ * dates, and the predicates are tried from the cheapest to the dearest, so most entries are ruled out before any
+ * strings are compared. The ranges and the tag that the query requires are kept for {@code QueryPlanner} to find the
+ * entries from.
+ */
+public class Query {
+    private static final Pattern CONDITION_PATTERN =
+            Pattern.compile("(amount|date|tag|description)(>=|<=|!=|=|>|<|~)(.*)", Pattern.CASE_INSENSITIVE);
+    private static final String AMOUNT_FIELD = "amount";
+    private static final String DATE_FIELD = "date";
+    private static final String TAG_FIELD = "tag";
+    private static final String EQUAL = "=";
+    private static final String NOT_EQUAL = "!=";
+    private static final String GREATER = ">";
+    private static final String GREATER_OR_EQUAL = ">=";
+    private static final String LESS = "<";
+    private static final String LESS_OR_EQUAL = "<=";
+    private static final String CONTAINS = "~";
+    private static final int NUMBER_COST = 0;
+    private static final int TAG_COST = 1;
+    private static final int DESCRIPTION_COST = 2;
+
+    private final ArrayList<Condition> conditions = new ArrayList<>();
+    private final ArrayList<String> words = new ArrayList<>();
+    private final ArrayList<Predicate<EntryType>> pipeline = new ArrayList<>();
+    private long minCents = Long.MIN_VALUE;
+    private long maxCents = Long.MAX_VALUE;
+    private LocalDate fromDate = LocalDate.MIN;
+    private LocalDate toDate = LocalDate.MAX;
+    private String tag;
+
+    private Query() {
+    }
+
+    /**
+     * Checks if a word of a command is a condition of a query, rather than another argument.
+     *
+     * @param word Word of the command
+     * @return True if the word starts with a field followed by an operator
+     */
+    public static boolean isCondition(String word) {
+        return CONDITION_PATTERN.matcher(word).matches();
+    }
+
+    /**
+     * Parses the conditions of a query. A query without conditions matches every entry.
+     *
+     * @param conditionWords Conditions, one per word
+     * @return Query of all the conditions
+     * @throws WiagiInvalidInputException If a condition has an invalid value or operator for its field
+     */
+    public static Query parse(List<String> conditionWords) throws WiagiInvalidInputException {
+        Query query = new Query();
+        for (String word : conditionWords) {
+            Matcher matcher = CONDITION_PATTERN.matcher(word);
+            if (!matcher.matches()) {
+                throw new WiagiInvalidInputException(INVALID_CONDITION + QUERY_FORMAT);
+            }
+            query.addCondition(matcher.group(1).toLowerCase(Locale.ROOT), matcher.group(2), matcher.group(3));
+            query.words.add(word);
+        }
+        query.compile();
+        return query;
+    }
+
+    private void addCondition(String field, String operator, String value) {
+        switch (field) {
+        case AMOUNT_FIELD:
+            addAmountCondition(operator, value);
+            break;
+        case DATE_FIELD:
+            addDateCondition(operator, value);
+            break;
+        case TAG_FIELD:
+            if (operator.equals(EQUAL) && tag == null) {
+                tag = value;
+            }
+            conditions.add(new Condition(TAG_COST, toTextPredicate(operator, value, EntryType::getTag)));
+            break;
+        default:
+            conditions.add(new Condition(DESCRIPTION_COST,
+                    toTextPredicate(operator, value, EntryType::getDescription)));
+            break;
+        }
+    }
+
+    private void addAmountCondition(String operator, String value) {
+        long cents;
+        try {
+            cents = Math.round(Double.parseDouble(value) * 100.0);
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(AMOUNT_NOT_NUMBER + QUERY_FORMAT);
+        }
+        switch (operator) {
+        case EQUAL:
+            restrictAmounts(cents, cents);
+            break;
+        case NOT_EQUAL:
+            conditions.add(new Condition(NUMBER_COST, entry -> Math.round(entry.getAmount() * 100.0) != cents));
+            break;
+        case GREATER:
+            restrictAmounts(cents == Long.MAX_VALUE ? cents : cents + 1, Long.MAX_VALUE);
+            break;
+        case GREATER_OR_EQUAL:
+            restrictAmounts(cents, Long.MAX_VALUE);
+            break;
+        case LESS:
+            restrictAmounts(Long.MIN_VALUE, cents == Long.MIN_VALUE ? cents : cents - 1);
+            break;
+        case LESS_OR_EQUAL:
+            restrictAmounts(Long.MIN_VALUE, cents);
+            break;
+        default:
+            throw new WiagiInvalidInputException(INVALID_CONDITION + QUERY_FORMAT);
+        }
+    }
+
+    private void restrictAmounts(long min, long max) {
+        minCents = Math.max(minCents, min);
+        maxCents = Math.min(maxCents, max);
+    }
+
+    /**
+     * Narrows the range of dates by the condition, or adds a predicate if the condition excludes a single date. Amount
+     * conditions are folded the same way by {@code addAmountCondition}.
+     */
+    private void addDateCondition(String operator, String value) {
+        try {
+            LocalDate date = LocalDate.parse(value);
+            switch (operator) {
+            case EQUAL:
+                restrictDates(date, date);
+                break;
+            case NOT_EQUAL:
+                conditions.add(new Condition(NUMBER_COST, entry -> !date.equals(entry.getDate())));
+                break;
+            case GREATER:
+                restrictDates(date.plusDays(1), LocalDate.MAX);
+                break;
+            case GREATER_OR_EQUAL:
+                restrictDates(date, LocalDate.MAX);
+                break;
+            case LESS:
+                restrictDates(LocalDate.MIN, date.minusDays(1));
+                break;
+            case LESS_OR_EQUAL:
+                restrictDates(LocalDate.MIN, date);
+                break;
+            default:
+                throw new WiagiInvalidInputException(INVALID_CONDITION + QUERY_FORMAT);
+            }
+        } catch (DateTimeException e) {
+            throw new WiagiInvalidInputException(INCORRECT_DATE_FORMAT + QUERY_FORMAT);
+        }
+    }
+
+    private static Predicate<EntryType> toTextPredicate(String operator, String value,
+            Function<EntryType, String> field) {
+        switch (operator) {
+        case EQUAL:
+            return entry -> value.equals(field.apply(entry));
+        case NOT_EQUAL:
+            return entry -> !value.equals(field.apply(entry));
+        case CONTAINS:
+            String lowerCaseValue = value.toLowerCase(Locale.ROOT);
+            return entry -> field.apply(entry) != null
+                    && field.apply(entry).toLowerCase(Locale.ROOT).contains(lowerCaseValue);
+        default:
+            throw new WiagiInvalidInputException(INVALID_CONDITION + QUERY_FORMAT);
+        }
+    }
+
+    /**
+     * Orders the predicates from the cheapest to the dearest, keeping the order they were given in otherwise.
+     */
+    private void compile() {
+        conditions.sort(Comparator.comparingInt(condition -> condition.cost));
+        for (Condition condition : conditions) {
+            pipeline.add(condition.predicate);
+        }
+    }
+
+    /**
+     * Narrows the range of dates of the query, such as to the time range chosen for a list.
+     *
+     * @param from First date allowed
+     * @param to Last date allowed
+     */
+    public void restrictDates(LocalDate from, LocalDate to) {
+        if (from.isAfter(fromDate)) {
+            fromDate = from;
+        }
+        if (to.isBefore(toDate)) {
+            toDate = to;
+        }
+    }
+
+    /**
+     * Checks if an entry matches every condition, checking its amount and date first and stopping at the first
+     * predicate that does not match.
+     *
+     * @param entry Entry to check
+     * @return True if the entry matches the query
+     */
+    public boolean matches(EntryType entry) {
+        if (hasAmountRange()) {
+            long cents = Math.round(entry.getAmount() * 100.0);
+            if (cents < minCents || cents > maxCents) {
+                return false;
+            }
+        }
+        if (hasDateRange() && (entry.getDate().isBefore(fromDate) || entry.getDate().isAfter(toDate))) {
+            return false;
+        }
+        for (Predicate<EntryType> predicate : pipeline) {
+            if (!predicate.test(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the query only allows some dates.
+     *
+     * @return True if a date condition or time range narrowed the dates
+     */
+    public boolean hasDateRange() {
+        return !fromDate.equals(LocalDate.MIN) || !toDate.equals(LocalDate.MAX);
+    }
+
+    /**
+     * Checks if the query only allows some amounts.
+     *
+     * @return True if an amount condition narrowed the amounts
+     */
+    public boolean hasAmountRange() {
+        return minCents != Long.MIN_VALUE || maxCents != Long.MAX_VALUE;
+    }
+
+    public long getMinCents() {
+        return minCents;
+    }
+
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    /**
+     * Returns the tag that every matching entry has, from the first {@code tag=} condition.
+     *
+     * @return Tag of the matching entries, or null if the query does not require one
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", words);
+    }
+
+    private static class Condition {
+        private final int cost;
+        private final Predicate<EntryType> predicate;
+
+        private Condition(int cost, Predicate<EntryType> predicate) {
+            this.cost = cost;
+            this.predicate = predicate;
+        }
+    }
+}
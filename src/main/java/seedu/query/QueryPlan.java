@@ -0,0 +1,102 @@
+package seedu.query;
+
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+
+import java.util.Arrays;
+
+/**
+ * Holds the way chosen by {@code QueryPlanner} to find the entries of a query: either a range of positions in the
+ * list, which is the whole list for a full scan, or the positions given by an index. Only the entries on the chosen
+ * path are checked against the query.
+ */
+public class QueryPlan {
+    private final EntryList<? extends EntryType> list;
+    private final Query query;
+    private final String accessPath;
+    private final int from;
+    private final int to;
+    private final int[] positions;
+    private int examinedCount;
+
+    private QueryPlan(EntryList<? extends EntryType> list, Query query, String accessPath, int from, int to,
+            int[] positions) {
+        this.list = list;
+        this.query = query;
+        this.accessPath = accessPath;
+        this.from = from;
+        this.to = to;
+        this.positions = positions;
+    }
+
+    /**
+     * Returns a plan that checks the entries from position {@code from} until before position {@code to}.
+     *
+     * @param list List of entries
+     * @param query Query of the entries
+     * @param accessPath Description of how the range was found
+     * @param from First position to check
+     * @param to Position after the last position to check
+     * @return Plan that checks a range of the list
+     */
+    static QueryPlan ofRange(EntryList<? extends EntryType> list, Query query, String accessPath, int from, int to) {
+        return new QueryPlan(list, query, accessPath, from, to, null);
+    }
+
+    /**
+     * Returns a plan that checks the entries at the given positions, which must be in increasing order.
+     *
+     * @param list List of entries
+     * @param query Query of the entries
+     * @param accessPath Description of the index the positions came from
+     * @param positions Positions to check
+     * @return Plan that checks the positions from an index
+     */
+    static QueryPlan ofPositions(EntryList<? extends EntryType> list, Query query, String accessPath,
+            int[] positions) {
+        return new QueryPlan(list, query, accessPath, 0, 0, positions);
+    }
+
+    /**
+     * Returns the number of entries that the plan checks.
+     *
+     * @return Number of entries on the access path
+     */
+    int getCost() {
+        return positions == null ? to - from : positions.length;
+    }
+
+    /**
+     * Checks every entry on the access path against the query.
+     *
+     * @return Positions of the matching entries in increasing order
+     */
+    public int[] run() {
+        int[] matches = new int[Math.min(getCost(), 16)];
+        int matchCount = 0;
+        examinedCount = getCost();
+        for (int i = 0; i < examinedCount; i++) {
+            int position = positions == null ? from + i : positions[i];
+            if (query.matches(list.get(position))) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matchCount * 2);
+                }
+                matches[matchCount++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    public String getAccessPath() {
+        return accessPath;
+    }
+
+    /**
+     * Returns the number of entries checked against the query by the last run.
+     *
+     * @return Number of entries examined
+     */
+    public int getExaminedCount() {
+        return examinedCount;
+    }
+}
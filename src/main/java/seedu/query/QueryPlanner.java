@@ -0,0 +1,110 @@
+package seedu.query;
+
+import seedu.type.EntryList;
+import seedu.type.EntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Chooses how to find the entries of a query from the ways that the list allows, picking the one that checks the
+ * fewest entries:
+ * <ul>
+ *     <li>a full scan, which checks every entry</li>
+ *     <li>a binary search for the range of dates of the query, if the list is in date order</li>
+ *     <li>the positions within the range of amounts of the query, from the amount index of the list</li>
+ *     <li>the positions of the tag that the query requires, from the tag index of the list</li>
+ * </ul>
+ * The number of entries within a range of amounts is counted from the amount index before any of their positions are
+ * read. An index is only built for a query if no other way checks fewer entries than a full scan, since building it
+ * goes through the whole list. The tag index is kept until the list changes and the amount index is kept up to date
+ * as the list changes, so later queries are answered from them.
+ */
+public class QueryPlanner {
+    static final String FULL_SCAN = "full scan";
+    static final String DATE_SEARCH = "date binary search";
+    static final String AMOUNT_INDEX = "amount index";
+    static final String TAG_INDEX = "tag index";
+
+    /**
+     * Plans how to find the entries of the query.
+     *
+     * @param list List of entries
+     * @param query Query of the entries
+     * @return Plan that checks the fewest entries
+     */
+    public static QueryPlan plan(EntryList<? extends EntryType> list, Query query) {
+        QueryPlan best = QueryPlan.ofRange(list, query, FULL_SCAN, 0, list.size());
+        if (query.hasDateRange() && list.isSortedByDate()) {
+            best = cheaper(best, planDateSearch(list, query));
+        }
+        if (query.hasAmountRange() && (list.hasAmountIndex() || best.getCost() >= list.size())
+                && list.countAmountsBetween(query.getMinCents(), query.getMaxCents()) < best.getCost()) {
+            best = planAmountSearch(list, query);
+        }
+        if (query.getTag() != null && (list.hasTagIndex() || best.getCost() >= list.size())) {
+            best = cheaper(best, QueryPlan.ofPositions(list, query, TAG_INDEX + " for " + query.getTag(),
+                    list.getTagPositions(query.getTag())));
+        }
+        return best;
+    }
+
+    private static QueryPlan planDateSearch(EntryList<? extends EntryType> list, Query query) {
+        LocalDate fromDate = query.getFromDate();
+        LocalDate toDate = query.getToDate();
+        StringBuilder accessPath = new StringBuilder(DATE_SEARCH);
+        if (!fromDate.equals(LocalDate.MIN)) {
+            accessPath.append(" from ").append(fromDate);
+        }
+        if (!toDate.equals(LocalDate.MAX)) {
+            accessPath.append(" until ").append(toDate);
+        }
+        if (fromDate.isAfter(toDate)) {
+            return QueryPlan.ofRange(list, query, accessPath.toString(), 0, 0);
+        }
+        return QueryPlan.ofRange(list, query, accessPath.toString(), list.indexOfFirstOnOrAfter(fromDate),
+                list.indexOfFirstAfter(toDate));
+    }
+
+    /**
+     * Plans to check the entries within the range of amounts, in list order.
+     */
+    private static QueryPlan planAmountSearch(EntryList<? extends EntryType> list, Query query) {
+        StringBuilder accessPath = new StringBuilder(AMOUNT_INDEX);
+        if (query.getMinCents() != Long.MIN_VALUE) {
+            accessPath.append(" from ").append(formatCents(query.getMinCents()));
+        }
+        if (query.getMaxCents() != Long.MAX_VALUE) {
+            accessPath.append(" until ").append(formatCents(query.getMaxCents()));
+        }
+        int[] positions = list.getAmountPositions(query.getMinCents(), query.getMaxCents());
+        Arrays.sort(positions);
+        return QueryPlan.ofPositions(list, query, accessPath.toString(), positions);
+    }
+
+    private static String formatCents(long cents) {
+        return BigDecimal.valueOf(cents, 2).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Finds the entries matching the query with the plan that checks the fewest entries.
+     *
+     * @param list List of entries
+     * @param query Query of the entries
+     * @return Matching entries in list order
+     */
+    public static <T extends EntryType> ArrayList<T> findEntries(EntryList<T> list, Query query) {
+        int[] positions = plan(list, query).run();
+        ArrayList<T> entries = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            entries.add(list.get(position));
+        }
+        return entries;
+    }
+
+    private static QueryPlan cheaper(QueryPlan current, QueryPlan candidate) {
+        return candidate.getCost() < current.getCost() ? candidate : current;
+    }
+}
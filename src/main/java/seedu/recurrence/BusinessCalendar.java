@@ -0,0 +1,187 @@
+package seedu.recurrence;
+
+import seedu.exception.WiagiInvalidInputException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calendar of business days made up of weekend days, one-off holidays and holidays that fall on the same day every
+ * year. The business days of every year are compiled once into a {@code BitSet} indexed by day of the year, so
+ * rolling a date to a business day is a single bit scan.
+ */
+public class BusinessCalendar {
+    private static final String INVALID_CALENDAR = "Invalid line in calendar ";
+    private static final String WEEKEND_KEYWORD = "weekend";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String MONTH_DAY_PREFIX = "--";
+    private static final int DAY_CODE_LENGTH = 3;
+    private static final int MONTH_DAY_LENGTH = "mm-dd".length();
+    private static final int MAX_YEARS_TO_SCAN = 10;
+
+    private final String name;
+    private final Set<DayOfWeek> weekend;
+    private final Set<LocalDate> holidays;
+    private final Set<MonthDay> yearlyHolidays;
+    private final Map<Integer, BitSet> businessDaysByYear = new ConcurrentHashMap<>();
+
+    public BusinessCalendar(String name, Set<DayOfWeek> weekend, Set<LocalDate> holidays,
+            Set<MonthDay> yearlyHolidays) {
+        assert weekend.size() < DayOfWeek.values().length : "calendar should have at least one business day a week";
+        this.name = name;
+        this.weekend = EnumSet.noneOf(DayOfWeek.class);
+        this.weekend.addAll(weekend);
+        this.holidays = new HashSet<>(holidays);
+        this.yearlyHolidays = new HashSet<>(yearlyHolidays);
+    }
+
+    /**
+     * Compiles a calendar from the lines of a calendar file. Every line is either blank, a comment starting with
+     * {@code #}, {@code weekend} followed by the days of the weekend, a one-off holiday in the form
+     * {@code yyyy-mm-dd} or a yearly holiday in the form {@code mm-dd}. The weekend is Saturday and Sunday unless
+     * stated otherwise.
+     *
+     * @param name Name of the calendar
+     * @param lines Lines of the calendar file
+     * @return Compiled calendar
+     * @throws WiagiInvalidInputException If a line does not follow any of the accepted forms
+     */
+    public static BusinessCalendar parse(String name, List<String> lines) throws WiagiInvalidInputException {
+        Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        Set<LocalDate> holidays = new HashSet<>();
+        Set<MonthDay> yearlyHolidays = new HashSet<>();
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            String[] words = trimmedLine.split("\\s+");
+            if (words[0].equalsIgnoreCase(WEEKEND_KEYWORD)) {
+                weekend = parseWeekend(name, words, trimmedLine);
+            } else if (words.length == 1) {
+                parseHoliday(name, trimmedLine, holidays, yearlyHolidays);
+            } else {
+                throw new WiagiInvalidInputException(INVALID_CALENDAR + name + ": " + trimmedLine);
+            }
+        }
+        return new BusinessCalendar(name, weekend, holidays, yearlyHolidays);
+    }
+
+    private static Set<DayOfWeek> parseWeekend(String name, String[] words, String line) {
+        Set<DayOfWeek> weekend = EnumSet.noneOf(DayOfWeek.class);
+        for (int i = 1; i < words.length; i++) {
+            weekend.add(parseDayOfWeek(name, words[i], line));
+        }
+        if (weekend.size() == DayOfWeek.values().length) {
+            throw new WiagiInvalidInputException(INVALID_CALENDAR + name + ": " + line);
+        }
+        return weekend;
+    }
+
+    private static DayOfWeek parseDayOfWeek(String name, String day, String line) {
+        String dayCode = day.toUpperCase(Locale.ROOT);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayCode.length() >= DAY_CODE_LENGTH && dayOfWeek.toString().startsWith(dayCode)) {
+                return dayOfWeek;
+            }
+        }
+        throw new WiagiInvalidInputException(INVALID_CALENDAR + name + ": " + line);
+    }
+
+    private static void parseHoliday(String name, String holiday, Set<LocalDate> holidays,
+            Set<MonthDay> yearlyHolidays) {
+        try {
+            if (holiday.length() == MONTH_DAY_LENGTH) {
+                yearlyHolidays.add(MonthDay.parse(MONTH_DAY_PREFIX + holiday));
+            } else {
+                holidays.add(LocalDate.parse(holiday));
+            }
+        } catch (DateTimeParseException e) {
+            throw new WiagiInvalidInputException(INVALID_CALENDAR + name + ": " + holiday);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if the date is neither a weekend day nor a holiday.
+     *
+     * @param date Date to be checked
+     * @return True if the date is a business day
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return getBusinessDays(date.getYear()).get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Retrieves the first business day on or after the date.
+     *
+     * @param date Date to roll
+     * @return The date itself if it is a business day, otherwise the next business day
+     */
+    public LocalDate rollForward(LocalDate date) {
+        int year = date.getYear();
+        int fromIndex = date.getDayOfYear() - 1;
+        for (int i = 0; i < MAX_YEARS_TO_SCAN; i++) {
+            int index = getBusinessDays(year).nextSetBit(fromIndex);
+            if (index >= 0) {
+                return LocalDate.ofYearDay(year, index + 1);
+            }
+            year++;
+            fromIndex = 0;
+        }
+        return date;
+    }
+
+    /**
+     * Retrieves the last business day on or before the date.
+     *
+     * @param date Date to roll
+     * @return The date itself if it is a business day, otherwise the previous business day
+     */
+    public LocalDate rollBackward(LocalDate date) {
+        int year = date.getYear();
+        int fromIndex = date.getDayOfYear() - 1;
+        for (int i = 0; i < MAX_YEARS_TO_SCAN; i++) {
+            int index = getBusinessDays(year).previousSetBit(fromIndex);
+            if (index >= 0) {
+                return LocalDate.ofYearDay(year, index + 1);
+            }
+            year--;
+            fromIndex = Year.of(year).length() - 1;
+        }
+        return date;
+    }
+
+    private BitSet getBusinessDays(int year) {
+        return businessDaysByYear.computeIfAbsent(year, this::compileYear);
+    }
+
+    private BitSet compileYear(int year) {
+        int daysInYear = Year.of(year).length();
+        BitSet businessDays = new BitSet(daysInYear);
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+        for (int i = 0; i < daysInYear; i++) {
+            boolean isHoliday = weekend.contains(date.getDayOfWeek()) || holidays.contains(date)
+                    || yearlyHolidays.contains(MonthDay.from(date));
+            if (!isHoliday) {
+                businessDays.set(i);
+            }
+            date = date.plusDays(1);
+        }
+        return businessDays;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.recurrence;
+
+import seedu.classes.WiagiLogger;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Holds the business calendars that recurring entries can roll to, looked up by name. The {@code weekends} calendar,
+ * which only skips Saturdays and Sundays, is always available.
+ */
+public class BusinessCalendars {
+    public static final String DEFAULT_CALENDAR = "weekends";
+    private static final Map<String, BusinessCalendar> CALENDARS = new ConcurrentHashMap<>();
+
+    static {
+        register(new BusinessCalendar(DEFAULT_CALENDAR, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+                Set.of(), Set.of()));
+    }
+
+    /**
+     * Adds the calendar, replacing any calendar with the same name.
+     *
+     * @param calendar Calendar to be added
+     */
+    public static void register(BusinessCalendar calendar) {
+        CALENDARS.put(calendar.getName().toLowerCase(Locale.ROOT), calendar);
+    }
+
+    public static boolean contains(String name) {
+        return CALENDARS.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieves the calendar with the given name, falling back to the {@code weekends} calendar if it does not exist,
+     * e.g. when its file was removed after entries were saved with it.
+     *
+     * @param name Name of the calendar
+     * @return Calendar with the given name
+     */
+    public static BusinessCalendar get(String name) {
+        BusinessCalendar calendar = CALENDARS.get(name.toLowerCase(Locale.ROOT));
+        if (calendar == null) {
+            WiagiLogger.logger.log(Level.WARNING, "Calendar " + name + " not found, using " + DEFAULT_CALENDAR);
+            return CALENDARS.get(DEFAULT_CALENDAR);
+        }
+        return calendar;
+    }
+}
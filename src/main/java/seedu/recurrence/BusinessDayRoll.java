@@ -0,0 +1,8 @@
+package seedu.recurrence;
+
+/**
+ * Direction that a recurring entry is moved in when it falls on a day that is not a business day.
+ */
+public enum BusinessDayRoll {
+    NONE, FORWARD, BACKWARD
+}
@@ -1,5 +1,6 @@
 package seedu.recurrence;
 
+import seedu.classes.WiagiClock;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
@@ -7,29 +8,36 @@ import seedu.type.SpendingList;
 
 import java.time.LocalDate;
 
+import static seedu.classes.Constants.DAILY_RECURRENCE;
+
 /**
  * Used to manage recurring entries labelled as daily recurrence in the user's {@code IncomeList} and
  * {@code SpendingList} and adds recurring entries when needed
  */
 public class DailyRecurrence extends Recurrence{
     private static final int DAILY_FREQUENCY = 1;
+    private static final RecurrenceRule DAILY_RULE = RecurrenceRuleParser.parse(DAILY_RECURRENCE);
 
     @Override
     public void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding) {
         LocalDate lastRecurred = recurringIncome.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringIncome);
         LocalDate checkDate = lastRecurred.plusDays(DAILY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        while (isDue(recurringIncome, checkDate, today) && occurrencesLeft > 0) {
             Income newEntry = new Income(recurringIncome);
-            newEntry.editDateWithLocalDate(checkDate);
+            newEntry.editDateWithLocalDate(rollToBusinessDay(recurringIncome, checkDate));
             if (isAdding) {
                 incomes.add(newEntry);
             }
+            occurrencesLeft--;
             checkDate = checkDate.plusDays(DAILY_FREQUENCY);
         }
+        assert !isDue(recurringIncome, checkDate, today) || occurrencesLeft == 0
+                : "all due entries should be added";
         checkDate = checkDate.minusDays(DAILY_FREQUENCY);
-        assert checkDate.equals(LocalDate.now()) : "last recurred should be today";
         recurringIncome.editLastRecurrence(checkDate);
     }
 
@@ -38,17 +46,26 @@ public class DailyRecurrence extends Recurrence{
         LocalDate lastRecurred = recurringSpending.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringSpending);
         LocalDate checkDate = lastRecurred.plusDays(DAILY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        while (isDue(recurringSpending, checkDate, today) && occurrencesLeft > 0) {
             Spending newEntry = new Spending(recurringSpending);
-            newEntry.editDateWithLocalDate(checkDate);
+            newEntry.editDateWithLocalDate(rollToBusinessDay(recurringSpending, checkDate));
             if (isAdding) {
                 spendings.add(newEntry);
             }
+            occurrencesLeft--;
             checkDate = checkDate.plusDays(DAILY_FREQUENCY);
         }
+        assert !isDue(recurringSpending, checkDate, today) || occurrencesLeft == 0
+                : "all due entries should be added";
         checkDate = checkDate.minusDays(DAILY_FREQUENCY);
-        assert checkDate.equals(LocalDate.now()) : "last recurred should be today";
         recurringSpending.editLastRecurrence(checkDate);
     }
+
+    @Override
+    protected RecurrenceRule getRule() {
+        return DAILY_RULE;
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.recurrence;
+
+import java.time.LocalDate;
+
+/**
+ * Recurs every fixed number of days, which covers daily and weekly rules.
+ */
+class DayIntervalRule implements RecurrenceRule {
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final long intervalDays;
+
+    DayIntervalRule(long intervalDays) {
+        assert intervalDays > 0 : "Interval should be positive";
+        this.intervalDays = intervalDays;
+    }
+
+    @Override
+    public LocalDate next(LocalDate start, LocalDate after) {
+        if (after.isBefore(start)) {
+            return start;
+        }
+        long occurrencesSoFar = Math.floorDiv(after.toEpochDay() - start.toEpochDay(), intervalDays) + 1;
+        return start.plusDays(occurrencesSoFar * intervalDays);
+    }
+
+    @Override
+    public long countBetween(LocalDate start, LocalDate from, LocalDate to) {
+        return countUpTo(start, to) - countUpTo(start, from.minusDays(1));
+    }
+
+    private long countUpTo(LocalDate start, LocalDate date) {
+        if (date.isBefore(start)) {
+            return 0;
+        }
+        return Math.floorDiv(date.toEpochDay() - start.toEpochDay(), intervalDays) + 1;
+    }
+
+    @Override
+    public String toString() {
+        if (intervalDays % DAYS_IN_WEEK == 0) {
+            return RecurrenceRuleParser.formatRule("WEEKLY", intervalDays / DAYS_IN_WEEK, null);
+        }
+        return RecurrenceRuleParser.formatRule("DAILY", intervalDays, null);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.recurrence;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Recurs on the day of month of the entry every fixed number of months, which covers monthly and yearly rules. Months
+ * that are too short recur on their last day instead.
+ */
+class MonthIntervalRule implements RecurrenceRule {
+    private static final int MONTHS_IN_YEAR = 12;
+
+    private final long intervalMonths;
+
+    MonthIntervalRule(long intervalMonths) {
+        assert intervalMonths > 0 : "Interval should be positive";
+        this.intervalMonths = intervalMonths;
+    }
+
+    @Override
+    public LocalDate next(LocalDate start, LocalDate after) {
+        if (after.isBefore(start)) {
+            return start;
+        }
+        long occurrenceIndex = Math.floorDiv(monthsBetween(start, after), intervalMonths);
+        LocalDate occurrence = getOccurrence(start, occurrenceIndex);
+        if (occurrence.isAfter(after)) {
+            return occurrence;
+        }
+        return getOccurrence(start, occurrenceIndex + 1);
+    }
+
+    @Override
+    public long countBetween(LocalDate start, LocalDate from, LocalDate to) {
+        return countUpTo(start, to) - countUpTo(start, from.minusDays(1));
+    }
+
+    private long countUpTo(LocalDate start, LocalDate date) {
+        if (date.isBefore(start)) {
+            return 0;
+        }
+        long occurrenceIndex = Math.floorDiv(monthsBetween(start, date), intervalMonths);
+        if (getOccurrence(start, occurrenceIndex).isAfter(date)) {
+            return occurrenceIndex;
+        }
+        return occurrenceIndex + 1;
+    }
+
+    private LocalDate getOccurrence(LocalDate start, long occurrenceIndex) {
+        YearMonth month = YearMonth.from(start).plusMonths(occurrenceIndex * intervalMonths);
+        return month.atDay(Math.min(start.getDayOfMonth(), month.lengthOfMonth()));
+    }
+
+    static long monthsBetween(LocalDate start, LocalDate end) {
+        return (end.getYear() - start.getYear()) * (long) MONTHS_IN_YEAR + end.getMonthValue() - start.getMonthValue();
+    }
+
+    @Override
+    public String toString() {
+        if (intervalMonths % MONTHS_IN_YEAR == 0) {
+            return RecurrenceRuleParser.formatRule("YEARLY", intervalMonths / MONTHS_IN_YEAR, null);
+        }
+        return RecurrenceRuleParser.formatRule("MONTHLY", intervalMonths, null);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.recurrence;
 
+import seedu.classes.WiagiClock;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
@@ -7,29 +8,35 @@ import seedu.type.SpendingList;
 
 import java.time.LocalDate;
 
+import static seedu.classes.Constants.MONTHLY_RECURRENCE;
+
 /**
  * Used to manage recurring entries labelled as monthly recurrence in the user's {@code IncomeList} and
  * {@code SpendingList} and adds recurring entries when needed
  */
 public class MonthlyRecurrence extends Recurrence {
     private static final int MONTHLY_FREQUENCY = 1;
+    private static final RecurrenceRule MONTHLY_RULE = RecurrenceRuleParser.parse(MONTHLY_RECURRENCE);
 
     @Override
     public void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding) {
         LocalDate lastRecurred = recurringIncome.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusMonths(MONTHLY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringIncome);
+        int dayOfRecurrence = recurringIncome.getDayOfRecurrence();
+        LocalDate checkDate = alignToDayOfRecurrence(lastRecurred.plusMonths(MONTHLY_FREQUENCY), dayOfRecurrence);
+        while (isDue(recurringIncome, checkDate, today) && occurrencesLeft > 0) {
             Income newEntry = new Income(recurringIncome);
-            checkIfDateAltered(newEntry, checkDate, incomes, isAdding);
-            checkDate = checkDate.plusMonths(MONTHLY_FREQUENCY);
+            checkIfDateAltered(recurringIncome, newEntry, checkDate, incomes, isAdding);
+            lastRecurred = checkDate;
+            occurrencesLeft--;
+            checkDate = alignToDayOfRecurrence(checkDate.plusMonths(MONTHLY_FREQUENCY), dayOfRecurrence);
         }
-        checkDate = checkDate.minusMonths(MONTHLY_FREQUENCY);
-        assert !checkDate.isAfter(LocalDate.now()) &&
-                checkDate.plusMonths(MONTHLY_FREQUENCY).isAfter(LocalDate.now())
-                : "last recurrence should be within one month";
-        recurringIncome.editLastRecurrence(checkDate);
+        assert !isDue(recurringIncome, checkDate, today) || occurrencesLeft == 0
+                : "last recurrence should be within one month of the end of the recurrence";
+        recurringIncome.editLastRecurrence(lastRecurred);
     }
 
     @Override
@@ -37,16 +44,24 @@ public class MonthlyRecurrence extends Recurrence {
         LocalDate lastRecurred = recurringSpending.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusMonths(MONTHLY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringSpending);
+        int dayOfRecurrence = recurringSpending.getDayOfRecurrence();
+        LocalDate checkDate = alignToDayOfRecurrence(lastRecurred.plusMonths(MONTHLY_FREQUENCY), dayOfRecurrence);
+        while (isDue(recurringSpending, checkDate, today) && occurrencesLeft > 0) {
             Spending newEntry = new Spending(recurringSpending);
-            checkIfDateAltered(newEntry, checkDate, spendings, isAdding);
-            checkDate = checkDate.plusMonths(MONTHLY_FREQUENCY);
+            checkIfDateAltered(recurringSpending, newEntry, checkDate, spendings, isAdding);
+            lastRecurred = checkDate;
+            occurrencesLeft--;
+            checkDate = alignToDayOfRecurrence(checkDate.plusMonths(MONTHLY_FREQUENCY), dayOfRecurrence);
         }
-        checkDate = checkDate.minusMonths(MONTHLY_FREQUENCY);
-        assert !checkDate.isAfter(LocalDate.now()) &&
-                checkDate.plusMonths(MONTHLY_FREQUENCY).isAfter(LocalDate.now())
-                : "last recurrence should be within one month";
-        recurringSpending.editLastRecurrence(checkDate);
+        assert !isDue(recurringSpending, checkDate, today) || occurrencesLeft == 0
+                : "last recurrence should be within one month of the end of the recurrence";
+        recurringSpending.editLastRecurrence(lastRecurred);
+    }
+
+    @Override
+    protected RecurrenceRule getRule() {
+        return MONTHLY_RULE;
     }
 }
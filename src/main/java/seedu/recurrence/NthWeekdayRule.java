@@ -0,0 +1,71 @@
+package seedu.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Recurs on the nth weekday of the month every fixed number of months, such as the second Friday or the last Monday.
+ * Only the first to fourth and the last weekday are supported, as those exist in every month.
+ */
+class NthWeekdayRule implements RecurrenceRule {
+    static final int LAST_WEEK = -1;
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final long intervalMonths;
+    private final int week;
+    private final DayOfWeek dayOfWeek;
+
+    NthWeekdayRule(long intervalMonths, int week, DayOfWeek dayOfWeek) {
+        assert intervalMonths > 0 : "Interval should be positive";
+        assert week == LAST_WEEK || (week >= 1 && week <= 4) : "Week should be 1 to 4 or last";
+        this.intervalMonths = intervalMonths;
+        this.week = week;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    @Override
+    public LocalDate next(LocalDate start, LocalDate after) {
+        LocalDate latest = after.isBefore(start) ? start.minusDays(1) : after;
+        long occurrenceIndex = Math.max(0, Math.floorDiv(MonthIntervalRule.monthsBetween(start, latest),
+                intervalMonths));
+        LocalDate occurrence = getOccurrence(start, occurrenceIndex);
+        if (occurrence.isAfter(latest)) {
+            return occurrence;
+        }
+        return getOccurrence(start, occurrenceIndex + 1);
+    }
+
+    @Override
+    public long countBetween(LocalDate start, LocalDate from, LocalDate to) {
+        return countUpTo(start, to) - countUpTo(start, from.minusDays(1));
+    }
+
+    private long countUpTo(LocalDate start, LocalDate date) {
+        if (date.isBefore(start)) {
+            return 0;
+        }
+        long occurrenceIndex = Math.floorDiv(MonthIntervalRule.monthsBetween(start, date), intervalMonths);
+        long count = getOccurrence(start, occurrenceIndex).isAfter(date) ? occurrenceIndex : occurrenceIndex + 1;
+        boolean isFirstMonthBeforeStart = getOccurrence(start, 0).isBefore(start);
+        return isFirstMonthBeforeStart ? count - 1 : count;
+    }
+
+    private LocalDate getOccurrence(LocalDate start, long occurrenceIndex) {
+        YearMonth month = YearMonth.from(start).plusMonths(occurrenceIndex * intervalMonths);
+        if (week == LAST_WEEK) {
+            LocalDate lastDay = month.atEndOfMonth();
+            int daysBack = (lastDay.getDayOfWeek().getValue() - dayOfWeek.getValue() + DAYS_IN_WEEK) % DAYS_IN_WEEK;
+            return lastDay.minusDays(daysBack);
+        }
+        LocalDate firstDay = month.atDay(1);
+        int daysForward = (dayOfWeek.getValue() - firstDay.getDayOfWeek().getValue() + DAYS_IN_WEEK) % DAYS_IN_WEEK;
+        return firstDay.plusDays(daysForward + (week - 1) * DAYS_IN_WEEK);
+    }
+
+    @Override
+    public String toString() {
+        String byDay = week + dayOfWeek.toString().substring(0, 2);
+        return RecurrenceRuleParser.formatRule("MONTHLY", intervalMonths, byDay);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.recurrence;
 
 import seedu.classes.Parser;
 import seedu.classes.Ui;
+import seedu.classes.WiagiClock;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
@@ -28,14 +29,25 @@ public abstract class Recurrence {
             return;
         }
         Recurrence recurrence = Parser.parseRecurrence(toAdd);
-        if (recurrence == null) {
+        if (recurrence == null || recurrence.hasEnded(toAdd)) {
             return;
         }
         boolean hasRecurrenceBacklog = Ui.hasRecurrenceBacklog(toAdd);
-        if (toAdd instanceof Spending) {
-            recurrence.checkSpendingRecurrence((Spending)toAdd, (SpendingList)list, hasRecurrenceBacklog);
+        recurrence.checkRecurrence(toAdd, list, hasRecurrenceBacklog);
+    }
+
+    /**
+     * Checks the entry against its matching {@code checkSpendingRecurrence} or {@code checkIncomeRecurrence} method.
+     * {@code list} must be a {@code SpendingList} for spendings and an {@code IncomeList} for incomes.
+     *
+     * @param recurringEntry Entry to be checked
+     * @param list List that recurring entries are added to
+     */
+    public <T extends EntryType> void checkRecurrence(T recurringEntry, ArrayList<T> list, boolean isAdding) {
+        if (recurringEntry instanceof Spending) {
+            checkSpendingRecurrence((Spending) recurringEntry, (SpendingList) list, isAdding);
         } else {
-            recurrence.checkIncomeRecurrence((Income)toAdd, (IncomeList)list, hasRecurrenceBacklog);
+            checkIncomeRecurrence((Income) recurringEntry, (IncomeList) list, isAdding);
         }
     }
 
@@ -50,24 +62,126 @@ public abstract class Recurrence {
         return date.atEndOfMonth().getDayOfMonth();
     }
 
+    /**
+     * Moves the date to the day of recurrence within its month, or to the last day of the month if the month is too
+     * short. Aligning every step keeps recurrences on the 31st from drifting to the 28th after February.
+     *
+     * @param date Date within the month of recurrence
+     * @param dayOfRecurrence Day of the month the entry is supposed to recur on
+     * @return Date of recurrence within the month of {@code date}
+     */
+    protected LocalDate alignToDayOfRecurrence(LocalDate date, int dayOfRecurrence) {
+        int actualDayToRecur = Math.min(dayOfRecurrence, getLastDayOfMonth(date));
+        return date.withDayOfMonth(actualDayToRecur);
+    }
+
     /**
      * Checks if date of recurrence entry is legitimate due to varying total days in months, causing actual date of
-     * recurrence to be overwritten
+     * recurrence to be overwritten. The date is then rolled to a business day if the recurring entry asks for it.
      *
+     * @param recurringEntry Entry that {@code newEntry} recurs from
      * @param newEntry New entry that is added to `SpendingList` or `IncomeList` from recurrence
      * @param checkDate Date to be checked if it is correct
      */
-    protected <T extends EntryType> void checkIfDateAltered(T newEntry, LocalDate checkDate,
+    protected <T extends EntryType> void checkIfDateAltered(T recurringEntry, T newEntry, LocalDate checkDate,
                 ArrayList<T> list, boolean isAdding) {
-        int dayOfSupposedRecurrence = newEntry.getDayOfRecurrence();
-        int lastDayOfNewEntryMonth = getLastDayOfMonth(checkDate);
-        int actualDayToRecur = Math.min(dayOfSupposedRecurrence, lastDayOfNewEntryMonth);
-        newEntry.editDateWithLocalDate(checkDate.withDayOfMonth(actualDayToRecur));
-        if (!newEntry.getDate().isAfter(LocalDate.now()) && isAdding) {
+        LocalDate alignedDate = alignToDayOfRecurrence(checkDate, recurringEntry.getDayOfRecurrence());
+        newEntry.editDateWithLocalDate(rollToBusinessDay(recurringEntry, alignedDate));
+        if (!newEntry.getDate().isAfter(WiagiClock.today()) && isAdding) {
             list.add(newEntry);
         }
     }
 
+    /**
+     * Moves the date to a business day of the entry's calendar in the direction the entry rolls in.
+     *
+     * @param recurringEntry Entry that recurs on {@code date}
+     * @param date Scheduled date of recurrence
+     * @return Date that the recurring entry is actually added on
+     */
+    protected LocalDate rollToBusinessDay(EntryType recurringEntry, LocalDate date) {
+        switch (recurringEntry.getBusinessDayRoll()) {
+        case FORWARD:
+            return BusinessCalendars.get(recurringEntry.getCalendarName()).rollForward(date);
+        case BACKWARD:
+            return BusinessCalendars.get(recurringEntry.getCalendarName()).rollBackward(date);
+        default:
+            return date;
+        }
+    }
+
+    /**
+     * Checks if the entry should recur on the scheduled date, which is when the date is within the end of the
+     * recurrence and the date after rolling to a business day has been reached.
+     *
+     * @param recurringEntry Entry to be checked
+     * @param checkDate Scheduled date of recurrence
+     * @param today Current date
+     * @return True if a recurring entry should be added for {@code checkDate}
+     */
+    protected boolean isDue(EntryType recurringEntry, LocalDate checkDate, LocalDate today) {
+        LocalDate endDate = recurringEntry.getRecurrenceEndDate();
+        if (endDate != null && checkDate.isAfter(endDate)) {
+            return false;
+        }
+        return !rollToBusinessDay(recurringEntry, checkDate).isAfter(today);
+    }
+
+    /**
+     * Retrieves the rule that the entry recurs on, which is used to count its past occurrences.
+     *
+     * @return Rule matching the recurrence of the entry
+     */
+    protected abstract RecurrenceRule getRule();
+
+    /**
+     * Retrieves the last date on which the entry may recur, which is the current date unless the recurrence has
+     * an earlier end date.
+     *
+     * @param recurringEntry Entry to be checked
+     * @param today Current date
+     * @return Last date to add recurring entries for
+     */
+    protected LocalDate getLastDateToRecur(EntryType recurringEntry, LocalDate today) {
+        LocalDate endDate = recurringEntry.getRecurrenceEndDate();
+        if (endDate != null && endDate.isBefore(today)) {
+            return endDate;
+        }
+        return today;
+    }
+
+    /**
+     * Retrieves the number of further entries allowed by the occurrence cap of the entry. The entry itself is counted
+     * as the first occurrence.
+     *
+     * @param recurringEntry Entry to be checked
+     * @return Number of entries left to add, or {@code Long.MAX_VALUE} if the entry has no occurrence cap
+     */
+    protected long getOccurrencesLeft(EntryType recurringEntry) {
+        int maxOccurrences = recurringEntry.getMaxOccurrences();
+        if (maxOccurrences == 0) {
+            return Long.MAX_VALUE;
+        }
+        LocalDate start = recurringEntry.getDate();
+        long occurrences = getRule().countBetween(start, start, recurringEntry.getLastRecurrence());
+        return Math.max(0, maxOccurrences - occurrences);
+    }
+
+    /**
+     * Checks if the entry has reached its end date or occurrence cap and will not add any more entries.
+     *
+     * @param recurringEntry Entry to be checked
+     * @return True if the recurrence has ended
+     */
+    public boolean hasEnded(EntryType recurringEntry) {
+        if (getOccurrencesLeft(recurringEntry) == 0) {
+            return true;
+        }
+        LocalDate endDate = recurringEntry.getRecurrenceEndDate();
+        return endDate != null
+                && getRule().next(recurringEntry.getDate(), recurringEntry.getLastRecurrence()).isAfter(endDate);
+    }
+
     /**
      * Checks the {@code Income} entry if there is a need to add a recurring {@code Income} entry to the user's
      * {@code IncomeList}
@@ -87,6 +201,7 @@ public abstract class Recurrence {
     public abstract void checkSpendingRecurrence(Spending recurringSpending, SpendingList spendings, boolean isAdding);
 
     private static <T extends EntryType> boolean isAbleToBacklog(T toAdd) {
-        return toAdd.getRecurrenceFrequency() != RecurrenceFrequency.NONE && toAdd.getDate().isBefore(LocalDate.now());
+        return toAdd.getRecurrenceFrequency() != RecurrenceFrequency.NONE
+                && toAdd.getDate().isBefore(WiagiClock.today());
     }
 }
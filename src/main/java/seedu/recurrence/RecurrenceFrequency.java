@@ -1,8 +1,9 @@
 package seedu.recurrence;
 
 /**
- * Used by {@code Income} and {@code Spending} entries to label their recurrence frequency
+ * Used by {@code Income} and {@code Spending} entries to label their recurrence frequency. {@code CUSTOM} entries
+ * recur according to their {@code RecurrenceRule}
  */
 public enum RecurrenceFrequency {
-    NONE, DAILY, MONTHLY, YEARLY
+    NONE, DAILY, MONTHLY, YEARLY, CUSTOM
 }
@@ -0,0 +1,34 @@
+package seedu.recurrence;
+
+import java.time.LocalDate;
+
+/**
+ * Compiled form of a recurrence rule, produced by {@code RecurrenceRuleParser}. Occurrences are anchored to the date
+ * of the recurring entry, and both methods are evaluated in constant time regardless of the distance between dates.
+ */
+public interface RecurrenceRule {
+    /**
+     * Returns the first occurrence that is strictly after the given date.
+     *
+     * @param start Date of the recurring entry that occurrences are anchored to
+     * @param after Date that the occurrence must be after
+     * @return First occurrence on or after {@code start} and after {@code after}
+     */
+    LocalDate next(LocalDate start, LocalDate after);
+
+    /**
+     * Counts the occurrences from {@code from} to {@code to}, both inclusive.
+     *
+     * @param start Date of the recurring entry that occurrences are anchored to
+     * @param from First date of the range
+     * @param to Last date of the range
+     * @return Number of occurrences on or after {@code start} within the range
+     */
+    long countBetween(LocalDate start, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the rule in its canonical RRULE form, which is used for display and storage.
+     */
+    @Override
+    String toString();
+}
@@ -0,0 +1,196 @@
+package seedu.recurrence;
+
+import seedu.exception.WiagiInvalidInputException;
+
+import java.time.DayOfWeek;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles recurrence rules into {@code RecurrenceRule} evaluators. Accepted forms are:
+ * <ul>
+ *     <li>{@code daily}, {@code weekly}, {@code biweekly}, {@code monthly} or {@code yearly}</li>
+ *     <li>{@code every N days}, {@code every N weeks}, {@code every N months} or {@code every N years}</li>
+ *     <li>RRULE parts separated by {@code ;}, e.g. {@code FREQ=WEEKLY;INTERVAL=2} or {@code FREQ=MONTHLY;BYDAY=2FR}
+ *     where {@code BYDAY} is only supported for monthly rules and takes weeks 1 to 4 or -1 for the last week</li>
+ * </ul>
+ * Compiled rules hold no state, so every distinct rule is only compiled once and then shared.
+ */
+public class RecurrenceRuleParser {
+    private static final String INVALID_RULE = "Invalid recurrence rule: ";
+    private static final String EVERY = "EVERY ";
+    private static final String PART_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = "=";
+    private static final String FREQUENCY_KEY = "FREQ";
+    private static final String INTERVAL_KEY = "INTERVAL";
+    private static final String BY_DAY_KEY = "BYDAY";
+    private static final String DAILY = "DAILY";
+    private static final String WEEKLY = "WEEKLY";
+    private static final String MONTHLY = "MONTHLY";
+    private static final String YEARLY = "YEARLY";
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int DAY_CODE_LENGTH = 2;
+    private static final long MAX_INTERVAL = 9999;
+    private static final Map<String, RecurrenceRule> COMPILED_RULES = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the rule, reusing the evaluator if the same rule was compiled before.
+     *
+     * @param rule Recurrence rule entered by the user or read from storage
+     * @return Evaluator for the rule
+     * @throws WiagiInvalidInputException If the rule does not follow any of the accepted forms
+     */
+    public static RecurrenceRule parse(String rule) throws WiagiInvalidInputException {
+        String normalisedRule = rule.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+        RecurrenceRule compiledRule = COMPILED_RULES.get(normalisedRule);
+        if (compiledRule == null) {
+            compiledRule = compile(normalisedRule);
+            COMPILED_RULES.put(normalisedRule, compiledRule);
+        }
+        return compiledRule;
+    }
+
+    private static RecurrenceRule compile(String rule) {
+        switch (rule) {
+        case DAILY:
+            return new DayIntervalRule(1);
+        case WEEKLY:
+            return new DayIntervalRule(DAYS_IN_WEEK);
+        case "BIWEEKLY":
+            return new DayIntervalRule(2 * DAYS_IN_WEEK);
+        case MONTHLY:
+            return new MonthIntervalRule(1);
+        case YEARLY:
+            return new MonthIntervalRule(MONTHS_IN_YEAR);
+        default:
+            break;
+        }
+        if (rule.startsWith(EVERY)) {
+            return compileEvery(rule);
+        }
+        return compileRrule(rule);
+    }
+
+    private static RecurrenceRule compileEvery(String rule) {
+        String[] words = rule.split(" ");
+        if (words.length != 3) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        long interval = parseInterval(words[1], rule);
+        String unit = words[2].endsWith("S") ? words[2].substring(0, words[2].length() - 1) : words[2];
+        switch (unit) {
+        case "DAY":
+            return createRule(DAILY, interval, null, rule);
+        case "WEEK":
+            return createRule(WEEKLY, interval, null, rule);
+        case "MONTH":
+            return createRule(MONTHLY, interval, null, rule);
+        case "YEAR":
+            return createRule(YEARLY, interval, null, rule);
+        default:
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+    }
+
+    private static RecurrenceRule compileRrule(String rule) {
+        String frequency = null;
+        long interval = 1;
+        String byDay = null;
+        for (String part : rule.split(PART_SEPARATOR)) {
+            String[] keyAndValue = part.trim().split(VALUE_SEPARATOR);
+            if (keyAndValue.length != 2) {
+                throw new WiagiInvalidInputException(INVALID_RULE + rule);
+            }
+            switch (keyAndValue[0].trim()) {
+            case FREQUENCY_KEY:
+                frequency = keyAndValue[1].trim();
+                break;
+            case INTERVAL_KEY:
+                interval = parseInterval(keyAndValue[1].trim(), rule);
+                break;
+            case BY_DAY_KEY:
+                byDay = keyAndValue[1].trim();
+                break;
+            default:
+                throw new WiagiInvalidInputException(INVALID_RULE + rule);
+            }
+        }
+        if (frequency == null) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        return createRule(frequency, interval, byDay, rule);
+    }
+
+    private static RecurrenceRule createRule(String frequency, long interval, String byDay, String rule) {
+        if (byDay != null && !frequency.equals(MONTHLY)) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        switch (frequency) {
+        case DAILY:
+            return new DayIntervalRule(interval);
+        case WEEKLY:
+            return new DayIntervalRule(interval * DAYS_IN_WEEK);
+        case MONTHLY:
+            if (byDay != null) {
+                return compileByDay(interval, byDay, rule);
+            }
+            return new MonthIntervalRule(interval);
+        case YEARLY:
+            return new MonthIntervalRule(interval * MONTHS_IN_YEAR);
+        default:
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+    }
+
+    private static RecurrenceRule compileByDay(long interval, String byDay, String rule) {
+        if (byDay.length() <= DAY_CODE_LENGTH) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        int dayCodeIndex = byDay.length() - DAY_CODE_LENGTH;
+        DayOfWeek dayOfWeek = parseDayOfWeek(byDay.substring(dayCodeIndex), rule);
+        int week;
+        try {
+            week = Integer.parseInt(byDay.substring(0, dayCodeIndex));
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        if (week != NthWeekdayRule.LAST_WEEK && (week < 1 || week > 4)) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+        return new NthWeekdayRule(interval, week, dayOfWeek);
+    }
+
+    private static DayOfWeek parseDayOfWeek(String dayCode, String rule) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.toString().startsWith(dayCode)) {
+                return dayOfWeek;
+            }
+        }
+        throw new WiagiInvalidInputException(INVALID_RULE + rule);
+    }
+
+    private static long parseInterval(String interval, String rule) {
+        try {
+            long parsedInterval = Long.parseLong(interval);
+            if (parsedInterval <= 0 || parsedInterval > MAX_INTERVAL) {
+                throw new WiagiInvalidInputException(INVALID_RULE + rule);
+            }
+            return parsedInterval;
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_RULE + rule);
+        }
+    }
+
+    static String formatRule(String frequency, long interval, String byDay) {
+        StringBuilder rule = new StringBuilder(FREQUENCY_KEY).append(VALUE_SEPARATOR).append(frequency);
+        if (interval != 1) {
+            rule.append(PART_SEPARATOR).append(INTERVAL_KEY).append(VALUE_SEPARATOR).append(interval);
+        }
+        if (byDay != null) {
+            rule.append(PART_SEPARATOR).append(BY_DAY_KEY).append(VALUE_SEPARATOR).append(byDay);
+        }
+        return rule.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.recurrence;
+
+import seedu.classes.Parser;
+import seedu.type.EntryType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Catches up recurring entries of an {@code IncomeList} or {@code SpendingList}. Large lists are split across a
+ * {@code ForkJoinPool}, where every task generates its recurring entries into its own buffer. The sorted buffers are
+ * then merged back into the list in a single pass, giving the same order as the serial path.
+ */
+public class RecurrenceUpdater {
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final int TASK_SIZE = 512;
+    private static final Comparator<EntryType> BY_DATE = Comparator.comparing(EntryType::getDate);
+
+    /**
+     * Adds all recurring entries due up to the current date into {@code list} and sorts it by date.
+     *
+     * @param list List to be updated
+     * @param bufferFactory Creates an empty list of the same type as {@code list} for recurring entries to be added to
+     */
+    public static <T extends EntryType> void updateRecurrence(ArrayList<T> list,
+            Supplier<? extends ArrayList<T>> bufferFactory) {
+        updateRecurrence(list, bufferFactory, PARALLEL_THRESHOLD);
+    }
+
+    static <T extends EntryType> void updateRecurrence(ArrayList<T> list,
+            Supplier<? extends ArrayList<T>> bufferFactory, int parallelThreshold) {
+        if (list.size() < parallelThreshold) {
+            updateSerially(list);
+            return;
+        }
+        List<ArrayList<T>> buffers = ForkJoinPool.commonPool()
+                .invoke(new CatchUpTask<>(list, bufferFactory, 0, list.size()));
+        list.sort(BY_DATE);
+        mergeInto(list, buffers);
+    }
+
+    private static <T extends EntryType> void updateSerially(ArrayList<T> list) {
+        int size = list.size();
+        for (int i = 0; i < size; i++) {
+            T entry = list.get(i);
+            Recurrence recurrence = Parser.parseRecurrence(entry);
+            if (recurrence != null && !recurrence.hasEnded(entry)) {
+                recurrence.checkRecurrence(entry, list, true);
+            }
+        }
+        list.sort(BY_DATE);
+    }
+
+    /**
+     * Merges the sorted buffers into the sorted list. Ties are broken by the list first and then the buffers in
+     * order, which matches a stable sort over the list followed by every buffer.
+     */
+    private static <T extends EntryType> void mergeInto(ArrayList<T> list, List<ArrayList<T>> buffers) {
+        List<List<T>> sources = new ArrayList<>();
+        sources.add(new ArrayList<>(list));
+        int totalSize = list.size();
+        for (ArrayList<T> buffer : buffers) {
+            if (!buffer.isEmpty()) {
+                sources.add(buffer);
+                totalSize += buffer.size();
+            }
+        }
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            int compareDate = sources.get(a[0]).get(a[1]).getDate().compareTo(sources.get(b[0]).get(b[1]).getDate());
+            return compareDate != 0 ? compareDate : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        list.clear();
+        list.ensureCapacity(totalSize);
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> source = sources.get(head[0]);
+            list.add(source.get(head[1]));
+            head[1]++;
+            if (head[1] < source.size()) {
+                heads.add(head);
+            }
+        }
+    }
+
+    /**
+     * Generates the recurring entries for entries {@code start} to {@code end} of the list. Returns the buffers of
+     * every subtask in list order, each sorted by date.
+     */
+    private static class CatchUpTask<T extends EntryType> extends RecursiveTask<List<ArrayList<T>>> {
+        private final ArrayList<T> list;
+        private final Supplier<? extends ArrayList<T>> bufferFactory;
+        private final int start;
+        private final int end;
+
+        CatchUpTask(ArrayList<T> list, Supplier<? extends ArrayList<T>> bufferFactory, int start, int end) {
+            this.list = list;
+            this.bufferFactory = bufferFactory;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<ArrayList<T>> compute() {
+            if (end - start <= TASK_SIZE) {
+                List<ArrayList<T>> buffers = new ArrayList<>();
+                buffers.add(generate());
+                return buffers;
+            }
+            int middle = (start + end) >>> 1;
+            CatchUpTask<T> left = new CatchUpTask<>(list, bufferFactory, start, middle);
+            CatchUpTask<T> right = new CatchUpTask<>(list, bufferFactory, middle, end);
+            left.fork();
+            List<ArrayList<T>> rightBuffers = right.compute();
+            List<ArrayList<T>> buffers = left.join();
+            buffers.addAll(rightBuffers);
+            return buffers;
+        }
+
+        private ArrayList<T> generate() {
+            ArrayList<T> buffer = bufferFactory.get();
+            for (int i = start; i < end; i++) {
+                T entry = list.get(i);
+                Recurrence recurrence = Parser.parseRecurrence(entry);
+                if (recurrence != null && !recurrence.hasEnded(entry)) {
+                    recurrence.checkRecurrence(entry, buffer, true);
+                }
+            }
+            buffer.sort(BY_DATE);
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.recurrence;
+
+import seedu.classes.WiagiClock;
+import seedu.type.EntryType;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * Used to manage recurring entries that follow a {@code RecurrenceRule} in the user's {@code IncomeList} and
+ * {@code SpendingList} and adds recurring entries when needed
+ */
+public class RuleRecurrence extends Recurrence {
+    private final RecurrenceRule rule;
+
+    public RuleRecurrence(RecurrenceRule rule) {
+        assert rule != null : "rule should be compiled before recurring";
+        this.rule = rule;
+    }
+
+    @Override
+    public void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding) {
+        addOccurrences(recurringIncome, incomes, isAdding, Income::new);
+    }
+
+    @Override
+    public void checkSpendingRecurrence(Spending recurringSpending, SpendingList spendings, boolean isAdding) {
+        addOccurrences(recurringSpending, spendings, isAdding, Spending::new);
+    }
+
+    @Override
+    protected RecurrenceRule getRule() {
+        return rule;
+    }
+
+    private <T extends EntryType> void addOccurrences(T recurringEntry, ArrayList<T> list, boolean isAdding,
+            UnaryOperator<T> copier) {
+        LocalDate lastRecurred = recurringEntry.getLastRecurrence();
+        assert lastRecurred != null : "should only be checking entries with recurrence, " +
+                "lastRecurred should be initialised";
+        LocalDate start = recurringEntry.getDate();
+        LocalDate today = WiagiClock.today();
+        LocalDate lastDateToRecur = getLastDateToRecur(recurringEntry, today);
+        long occurrencesLeft = getOccurrencesLeft(recurringEntry);
+        LocalDate checkDate = rule.next(start, lastRecurred);
+        if (isAdding && !checkDate.isAfter(lastDateToRecur)) {
+            long occurrences = Math.min(rule.countBetween(start, checkDate, lastDateToRecur), occurrencesLeft);
+            list.ensureCapacity(list.size() + (int) Math.min(occurrences, Integer.MAX_VALUE - list.size()));
+        }
+        while (isDue(recurringEntry, checkDate, today) && occurrencesLeft > 0) {
+            T newEntry = copier.apply(recurringEntry);
+            newEntry.editDateWithLocalDate(rollToBusinessDay(recurringEntry, checkDate));
+            if (isAdding) {
+                list.add(newEntry);
+            }
+            lastRecurred = checkDate;
+            occurrencesLeft--;
+            checkDate = rule.next(start, checkDate);
+        }
+        recurringEntry.editLastRecurrence(lastRecurred);
+    }
+}
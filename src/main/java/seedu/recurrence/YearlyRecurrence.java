@@ -1,5 +1,6 @@
 package seedu.recurrence;
 
+import seedu.classes.WiagiClock;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
@@ -7,28 +8,35 @@ import seedu.type.SpendingList;
 
 import java.time.LocalDate;
 
+import static seedu.classes.Constants.YEARLY_RECURRENCE;
+
 /**
  * Used to manage recurring entries labelled as yearly recurrence in the user's {@code IncomeList} and
  * {@code SpendingList} and adds recurring entries when needed
  */
 public class YearlyRecurrence extends Recurrence {
     private static final int YEARLY_FREQUENCY = 1;
+    private static final RecurrenceRule YEARLY_RULE = RecurrenceRuleParser.parse(YEARLY_RECURRENCE);
 
     @Override
     public void checkIncomeRecurrence(Income recurringIncome, IncomeList incomes, boolean isAdding) {
         LocalDate lastRecurred = recurringIncome.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusYears(YEARLY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringIncome);
+        int dayOfRecurrence = recurringIncome.getDayOfRecurrence();
+        LocalDate checkDate = alignToDayOfRecurrence(lastRecurred.plusYears(YEARLY_FREQUENCY), dayOfRecurrence);
+        while (isDue(recurringIncome, checkDate, today) && occurrencesLeft > 0) {
             Income newEntry = new Income(recurringIncome);
-            checkIfDateAltered(newEntry, checkDate, incomes, isAdding);
-            checkDate = checkDate.plusYears(YEARLY_FREQUENCY);
+            checkIfDateAltered(recurringIncome, newEntry, checkDate, incomes, isAdding);
+            lastRecurred = checkDate;
+            occurrencesLeft--;
+            checkDate = alignToDayOfRecurrence(checkDate.plusYears(YEARLY_FREQUENCY), dayOfRecurrence);
         }
-        checkDate = checkDate.minusYears(YEARLY_FREQUENCY);
-        assert !checkDate.isAfter(LocalDate.now()) && checkDate.plusYears(YEARLY_FREQUENCY).isAfter(LocalDate.now())
-                : "last recurrence should be within one year";
-        recurringIncome.editLastRecurrence(checkDate);
+        assert !isDue(recurringIncome, checkDate, today) || occurrencesLeft == 0
+                : "last recurrence should be within one year of the end of the recurrence";
+        recurringIncome.editLastRecurrence(lastRecurred);
     }
 
     @Override
@@ -36,19 +44,28 @@ public class YearlyRecurrence extends Recurrence {
         LocalDate lastRecurred = recurringSpending.getLastRecurrence();
         assert lastRecurred != null : "should only be checking entries with recurrence, " +
                 "lastRecurred should be initialised";
-        LocalDate checkDate = lastRecurred.plusYears(YEARLY_FREQUENCY);
-        while (!checkDate.isAfter(LocalDate.now())) {
+        LocalDate today = WiagiClock.today();
+        long occurrencesLeft = getOccurrencesLeft(recurringSpending);
+        int dayOfRecurrence = recurringSpending.getDayOfRecurrence();
+        LocalDate checkDate = alignToDayOfRecurrence(lastRecurred.plusYears(YEARLY_FREQUENCY), dayOfRecurrence);
+        while (isDue(recurringSpending, checkDate, today) && occurrencesLeft > 0) {
             Spending newEntry = new Spending(recurringSpending);
-            checkIfDateAltered(newEntry, checkDate, spendings, isAdding);
-            checkDate = checkDate.plusYears(YEARLY_FREQUENCY);
+            checkIfDateAltered(recurringSpending, newEntry, checkDate, spendings, isAdding);
+            lastRecurred = checkDate;
+            occurrencesLeft--;
+            checkDate = alignToDayOfRecurrence(checkDate.plusYears(YEARLY_FREQUENCY), dayOfRecurrence);
         }
-        checkDate = checkDate.minusYears(YEARLY_FREQUENCY);
-        assert !checkDate.isAfter(LocalDate.now()) && checkDate.plusYears(YEARLY_FREQUENCY).isAfter(LocalDate.now())
-                : "last recurrence should be within one year";
-        recurringSpending.editLastRecurrence(checkDate);
+        assert !isDue(recurringSpending, checkDate, today) || occurrencesLeft == 0
+                : "last recurrence should be within one year of the end of the recurrence";
+        recurringSpending.editLastRecurrence(lastRecurred);
     }
 
     private boolean isAbleToRecur(LocalDate lastRecurred) {
-        return lastRecurred.getYear() < LocalDate.now().getYear();
+        return lastRecurred.getYear() < WiagiClock.today().getYear();
+    }
+
+    @Override
+    protected RecurrenceRule getRule() {
+        return YEARLY_RULE;
     }
 }
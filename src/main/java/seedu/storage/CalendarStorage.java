@@ -0,0 +1,50 @@
+package seedu.storage;
+
+import seedu.classes.Ui;
+import seedu.classes.WiagiLogger;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.recurrence.BusinessCalendar;
+import seedu.recurrence.BusinessCalendars;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+import static seedu.classes.Constants.LOAD_CALENDAR_FILE_ERROR;
+
+/**
+ * Handles the retrieval of business calendars, where every {@code .txt} file in the calendars folder is one calendar
+ * named after the file
+ */
+public class CalendarStorage {
+    private static final String CALENDARS_DIRECTORY_PATH = "./calendars";
+    private static final String CALENDAR_FILE_EXTENSION = ".txt";
+
+    /**
+     * Compiles every calendar file and makes it available to recurring entries. Calendars that cannot be read are
+     * skipped.
+     */
+    static void load() {
+        File[] calendarFiles = new File(CALENDARS_DIRECTORY_PATH)
+                .listFiles((directory, fileName) -> fileName.endsWith(CALENDAR_FILE_EXTENSION));
+        if (calendarFiles == null) {
+            return;
+        }
+        Arrays.sort(calendarFiles);
+        for (File calendarFile : calendarFiles) {
+            String fileName = calendarFile.getName();
+            String name = fileName.substring(0, fileName.length() - CALENDAR_FILE_EXTENSION.length());
+            try {
+                BusinessCalendars.register(BusinessCalendar.parse(name, Files.readAllLines(calendarFile.toPath())));
+            } catch (IOException e) {
+                WiagiLogger.logger.log(Level.WARNING, "Unable to open calendar file " + fileName, e);
+                Ui.printError(LOAD_CALENDAR_FILE_ERROR + fileName);
+            } catch (WiagiInvalidInputException e) {
+                WiagiLogger.logger.log(Level.WARNING, "Invalid calendar file " + fileName, e);
+                Ui.printError(e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.storage;
 
+import seedu.recurrence.BusinessDayRoll;
 import seedu.recurrence.RecurrenceFrequency;
+import seedu.recurrence.RecurrenceRuleParser;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.classes.Ui;
@@ -22,6 +24,11 @@ import static seedu.classes.Constants.LOAD_DAY_OF_RECURRENCE_INDEX;
 import static seedu.classes.Constants.LOAD_DESCRIPTION_INDEX;
 import static seedu.classes.Constants.LOAD_LAST_RECURRED_INDEX;
 import static seedu.classes.Constants.LOAD_RECURRENCE_INDEX;
+import static seedu.classes.Constants.LOAD_RECURRENCE_RULE_INDEX;
+import static seedu.classes.Constants.LOAD_RECURRENCE_END_DATE_INDEX;
+import static seedu.classes.Constants.LOAD_MAX_OCCURRENCES_INDEX;
+import static seedu.classes.Constants.LOAD_BUSINESS_DAY_ROLL_INDEX;
+import static seedu.classes.Constants.LOAD_CALENDAR_INDEX;
 import static seedu.classes.Constants.LOAD_TAG_INDEX;
 import static seedu.classes.Constants.NO_RECURRENCE;
 
@@ -35,12 +42,16 @@ public class IncomeListStorage {
                 String incomeEntry = income.getAmount() + STORAGE_SEPARATOR + income.getDescription() +
                         STORAGE_SEPARATOR + income.getDate() + STORAGE_SEPARATOR + income.getTag() + STORAGE_SEPARATOR +
                         income.getRecurrenceFrequency() + STORAGE_SEPARATOR + income.getLastRecurrence() +
-                        STORAGE_SEPARATOR + income.getDayOfRecurrence();
+                        STORAGE_SEPARATOR + income.getDayOfRecurrence() +
+                        STORAGE_SEPARATOR + income.getRecurrenceRule() +
+                        STORAGE_SEPARATOR + income.getRecurrenceEndDate() + STORAGE_SEPARATOR +
+                        income.getMaxOccurrences() + STORAGE_SEPARATOR + income.getBusinessDayRoll() +
+                        STORAGE_SEPARATOR + income.getCalendarName();
                 fw.write(incomeEntry + System.lineSeparator());
             }
             fw.close();
         } catch (IOException e){
-            Ui.printWithTab(SAVE_INCOME_FILE_ERROR);
+            Ui.printError(SAVE_INCOME_FILE_ERROR);
         }
     }
 
@@ -63,10 +74,25 @@ public class IncomeListStorage {
                         entryData[LOAD_DESCRIPTION_INDEX], date, entryData[LOAD_TAG_INDEX],
                         RecurrenceFrequency.valueOf(entryData[LOAD_RECURRENCE_INDEX]),
                         lastRecurred, Integer.parseInt(entryData[LOAD_DAY_OF_RECURRENCE_INDEX]));
+                if (entryData.length > LOAD_RECURRENCE_RULE_INDEX
+                        && !entryData[LOAD_RECURRENCE_RULE_INDEX].equals(NO_RECURRENCE)) {
+                    nextEntry.editRecurrenceRule(RecurrenceRuleParser.parse(entryData[LOAD_RECURRENCE_RULE_INDEX]));
+                }
+                if (entryData.length > LOAD_MAX_OCCURRENCES_INDEX) {
+                    LocalDate endDate = null;
+                    if (!entryData[LOAD_RECURRENCE_END_DATE_INDEX].equals(NO_RECURRENCE)) {
+                        endDate = LocalDate.parse(entryData[LOAD_RECURRENCE_END_DATE_INDEX]);
+                    }
+                    nextEntry.editRecurrenceEnd(endDate, Integer.parseInt(entryData[LOAD_MAX_OCCURRENCES_INDEX]));
+                }
+                if (entryData.length > LOAD_CALENDAR_INDEX) {
+                    nextEntry.editBusinessDayRoll(BusinessDayRoll.valueOf(entryData[LOAD_BUSINESS_DAY_ROLL_INDEX]),
+                            entryData[LOAD_CALENDAR_INDEX]);
+                }
                 Storage.incomes.add(nextEntry);
             }
         } catch (IOException e) {
-            Ui.printWithTab(LOAD_INCOME_FILE_ERROR);
+            Ui.printError(LOAD_INCOME_FILE_ERROR);
         } catch (NoSuchElementException e) {
             File incomeFile = new File(INCOMES_FILE_PATH);
             incomeFile.delete();
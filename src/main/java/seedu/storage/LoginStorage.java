@@ -33,7 +33,7 @@ public class LoginStorage {
             }
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to open password file", e);
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         } catch (NoSuchElementException e) {
             WiagiLogger.logger.log(Level.WARNING, "Password file was empty", e);
             File passwordFile = new File(PASSWORD_FILE_PATH);
@@ -53,7 +53,7 @@ public class LoginStorage {
             Storage.password = passwordHash;
         } catch (IOException e) {
             WiagiLogger.logger.log(Level.WARNING, "Unable to open password file", e);
-            Ui.printWithTab(e.getMessage());
+            Ui.printError(e.getMessage());
         }
         WiagiLogger.logger.log(Level.INFO, "Finish creating new user");
     }
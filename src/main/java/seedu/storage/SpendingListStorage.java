@@ -1,14 +1,19 @@
 package seedu.storage;
 
+import seedu.recurrence.BusinessDayRoll;
 import seedu.recurrence.RecurrenceFrequency;
+import seedu.recurrence.RecurrenceRuleParser;
+import seedu.type.RollingBudget;
 import seedu.type.Spending;
 import seedu.type.SpendingList;
+import seedu.type.TagBudget;
 import seedu.classes.Ui;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
@@ -16,6 +21,7 @@ import static seedu.classes.Constants.LOAD_DAILY_BUDGET_INDEX;
 import static seedu.classes.Constants.LOAD_MONTHLY_BUDGET_INDEX;
 import static seedu.classes.Constants.LOAD_SPENDING_FILE_ERROR;
 import static seedu.classes.Constants.LOAD_YEARLY_BUDGET_INDEX;
+import static seedu.classes.Constants.LOAD_TAG_BUDGETS_INDEX;
 import static seedu.classes.Constants.SAVE_SPENDING_FILE_ERROR;
 import static seedu.classes.Constants.STORAGE_LOAD_SEPARATOR;
 import static seedu.classes.Constants.STORAGE_SEPARATOR;
@@ -25,28 +31,51 @@ import static seedu.classes.Constants.LOAD_DAY_OF_RECURRENCE_INDEX;
 import static seedu.classes.Constants.LOAD_DESCRIPTION_INDEX;
 import static seedu.classes.Constants.LOAD_LAST_RECURRED_INDEX;
 import static seedu.classes.Constants.LOAD_RECURRENCE_INDEX;
+import static seedu.classes.Constants.LOAD_RECURRENCE_RULE_INDEX;
+import static seedu.classes.Constants.LOAD_RECURRENCE_END_DATE_INDEX;
+import static seedu.classes.Constants.LOAD_MAX_OCCURRENCES_INDEX;
+import static seedu.classes.Constants.LOAD_BUSINESS_DAY_ROLL_INDEX;
+import static seedu.classes.Constants.LOAD_CALENDAR_INDEX;
 import static seedu.classes.Constants.LOAD_TAG_INDEX;
 import static seedu.classes.Constants.NO_RECURRENCE;
 
 public class SpendingListStorage {
     private static final String SPENDINGS_FILE_PATH = "./spendings.txt";
+    private static final int TAG_BUDGET_FIELDS = 4;
+    private static final int ROLLING_BUDGET_FIELDS = 2;
 
     static void save(SpendingList spendings) {
         try {
             FileWriter fw = new FileWriter(SPENDINGS_FILE_PATH);
-            String budgetDetails = spendings.getDailyBudget() + STORAGE_SEPARATOR +
-                    spendings.getMonthlyBudget() + STORAGE_SEPARATOR + spendings.getYearlySpending();
+            StringBuilder budgetDetails = new StringBuilder().append(spendings.getDailyBudget())
+                    .append(STORAGE_SEPARATOR).append(spendings.getMonthlyBudget())
+                    .append(STORAGE_SEPARATOR).append(spendings.getYearlyBudget());
+            for (Map.Entry<String, TagBudget> tagBudget : spendings.getBudgetedTags().entrySet()) {
+                budgetDetails.append(STORAGE_SEPARATOR).append(tagBudget.getKey())
+                        .append(STORAGE_SEPARATOR).append(tagBudget.getValue().getDailyBudget())
+                        .append(STORAGE_SEPARATOR).append(tagBudget.getValue().getMonthlyBudget())
+                        .append(STORAGE_SEPARATOR).append(tagBudget.getValue().getYearlyBudget());
+            }
+            RollingBudget rollingBudget = spendings.getRollingBudget();
+            if (rollingBudget != null) {
+                budgetDetails.append(STORAGE_SEPARATOR).append(rollingBudget.getDays())
+                        .append(STORAGE_SEPARATOR).append(rollingBudget.getBudget());
+            }
             fw.write(budgetDetails + System.lineSeparator());
             for (Spending spending : spendings) {
                 String singleEntry = spending.getAmount() + STORAGE_SEPARATOR + spending.getDescription() +
                         STORAGE_SEPARATOR + spending.getDate() + STORAGE_SEPARATOR + spending.getTag() +
                         STORAGE_SEPARATOR + spending.getRecurrenceFrequency() + STORAGE_SEPARATOR +
-                        spending.getLastRecurrence() + STORAGE_SEPARATOR + spending.getDayOfRecurrence();
+                        spending.getLastRecurrence() + STORAGE_SEPARATOR + spending.getDayOfRecurrence() +
+                        STORAGE_SEPARATOR + spending.getRecurrenceRule() +
+                        STORAGE_SEPARATOR + spending.getRecurrenceEndDate() + STORAGE_SEPARATOR +
+                        spending.getMaxOccurrences() + STORAGE_SEPARATOR + spending.getBusinessDayRoll() +
+                        STORAGE_SEPARATOR + spending.getCalendarName();
                 fw.write(singleEntry + System.lineSeparator());
             }
             fw.close();
         } catch (IOException e){
-            Ui.printWithTab(SAVE_SPENDING_FILE_ERROR);
+            Ui.printError(SAVE_SPENDING_FILE_ERROR);
         }
     }
 
@@ -61,6 +90,7 @@ public class SpendingListStorage {
             Storage.spendings.setDailyBudget(Double.parseDouble(budgetDetails[LOAD_DAILY_BUDGET_INDEX]));
             Storage.spendings.setMonthlyBudget(Double.parseDouble(budgetDetails[LOAD_MONTHLY_BUDGET_INDEX]));
             Storage.spendings.setYearlyBudget(Double.parseDouble(budgetDetails[LOAD_YEARLY_BUDGET_INDEX]));
+            loadTagBudgets(budgetDetails);
             while (spendingReader.hasNext()) {
                 String newEntry = spendingReader.nextLine();
                 String[] entryData = newEntry.split(STORAGE_LOAD_SEPARATOR);
@@ -73,13 +103,46 @@ public class SpendingListStorage {
                         entryData[LOAD_DESCRIPTION_INDEX], date, entryData[LOAD_TAG_INDEX],
                         RecurrenceFrequency.valueOf(entryData[LOAD_RECURRENCE_INDEX]),
                         lastRecurred, Integer.parseInt(entryData[LOAD_DAY_OF_RECURRENCE_INDEX]));
+                if (entryData.length > LOAD_RECURRENCE_RULE_INDEX
+                        && !entryData[LOAD_RECURRENCE_RULE_INDEX].equals(NO_RECURRENCE)) {
+                    nextEntry.editRecurrenceRule(RecurrenceRuleParser.parse(entryData[LOAD_RECURRENCE_RULE_INDEX]));
+                }
+                if (entryData.length > LOAD_MAX_OCCURRENCES_INDEX) {
+                    LocalDate endDate = null;
+                    if (!entryData[LOAD_RECURRENCE_END_DATE_INDEX].equals(NO_RECURRENCE)) {
+                        endDate = LocalDate.parse(entryData[LOAD_RECURRENCE_END_DATE_INDEX]);
+                    }
+                    nextEntry.editRecurrenceEnd(endDate, Integer.parseInt(entryData[LOAD_MAX_OCCURRENCES_INDEX]));
+                }
+                if (entryData.length > LOAD_CALENDAR_INDEX) {
+                    nextEntry.editBusinessDayRoll(BusinessDayRoll.valueOf(entryData[LOAD_BUSINESS_DAY_ROLL_INDEX]),
+                            entryData[LOAD_CALENDAR_INDEX]);
+                }
                 Storage.spendings.add(nextEntry);
             }
         } catch (IOException e) {
-            Ui.printWithTab(LOAD_SPENDING_FILE_ERROR);
+            Ui.printError(LOAD_SPENDING_FILE_ERROR);
         } catch (NoSuchElementException e) {
             File spendingFile = new File(SPENDINGS_FILE_PATH);
             spendingFile.delete();
         }
     }
+
+    /**
+     * Loads the budgets of tags, which follow the budgets of the whole list as groups of a tag and its daily,
+     * monthly and yearly budgets, and then the number of days and budget of the rolling budget if there is one.
+     */
+    private static void loadTagBudgets(String[] budgetDetails) {
+        int i = LOAD_TAG_BUDGETS_INDEX;
+        for (; i + TAG_BUDGET_FIELDS <= budgetDetails.length; i += TAG_BUDGET_FIELDS) {
+            TagBudget tagBudget = Storage.spendings.getTagBudget(budgetDetails[i]);
+            tagBudget.setDailyBudget(Double.parseDouble(budgetDetails[i + 1]));
+            tagBudget.setMonthlyBudget(Double.parseDouble(budgetDetails[i + 2]));
+            tagBudget.setYearlyBudget(Double.parseDouble(budgetDetails[i + 3]));
+        }
+        if (i + ROLLING_BUDGET_FIELDS == budgetDetails.length) {
+            Storage.spendings.setRollingBudget(Integer.parseInt(budgetDetails[i]),
+                    Double.parseDouble(budgetDetails[i + 1]));
+        }
+    }
 }
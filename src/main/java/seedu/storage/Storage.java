@@ -9,6 +9,7 @@ public class Storage {
     static int password;
 
     public Storage() {
+        CalendarStorage.load();
         IncomeListStorage.load();
         SpendingListStorage.load();
         LoginStorage.load();
@@ -0,0 +1,236 @@
+package seedu.type;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the positions of the entries of a list ordered by amount in cents, and then by position, in two parallel
+ * arrays. The entries within a range of amounts are found by two binary searches and are next to each other in the
+ * arrays, so finding {@code k} of them takes O(log n + k) time.
+ *
+ * <p>Adding, removing or editing one entry moves the keys after it along by one, which is a single copy of part of the
+ * arrays. When entries before a position are added or removed, the positions after it are shifted in one pass, which
+ * keeps the order of the keys since positions keep their order.
+ */
+class AmountIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] cents;
+    private int[] positions;
+    private int size;
+
+    /**
+     * Indexes every entry of the list.
+     *
+     * @param list List of entries
+     */
+    AmountIndex(EntryList<?> list) {
+        size = list.size();
+        cents = new long[Math.max(size, INITIAL_CAPACITY)];
+        positions = new int[cents.length];
+        Integer[] byAmount = new Integer[size];
+        long[] listCents = new long[size];
+        for (int i = 0; i < size; i++) {
+            byAmount[i] = i;
+            listCents[i] = toCents(list.get(i));
+        }
+        Arrays.sort(byAmount, (first, second) -> Long.compare(listCents[first], listCents[second]));
+        for (int i = 0; i < size; i++) {
+            positions[i] = byAmount[i];
+            cents[i] = listCents[byAmount[i]];
+        }
+    }
+
+    static long toCents(EntryType entry) {
+        return Math.round(entry.getAmount() * 100.0);
+    }
+
+    /**
+     * Returns the slot of the first key that is not before the given amount and position.
+     */
+    private int slotOf(long amountCents, int position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cents[middle] < amountCents || cents[middle] == amountCents && positions[middle] < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds the key of an entry. Positions after it must already have been shifted with {@code shift}.
+     *
+     * @param amountCents Amount of the entry in cents
+     * @param position Position of the entry in the list
+     */
+    void insert(long amountCents, int position) {
+        if (size == cents.length) {
+            cents = Arrays.copyOf(cents, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        int slot = slotOf(amountCents, position);
+        System.arraycopy(cents, slot, cents, slot + 1, size - slot);
+        System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+        cents[slot] = amountCents;
+        positions[slot] = position;
+        size++;
+    }
+
+    /**
+     * Removes the key of an entry, leaving the positions of other entries as they are.
+     *
+     * @param amountCents Amount of the entry in cents when it was indexed
+     * @param position Position of the entry in the list
+     */
+    void delete(long amountCents, int position) {
+        int slot = slotOf(amountCents, position);
+        assert slot < size && cents[slot] == amountCents && positions[slot] == position : "Entry should be indexed";
+        System.arraycopy(cents, slot + 1, cents, slot, size - slot - 1);
+        System.arraycopy(positions, slot + 1, positions, slot, size - slot - 1);
+        size--;
+    }
+
+    /**
+     * Moves every position from {@code from} onwards by {@code delta}, after entries were added or removed before
+     * them.
+     *
+     * @param from First position to move
+     * @param delta Number of positions to move by
+     */
+    void shift(int from, int delta) {
+        for (int i = 0; i < size; i++) {
+            if (positions[i] >= from) {
+                positions[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Removes the keys of the entries from position {@code from} until before position {@code to} and moves the
+     * positions after them forward.
+     *
+     * @param from First position removed
+     * @param to Position after the last position removed
+     */
+    void removeRange(int from, int to) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int position = positions[i];
+            if (position >= from && position < to) {
+                continue;
+            }
+            cents[kept] = cents[i];
+            positions[kept] = position >= to ? position - (to - from) : position;
+            kept++;
+        }
+        size = kept;
+    }
+
+    /**
+     * Moves every position to a new position, or removes its key if the new position is -1. The new positions must
+     * keep the order of the positions that are kept.
+     *
+     * @param newPositions New position of each position in the list
+     */
+    void remap(int[] newPositions) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int newPosition = newPositions[positions[i]];
+            if (newPosition == -1) {
+                continue;
+            }
+            cents[kept] = cents[i];
+            positions[kept] = newPosition;
+            kept++;
+        }
+        size = kept;
+    }
+
+    /**
+     * Adds the keys of many entries at once by sorting them and merging them with the keys already indexed.
+     *
+     * @param addedCents Amounts of the entries in cents
+     * @param addedPositions Positions of the entries, which must not be indexed already
+     */
+    void insertAll(long[] addedCents, int[] addedPositions) {
+        Integer[] byAmount = new Integer[addedCents.length];
+        for (int i = 0; i < byAmount.length; i++) {
+            byAmount[i] = i;
+        }
+        Arrays.sort(byAmount, (first, second) -> addedCents[first] != addedCents[second]
+                ? Long.compare(addedCents[first], addedCents[second])
+                : Integer.compare(addedPositions[first], addedPositions[second]));
+        int mergedSize = size + byAmount.length;
+        long[] mergedCents = new long[Math.max(mergedSize, INITIAL_CAPACITY)];
+        int[] mergedPositions = new int[mergedCents.length];
+        int slot = 0;
+        int added = 0;
+        for (int i = 0; i < mergedSize; i++) {
+            boolean isAddedNext = added < byAmount.length && (slot == size
+                    || addedCents[byAmount[added]] < cents[slot] || addedCents[byAmount[added]] == cents[slot]
+                    && addedPositions[byAmount[added]] < positions[slot]);
+            if (isAddedNext) {
+                mergedCents[i] = addedCents[byAmount[added]];
+                mergedPositions[i] = addedPositions[byAmount[added]];
+                added++;
+            } else {
+                mergedCents[i] = cents[slot];
+                mergedPositions[i] = positions[slot];
+                slot++;
+            }
+        }
+        cents = mergedCents;
+        positions = mergedPositions;
+        size = mergedSize;
+    }
+
+    /**
+     * Finds the position of an entry from the amount it was indexed with.
+     *
+     * @param list List holding the entry
+     * @param amountCents Amount of the entry in cents when it was indexed
+     * @param entry Entry to find
+     * @return Position of the entry, or -1 if no entry with the amount is the same object
+     */
+    int findPosition(EntryList<?> list, long amountCents, EntryType entry) {
+        for (int slot = slotOf(amountCents, 0); slot < size && cents[slot] == amountCents; slot++) {
+            if (list.get(positions[slot]) == entry) {
+                return positions[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the entries with amounts in the inclusive range.
+     *
+     * @param minCents Smallest amount in cents
+     * @param maxCents Largest amount in cents
+     * @return Number of entries within the range
+     */
+    int count(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return 0;
+        }
+        int from = slotOf(minCents, Integer.MIN_VALUE);
+        int to = maxCents == Long.MAX_VALUE ? size : slotOf(maxCents + 1, Integer.MIN_VALUE);
+        return to - from;
+    }
+
+    /**
+     * Returns the positions of the entries with amounts in the inclusive range, from the smallest amount to the
+     * largest and in list order for equal amounts.
+     *
+     * @param minCents Smallest amount in cents
+     * @param maxCents Largest amount in cents
+     * @return Positions of the entries within the range
+     */
+    int[] positionsBetween(long minCents, long maxCents) {
+        int from = slotOf(minCents, Integer.MIN_VALUE);
+        return Arrays.copyOfRange(positions, from, from + count(minCents, maxCents));
+    }
+}
@@ -0,0 +1,584 @@
+package seedu.type;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Represents a list of entries that keeps running totals of its entries. Every method of {@code ArrayList} that adds,
+ * replaces or removes entries updates the totals, including {@code subList(from, to).clear()}, so reading a total
+ * does not go through the list. Entries edited in place are moved between totals with {@code updateTotals}. Totals
+ * that are not kept are summed with {@code sumCents}, which splits lists of at least the parallel threshold across
+ * the common {@code ForkJoinPool}.
+ *
+ * <p>The list also tracks whether its entries are in date order, which holds after it is sorted by date and while
+ * entries are appended in date order, so that dates can be found by binary search. Positions of the entries of each
+ * tag are indexed when first asked for, and the index is dropped whenever the list changes. Positions ordered by
+ * amount are also indexed when first asked for, and that index is kept up to date as entries are added, removed one
+ * at a time, removed with {@code removeSelected} or edited, and is only dropped when the whole list is rewritten.
+ *
+ * @param <T> Type of the entries
+ */
+public class EntryList<T extends EntryType> extends ArrayList<T> {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 15;
+    private static final int TASK_SIZE = 1 << 13;
+
+    private static int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private long totalCents;
+    private final EntryStatistics statistics = new EntryStatistics();
+    private boolean isSortedByDate = true;
+    private HashMap<String, int[]> tagIndex;
+    private AmountIndex amountIndex;
+
+    @Override
+    public boolean add(T entry) {
+        super.add(entry);
+        addToTotals(entry, 1);
+        checkDateOrder(size() - 1, size());
+        if (amountIndex != null) {
+            amountIndex.insert(AmountIndex.toCents(entry), size() - 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, T entry) {
+        super.add(index, entry);
+        addToTotals(entry, 1);
+        checkDateOrder(index, index + 1);
+        if (amountIndex != null) {
+            amountIndex.shift(index, 1);
+            amountIndex.insert(AmountIndex.toCents(entry), index);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> entries) {
+        for (T entry : entries) {
+            addToTotals(entry, 1);
+        }
+        int from = size();
+        boolean isChanged = super.addAll(entries);
+        checkDateOrder(from, size());
+        indexAmounts(from, size());
+        return isChanged;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> entries) {
+        for (T entry : entries) {
+            addToTotals(entry, 1);
+        }
+        boolean isChanged = super.addAll(index, entries);
+        checkDateOrder(index, index + entries.size());
+        if (amountIndex != null) {
+            amountIndex.shift(index, entries.size());
+        }
+        indexAmounts(index, index + entries.size());
+        return isChanged;
+    }
+
+    @Override
+    public T set(int index, T entry) {
+        T replaced = super.set(index, entry);
+        addToTotals(replaced, -1);
+        addToTotals(entry, 1);
+        checkDateOrder(index, index + 1);
+        if (amountIndex != null) {
+            amountIndex.delete(AmountIndex.toCents(replaced), index);
+            amountIndex.insert(AmountIndex.toCents(entry), index);
+        }
+        return replaced;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = super.remove(index);
+        addToTotals(removed, -1);
+        if (amountIndex != null) {
+            amountIndex.removeRange(index, index + 1);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object entry) {
+        int index = indexOf(entry);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes a range of entries, which is also how {@code subList(from, to).clear()} removes them.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            addToTotals(get(i), -1);
+        }
+        super.removeRange(fromIndex, toIndex);
+        if (amountIndex != null) {
+            amountIndex.removeRange(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Removes the entries at the selected positions by moving every remaining entry after the first selected position
+     * forward once and truncating the list, instead of shifting the rest of the list for every removed entry. The
+     * moved entries stay in the running totals, and the amount index is updated in one pass.
+     *
+     * @param selected Positions of the entries to remove
+     * @return Removed entries in list order
+     */
+    public ArrayList<T> removeSelected(BitSet selected) {
+        ArrayList<T> removed = new ArrayList<>(selected.cardinality());
+        int size = size();
+        int firstSelected = selected.nextSetBit(0);
+        if (firstSelected == -1) {
+            return removed;
+        }
+        int[] newPositions = amountIndex == null ? null : new int[size];
+        int writeIndex = firstSelected;
+        for (int readIndex = 0; readIndex < size; readIndex++) {
+            if (readIndex < firstSelected) {
+                if (newPositions != null) {
+                    newPositions[readIndex] = readIndex;
+                }
+            } else if (selected.get(readIndex)) {
+                removed.add(get(readIndex));
+                if (newPositions != null) {
+                    newPositions[readIndex] = -1;
+                }
+            } else {
+                super.set(writeIndex, get(readIndex));
+                if (newPositions != null) {
+                    newPositions[readIndex] = writeIndex;
+                }
+                writeIndex++;
+            }
+        }
+        super.removeRange(writeIndex, size);
+        for (T entry : removed) {
+            addToTotals(entry, -1);
+        }
+        if (amountIndex != null) {
+            amountIndex.remap(newPositions);
+        }
+        return removed;
+    }
+
+    /**
+     * Puts entries removed by {@code removeSelected} back at their positions, moving every entry after the first
+     * position back once.
+     *
+     * @param selected Positions the entries were removed from
+     * @param removed Removed entries in list order
+     */
+    public void insertSelected(BitSet selected, List<T> removed) {
+        int oldSize = size();
+        int[] newPositions = amountIndex == null ? null : new int[oldSize];
+        int readIndex = oldSize - 1;
+        super.addAll(removed);
+        int removedIndex = removed.size() - 1;
+        for (int writeIndex = size() - 1; removedIndex >= 0; writeIndex--) {
+            if (selected.get(writeIndex)) {
+                super.set(writeIndex, removed.get(removedIndex));
+                removedIndex--;
+            } else {
+                super.set(writeIndex, get(readIndex));
+                if (newPositions != null) {
+                    newPositions[readIndex] = writeIndex;
+                }
+                readIndex--;
+            }
+        }
+        for (; newPositions != null && readIndex >= 0; readIndex--) {
+            newPositions[readIndex] = readIndex;
+        }
+        for (T entry : removed) {
+            addToTotals(entry, 1);
+        }
+        checkDateOrder(0, size());
+        if (amountIndex != null) {
+            amountIndex.remap(newPositions);
+            long[] addedCents = new long[removed.size()];
+            int[] addedPositions = new int[removed.size()];
+            int added = 0;
+            for (int i = selected.nextSetBit(0); i >= 0 && added < addedCents.length; i = selected.nextSetBit(i + 1)) {
+                addedCents[added] = AmountIndex.toCents(get(i));
+                addedPositions[added] = i;
+                added++;
+            }
+            amountIndex.insertAll(addedCents, addedPositions);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        recountTotals();
+        isSortedByDate = true;
+        amountIndex = null;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean isChanged = super.removeIf(filter);
+        recountTotals();
+        amountIndex = null;
+        return isChanged;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entries) {
+        boolean isChanged = super.removeAll(entries);
+        recountTotals();
+        amountIndex = null;
+        return isChanged;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> entries) {
+        boolean isChanged = super.retainAll(entries);
+        recountTotals();
+        amountIndex = null;
+        return isChanged;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        super.replaceAll(operator);
+        recountTotals();
+        amountIndex = null;
+        isSortedByDate = true;
+        checkDateOrder(0, size());
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        super.sort(comparator);
+        tagIndex = null;
+        amountIndex = null;
+        isSortedByDate = true;
+        checkDateOrder(0, size());
+    }
+
+    /**
+     * Checks that the entries from {@code from} until before {@code to} are in date order with each other and with
+     * their neighbours, after they were added or replaced.
+     */
+    private void checkDateOrder(int from, int to) {
+        for (int i = Math.max(from, 1); isSortedByDate && i <= to && i < size(); i++) {
+            T previous = get(i - 1);
+            T current = get(i);
+            if (previous == null || current == null || previous.getDate() == null || current.getDate() == null
+                    || previous.getDate().isAfter(current.getDate())) {
+                isSortedByDate = false;
+            }
+        }
+    }
+
+    /**
+     * Moves an entry that was edited in place from the totals of its fields before the edit to the totals of its
+     * current fields. Must be called after every edit of the amount, date or tag of an entry in the list.
+     *
+     * @param before Snapshot of the entry before the edit
+     * @param after Entry after the edit
+     */
+    public void updateTotals(EntryType before, EntryType after) {
+        addToTotals(before, -1);
+        addToTotals(after, 1);
+        if (!Objects.equals(before.getDate(), after.getDate())) {
+            isSortedByDate = false;
+        }
+        long beforeCents = AmountIndex.toCents(before);
+        long afterCents = AmountIndex.toCents(after);
+        if (amountIndex != null && beforeCents != afterCents) {
+            int position = amountIndex.findPosition(this, beforeCents, after);
+            if (position != -1) {
+                amountIndex.delete(beforeCents, position);
+                amountIndex.insert(afterCents, position);
+            }
+        }
+    }
+
+    /**
+     * Recounts the running totals after entries in the list were edited in place together, such as by a committed
+     * transaction, instead of moving each of them with {@code updateTotals}. The amount index is dropped and the date
+     * order is checked again.
+     */
+    public void recountEditedTotals() {
+        recountTotals();
+        amountIndex = null;
+        isSortedByDate = true;
+        checkDateOrder(0, size());
+    }
+
+    /**
+     * Adds the entries from position {@code from} until before position {@code to} to the amount index, if it has
+     * been built.
+     */
+    private void indexAmounts(int from, int to) {
+        if (amountIndex == null || from == to) {
+            return;
+        }
+        long[] addedCents = new long[to - from];
+        int[] addedPositions = new int[to - from];
+        for (int i = from; i < to; i++) {
+            addedCents[i - from] = AmountIndex.toCents(get(i));
+            addedPositions[i - from] = i;
+        }
+        amountIndex.insertAll(addedCents, addedPositions);
+    }
+
+    /**
+     * Adds an entry to the running totals, or removes it if {@code sign} is negative.
+     *
+     * @param entry Entry that was added or removed
+     * @param sign 1 if the entry was added, -1 if it was removed
+     */
+    protected void addToTotals(EntryType entry, int sign) {
+        tagIndex = null;
+        if (entry != null) {
+            totalCents += sign * Math.round(entry.getAmount() * 100.0);
+            statistics.add(entry.getAmount(), entry.getTag(), sign);
+        }
+    }
+
+    /**
+     * Resets the running totals to those of an empty list.
+     */
+    protected void clearTotals() {
+        tagIndex = null;
+        totalCents = 0;
+        statistics.clear();
+    }
+
+    protected void recountTotals() {
+        clearTotals();
+        for (T entry : this) {
+            addToTotals(entry, 1);
+        }
+    }
+
+    /**
+     * Returns the total amount of the entries in the list.
+     *
+     * @return Total amount of the list
+     */
+    public double getTotal() {
+        return totalCents / 100.0;
+    }
+
+    public EntryStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Checks if the entries are in date order, in which case dates can be found with {@code indexOfFirstOnOrAfter}
+     * and {@code indexOfFirstAfter}. Editing the date of an entry in place leaves the list out of date order until it
+     * is sorted again.
+     *
+     * @return True if every entry is dated on or after the entry before it
+     */
+    public boolean isSortedByDate() {
+        return isSortedByDate;
+    }
+
+    /**
+     * Finds the first entry dated on or after the date by binary search. The list must be in date order.
+     *
+     * @param date Date to find
+     * @return Index of the first entry dated on or after the date, or the size of the list if there is none
+     */
+    public int indexOfFirstOnOrAfter(LocalDate date) {
+        assert isSortedByDate : "List should be in date order";
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (get(middle).getDate().isBefore(date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first entry dated after the date by binary search. The list must be in date order.
+     *
+     * @param date Date to find
+     * @return Index of the first entry dated after the date, or the size of the list if there is none
+     */
+    public int indexOfFirstAfter(LocalDate date) {
+        return date.equals(LocalDate.MAX) ? size() : indexOfFirstOnOrAfter(date.plusDays(1));
+    }
+
+    /**
+     * Checks if the positions of the entries of each tag are indexed, so that {@code getTagPositions} does not have
+     * to go through the list.
+     *
+     * @return True if the tag index is up to date
+     */
+    public boolean hasTagIndex() {
+        return tagIndex != null;
+    }
+
+    /**
+     * Returns the positions of the entries with the tag in increasing order, indexing every tag first if the list
+     * changed since the index was last built.
+     *
+     * @param tag Tag of the entries
+     * @return Positions of the entries with the tag
+     */
+    public int[] getTagPositions(String tag) {
+        if (tagIndex == null) {
+            buildTagIndex();
+        }
+        return tagIndex.getOrDefault(tag, new int[0]);
+    }
+
+    /**
+     * Checks if the positions of the entries are indexed by amount, so that amounts can be found without going
+     * through the list.
+     *
+     * @return True if the amount index has been built
+     */
+    public boolean hasAmountIndex() {
+        return amountIndex != null;
+    }
+
+    /**
+     * Counts the entries with amounts in the inclusive range in O(log n) time, indexing the amounts first if they
+     * are not indexed.
+     *
+     * @param minCents Smallest amount in cents
+     * @param maxCents Largest amount in cents
+     * @return Number of entries within the range
+     */
+    public int countAmountsBetween(long minCents, long maxCents) {
+        if (amountIndex == null) {
+            amountIndex = new AmountIndex(this);
+        }
+        return amountIndex.count(minCents, maxCents);
+    }
+
+    /**
+     * Returns the positions of the entries with amounts in the inclusive range in O(log n + k) time, from the smallest
+     * amount to the largest and in list order for equal amounts, indexing the amounts first if they are not indexed.
+     *
+     * @param minCents Smallest amount in cents
+     * @param maxCents Largest amount in cents
+     * @return Positions of the entries within the range
+     */
+    public int[] getAmountPositions(long minCents, long maxCents) {
+        if (amountIndex == null) {
+            amountIndex = new AmountIndex(this);
+        }
+        return amountIndex.positionsBetween(minCents, maxCents);
+    }
+
+    private void buildTagIndex() {
+        HashMap<String, int[]> positions = new HashMap<>();
+        HashMap<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < size(); i++) {
+            String tag = get(i).getTag();
+            int count = counts.merge(tag, 1, Integer::sum);
+            int[] tagPositions = positions.get(tag);
+            if (tagPositions == null || tagPositions.length < count) {
+                tagPositions = tagPositions == null ? new int[4] : Arrays.copyOf(tagPositions, count * 2);
+                positions.put(tag, tagPositions);
+            }
+            tagPositions[count - 1] = i;
+        }
+        positions.replaceAll((tag, tagPositions) -> Arrays.copyOf(tagPositions, counts.get(tag)));
+        tagIndex = positions;
+    }
+
+    /**
+     * Sets the size from which lists are summed in parallel by {@code sumCents}.
+     *
+     * @param threshold Smallest size of a list to sum in parallel
+     */
+    public static void setParallelThreshold(int threshold) {
+        assert threshold > 0 : "Parallel threshold should be positive";
+        parallelThreshold = threshold;
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sums the amounts of the entries that pass the filter. The amounts are summed in cents, so the sum does not
+     * depend on the order the entries are added in, and summing in parallel gives the same result as summing in
+     * order. Lists of at least the parallel threshold are split into tasks that each sum their part of the list into
+     * their own total, and the totals are added together as the tasks are joined.
+     *
+     * @param isCounted Filter of the entries to sum, which must be safe to call from other threads
+     * @return Sum of the amounts in cents
+     */
+    protected long sumCents(Predicate<? super T> isCounted) {
+        if (size() < parallelThreshold) {
+            return sumCents(this, isCounted, 0, size());
+        }
+        return ForkJoinPool.commonPool().invoke(new SumTask<>(this, isCounted, 0, size()));
+    }
+
+    private static <T extends EntryType> long sumCents(List<T> list, Predicate<? super T> isCounted, int start,
+            int end) {
+        long cents = 0;
+        for (int i = start; i < end; i++) {
+            T entry = list.get(i);
+            if (isCounted.test(entry)) {
+                cents += Math.round(entry.getAmount() * 100.0);
+            }
+        }
+        return cents;
+    }
+
+    /**
+     * Sums the amounts of entries {@code start} to {@code end} of the list that pass the filter.
+     */
+    private static class SumTask<T extends EntryType> extends RecursiveTask<Long> {
+        private final List<T> list;
+        private final Predicate<? super T> isCounted;
+        private final int start;
+        private final int end;
+
+        SumTask(List<T> list, Predicate<? super T> isCounted, int start, int end) {
+            this.list = list;
+            this.isCounted = isCounted;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (end - start <= TASK_SIZE) {
+                return sumCents(list, isCounted, start, end);
+            }
+            int middle = (start + end) >>> 1;
+            SumTask<T> left = new SumTask<>(list, isCounted, start, middle);
+            SumTask<T> right = new SumTask<>(list, isCounted, middle, end);
+            left.fork();
+            long rightCents = right.compute();
+            return left.join() + rightCents;
+        }
+    }
+}
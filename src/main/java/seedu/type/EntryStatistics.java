@@ -0,0 +1,141 @@
+package seedu.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps statistics of the amounts of a list of entries that are updated as entries are added and removed, so reading
+ * them does not go through the list. The mean and variance come from running sums. Percentiles come from a histogram
+ * whose buckets grow by a fixed ratio, so an estimate is within about one percent of the true amount and finding it
+ * only walks the buckets, of which there are at most a few thousand however many entries there are. Unlike sketches
+ * that merge nearby values, a bucket count can be decreased again, so removing an entry cancels out adding it. The
+ * largest tags are found from running totals per tag.
+ */
+public class EntryStatistics {
+    private static final double GAMMA = 1.02;
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int INITIAL_BUCKETS = 512;
+
+    private long[] bucketCounts = new long[INITIAL_BUCKETS];
+    private long count;
+    private long sumCents;
+    private double sumSquaredCents;
+    private final HashMap<String, Long> tagCents = new HashMap<>();
+
+    /**
+     * Adds the amount and tag of an entry, or removes them if {@code sign} is negative.
+     *
+     * @param amount Amount of the entry
+     * @param tag Tag of the entry, which is left out of the tag totals if empty or null
+     * @param sign 1 if the entry was added, -1 if it was removed
+     */
+    void add(double amount, String tag, int sign) {
+        long cents = Math.round(amount * 100.0);
+        if (cents <= 0) {
+            return;
+        }
+        count += sign;
+        sumCents += sign * cents;
+        sumSquaredCents += sign * (double) cents * cents;
+        int bucket = bucketOf(cents);
+        if (bucket >= bucketCounts.length) {
+            bucketCounts = Arrays.copyOf(bucketCounts, Math.max(bucket + 1, bucketCounts.length * 2));
+        }
+        bucketCounts[bucket] += sign;
+        if (tag != null && !tag.isEmpty()) {
+            tagCents.merge(tag, sign * cents, (total, added) -> total + added == 0 ? null : total + added);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(bucketCounts, 0);
+        count = 0;
+        sumCents = 0;
+        sumSquaredCents = 0;
+        tagCents.clear();
+    }
+
+    private static int bucketOf(long cents) {
+        return (int) Math.ceil(Math.log(cents) / LOG_GAMMA);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : sumCents / (double) count / 100.0;
+    }
+
+    /**
+     * Returns the population variance of the amounts.
+     *
+     * @return Variance of the amounts
+     */
+    public double getVariance() {
+        if (count == 0) {
+            return 0;
+        }
+        double meanCents = sumCents / (double) count;
+        return Math.max(0, sumSquaredCents / count - meanCents * meanCents) / 10000.0;
+    }
+
+    /**
+     * Estimates the amount below which the given fraction of amounts fall, such as 0.5 for the median.
+     *
+     * @param quantile Fraction of amounts, from 0 to 1
+     * @return Estimated amount, or 0 if there are no entries
+     */
+    public double getQuantile(double quantile) {
+        assert quantile >= 0 && quantile <= 1 : "Quantile should be between 0 and 1";
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = 0;
+        int bucket = 0;
+        while (bucket < bucketCounts.length - 1) {
+            seen += bucketCounts[bucket];
+            if (seen > rank) {
+                break;
+            }
+            bucket++;
+        }
+        double cents = 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+        return Math.round(cents) / 100.0;
+    }
+
+    /**
+     * Returns the tags with the largest totals, from largest to smallest, keeping only the largest {@code k} tags
+     * seen so far instead of sorting every tag.
+     *
+     * @param k Number of tags to return
+     * @return Tags with the largest totals
+     */
+    public List<String> getTopTags(int k) {
+        PriorityQueue<Map.Entry<String, Long>> largest = new PriorityQueue<>((first, second) ->
+                first.getValue().equals(second.getValue()) ? second.getKey().compareTo(first.getKey())
+                        : Long.compare(first.getValue(), second.getValue()));
+        for (Map.Entry<String, Long> entry : tagCents.entrySet()) {
+            largest.add(entry);
+            if (largest.size() > k) {
+                largest.poll();
+            }
+        }
+        ArrayList<String> topTags = new ArrayList<>(largest.size());
+        while (!largest.isEmpty()) {
+            topTags.add(largest.poll().getKey());
+        }
+        Collections.reverse(topTags);
+        return topTags;
+    }
+
+    public double getTagTotal(String tag) {
+        return tagCents.getOrDefault(tag, 0L) / 100.0;
+    }
+}
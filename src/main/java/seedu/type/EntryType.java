@@ -1,9 +1,14 @@
 package seedu.type;
 
-import seedu.classes.Ui;
+import seedu.classes.ParsedCommand;
+import seedu.classes.WiagiClock;
 import seedu.commands.CommandUtils;
 import seedu.exception.WiagiInvalidInputException;
+import seedu.recurrence.BusinessCalendars;
+import seedu.recurrence.BusinessDayRoll;
 import seedu.recurrence.RecurrenceFrequency;
+import seedu.recurrence.RecurrenceRule;
+import seedu.recurrence.RecurrenceRuleParser;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -16,30 +21,43 @@ import static seedu.classes.Constants.ADD_COMMAND_FORMAT;
 import static seedu.classes.Constants.EDIT_COMMAND_FORMAT;
 import static seedu.classes.Constants.INCORRECT_DATE_FORMAT;
 import static seedu.classes.Constants.LIST_SEPARATOR;
+import static seedu.classes.Constants.INVALID_BUSINESS_DAY_ROLL;
+import static seedu.classes.Constants.INVALID_RECURRENCE_END;
+import static seedu.classes.Constants.NOT_RECURRING;
+import static seedu.classes.Constants.NO_RECURRENCE_END;
 
 public class EntryType {
+    private static final String UNTIL_KEYWORD = "until";
+    private static final String COUNT_KEYWORD = "count";
+    private static final String ROLL_KEYWORD = "roll";
+
     private double amount;
     private String description;
     private LocalDate date;
     private String tag;
     private RecurrenceFrequency recurrenceFrequency;
+    private RecurrenceRule recurrenceRule;
+    private LocalDate recurrenceEndDate;
+    private int maxOccurrences;
+    private BusinessDayRoll businessDayRoll = BusinessDayRoll.NONE;
+    private String calendarName;
     private LocalDate lastRecurrence;
     private int dayOfRecurrence;
+    private String renderedLine;
 
     //@@author wongwh2002
-    public EntryType(String optionalArguments, double amount, String description) {
+    public EntryType(ParsedCommand command, double amount, String description) {
         this.amount = amount;
         assert amount > 0 : "Amount should be greater than zero";
         this.description = description;
         assert description != null && !description.isEmpty() : "Description should not be null or empty";
-        this.date = extractDate(optionalArguments);
+        this.date = extractDate(command);
         assert date != null : "Date should not be null";
-        this.tag = extractTag(optionalArguments);
+        this.tag = extractTag(command);
         assert tag != null : "Tag should not be null";
-        this.recurrenceFrequency = extractRecurrenceFrequency(optionalArguments);
+        this.recurrenceFrequency = extractRecurrenceFrequency(command);
         this.lastRecurrence = this.date;
         this.dayOfRecurrence = lastRecurrence.getDayOfMonth();
-        Ui.printWithTab("Entry successfully added!");
     }
 
     public EntryType(EntryType other) {
@@ -64,37 +82,70 @@ public class EntryType {
         this.dayOfRecurrence = dayOfRecurrence;
     }
 
-    private String extractTag(String optionalArguments) {
-        String[] commandAndTag = optionalArguments.split("\\*");
-        if (commandAndTag.length == 1) {
+    /**
+     * Creates a copy of every field of the entry, including its recurrence, so that the entry can be restored to
+     * this state with {@code restore}.
+     *
+     * @return Copy of the entry
+     */
+    public EntryType snapshot() {
+        EntryType copy = new EntryType(this);
+        copy.restore(this);
+        return copy;
+    }
+
+    /**
+     * Sets every field of the entry to the fields of a snapshot taken earlier.
+     *
+     * @param saved Snapshot of the entry
+     */
+    public void restore(EntryType saved) {
+        this.amount = saved.amount;
+        this.description = saved.description;
+        this.date = saved.date;
+        this.tag = saved.tag;
+        this.recurrenceFrequency = saved.recurrenceFrequency;
+        this.recurrenceRule = saved.recurrenceRule;
+        this.recurrenceEndDate = saved.recurrenceEndDate;
+        this.maxOccurrences = saved.maxOccurrences;
+        this.businessDayRoll = saved.businessDayRoll;
+        this.calendarName = saved.calendarName;
+        this.lastRecurrence = saved.lastRecurrence;
+        this.dayOfRecurrence = saved.dayOfRecurrence;
+        this.renderedLine = saved.renderedLine;
+    }
+
+    private String extractTag(ParsedCommand command) {
+        String tag = command.getOptionalArgument(ParsedCommand.TAG_DELIMITER);
+        if (tag == null) {
             return "";
         }
-        return commandAndTag[1].trim();
+        return tag;
     }
 
     public double getAmount() {
         return this.amount;
     }
 
-    private LocalDate extractDate(String optionalArguments) throws WiagiInvalidInputException {
-        String[] commandAndDate = optionalArguments.split("/");
+    private LocalDate extractDate(ParsedCommand command) throws WiagiInvalidInputException {
+        String date = command.getOptionalArgument(ParsedCommand.DATE_DELIMITER);
         try {
-            if (commandAndDate.length == 1) {
-                return LocalDate.now();
+            if (date == null) {
+                return WiagiClock.today();
             }
-            return LocalDate.parse(commandAndDate[1].trim());
+            return LocalDate.parse(date);
         } catch (DateTimeParseException e) {
             throw new WiagiInvalidInputException(INCORRECT_DATE_FORMAT + ADD_COMMAND_FORMAT);
         }
     }
 
-    private RecurrenceFrequency extractRecurrenceFrequency(String optionalArguments)
+    private RecurrenceFrequency extractRecurrenceFrequency(ParsedCommand command)
             throws WiagiInvalidInputException {
-        String[] commandAndFrequency = optionalArguments.split("~");
-        if (commandAndFrequency.length == 1) {
+        String frequencyArgument = command.getOptionalArgument(ParsedCommand.FREQUENCY_DELIMITER);
+        if (frequencyArgument == null) {
             return RecurrenceFrequency.NONE;
         }
-        String frequency = commandAndFrequency[1].toLowerCase();
+        String frequency = extractRecurrenceEnd(ParsedCommand.parse(frequencyArgument.toLowerCase()));
 
         switch (frequency) {
         case DAILY_RECURRENCE:
@@ -104,6 +155,85 @@ public class EntryType {
         case YEARLY_RECURRENCE:
             return RecurrenceFrequency.YEARLY;
         default:
+            this.recurrenceRule = extractRecurrenceRule(frequency);
+            return RecurrenceFrequency.CUSTOM;
+        }
+    }
+
+    /**
+     * Extracts the optional {@code until $END_DATE}, {@code count $MAX_OCCURRENCES} and
+     * {@code roll $DIRECTION [$CALENDAR]} parts of the frequency.
+     *
+     * @param frequency Tokenized frequency of recurrence entered by the user
+     * @return Frequency with the end of recurrence and business day roll removed
+     */
+    private String extractRecurrenceEnd(ParsedCommand frequency) throws WiagiInvalidInputException {
+        StringBuilder remainingFrequency = new StringBuilder();
+        int wordCount = frequency.size();
+        for (int i = 0; i < wordCount; i++) {
+            boolean hasValue = i + 1 < wordCount;
+            if (frequency.isWord(i, UNTIL_KEYWORD) && hasValue) {
+                i++;
+                this.recurrenceEndDate = parseRecurrenceEndDate(frequency.getWord(i), ADD_COMMAND_FORMAT);
+            } else if (frequency.isWord(i, COUNT_KEYWORD) && hasValue) {
+                i++;
+                this.maxOccurrences = parseMaxOccurrences(frequency.getWord(i), ADD_COMMAND_FORMAT);
+            } else if (frequency.isWord(i, ROLL_KEYWORD) && hasValue) {
+                i++;
+                this.businessDayRoll = parseBusinessDayRoll(frequency.getWord(i), ADD_COMMAND_FORMAT);
+                this.calendarName = BusinessCalendars.DEFAULT_CALENDAR;
+                if (i + 1 < wordCount && BusinessCalendars.contains(frequency.getWord(i + 1))) {
+                    i++;
+                    this.calendarName = frequency.getWord(i);
+                }
+            } else {
+                remainingFrequency.append(frequency.getWord(i)).append(" ");
+            }
+        }
+        if (recurrenceEndDate != null && recurrenceEndDate.isBefore(date)) {
+            throw new WiagiInvalidInputException(INVALID_RECURRENCE_END + ADD_COMMAND_FORMAT);
+        }
+        return remainingFrequency.toString().trim();
+    }
+
+    private static LocalDate parseRecurrenceEndDate(String endDate, String commandFormat)
+            throws WiagiInvalidInputException {
+        try {
+            return LocalDate.parse(endDate);
+        } catch (DateTimeParseException e) {
+            throw new WiagiInvalidInputException(INCORRECT_DATE_FORMAT + commandFormat);
+        }
+    }
+
+    private static int parseMaxOccurrences(String maxOccurrences, String commandFormat)
+            throws WiagiInvalidInputException {
+        try {
+            int parsedMaxOccurrences = Integer.parseInt(maxOccurrences);
+            if (parsedMaxOccurrences <= 0) {
+                throw new WiagiInvalidInputException(INVALID_RECURRENCE_END + commandFormat);
+            }
+            return parsedMaxOccurrences;
+        } catch (NumberFormatException e) {
+            throw new WiagiInvalidInputException(INVALID_RECURRENCE_END + commandFormat);
+        }
+    }
+
+    private static BusinessDayRoll parseBusinessDayRoll(String direction, String commandFormat)
+            throws WiagiInvalidInputException {
+        switch (direction) {
+        case "forward":
+            return BusinessDayRoll.FORWARD;
+        case "backward":
+            return BusinessDayRoll.BACKWARD;
+        default:
+            throw new WiagiInvalidInputException(INVALID_BUSINESS_DAY_ROLL + commandFormat);
+        }
+    }
+
+    private RecurrenceRule extractRecurrenceRule(String rule) throws WiagiInvalidInputException {
+        try {
+            return RecurrenceRuleParser.parse(rule);
+        } catch (WiagiInvalidInputException e) {
             throw new WiagiInvalidInputException(INVALID_FREQUENCY + ADD_COMMAND_FORMAT);
         }
     }
@@ -115,28 +245,61 @@ public class EntryType {
         return this.date;
     }
 
+    /**
+     * Returns the line that lists the entry. The line is rendered once and kept until a field shown in it is edited,
+     * so listing the same entries again does not render them again.
+     *
+     * @return Line that lists the entry
+     */
     @Override
     public String toString() {
-        String amountString = (amount % 1 == 0) ? String.valueOf((int) amount) : String.valueOf(amount);
-        String returnString = description + LIST_SEPARATOR + amountString + LIST_SEPARATOR + date;
+        if (renderedLine == null) {
+            renderedLine = render();
+        }
+        return renderedLine;
+    }
+
+    private String render() {
+        StringBuilder line = new StringBuilder(description).append(LIST_SEPARATOR);
+        if (amount % 1 == 0) {
+            line.append((int) amount);
+        } else {
+            line.append(amount);
+        }
+        line.append(LIST_SEPARATOR).append(date);
         if (!tag.isEmpty()) {
-            returnString += LIST_SEPARATOR + "Tag: " + tag;
+            line.append(LIST_SEPARATOR).append("Tag: ").append(tag);
         }
-        if (recurrenceFrequency != RecurrenceFrequency.NONE && recurrenceFrequency != null) {
-            returnString += LIST_SEPARATOR + "Recurring: " + recurrenceFrequency;
+        if (recurrenceFrequency == RecurrenceFrequency.CUSTOM) {
+            line.append(LIST_SEPARATOR).append("Recurring: ").append(recurrenceRule);
+        } else if (recurrenceFrequency != RecurrenceFrequency.NONE && recurrenceFrequency != null) {
+            line.append(LIST_SEPARATOR).append("Recurring: ").append(recurrenceFrequency);
         }
-        return returnString;
+        if (recurrenceEndDate != null) {
+            line.append(" until ").append(recurrenceEndDate);
+        }
+        if (maxOccurrences != 0) {
+            line.append(" (").append(maxOccurrences).append(" times)");
+        }
+        if (businessDayRoll != BusinessDayRoll.NONE) {
+            line.append(" rolled ").append(businessDayRoll.toString().toLowerCase()).append(" on ")
+                    .append(calendarName);
+        }
+        return line.toString();
     }
 
     public void editAmount(String newAmount) throws WiagiInvalidInputException{
+        this.renderedLine = null;
         this.amount = CommandUtils.formatAmount(newAmount, EDIT_COMMAND_FORMAT);
     }
 
     public void editDescription(String newDescription){
+        this.renderedLine = null;
         this.description = newDescription;
     }
 
     public void editDate(String date) throws WiagiInvalidInputException{
+        this.renderedLine = null;
         try {
             this.date = LocalDate.parse(date);
         } catch (Exception e) {
@@ -145,9 +308,94 @@ public class EntryType {
     }
 
     public void editDateWithLocalDate(LocalDate date) {
+        this.renderedLine = null;
         this.date = date;
     }
 
+    public void editRecurrenceRule(RecurrenceRule rule) {
+        this.renderedLine = null;
+        this.recurrenceFrequency = RecurrenceFrequency.CUSTOM;
+        this.recurrenceRule = rule;
+    }
+
+    /**
+     * Sets the last date the entry recurs on.
+     *
+     * @param endDate Date to end recurrence on, or {@code NO_RECURRENCE_END} to recur indefinitely
+     */
+    public void editRecurrenceEndDate(String endDate) throws WiagiInvalidInputException {
+        this.renderedLine = null;
+        checkIsRecurring();
+        if (endDate.equals(NO_RECURRENCE_END)) {
+            this.recurrenceEndDate = null;
+            return;
+        }
+        LocalDate newEndDate = parseRecurrenceEndDate(endDate, EDIT_COMMAND_FORMAT);
+        if (newEndDate.isBefore(date)) {
+            throw new WiagiInvalidInputException(INVALID_RECURRENCE_END + EDIT_COMMAND_FORMAT);
+        }
+        this.recurrenceEndDate = newEndDate;
+    }
+
+    /**
+     * Sets the maximum number of times the entry occurs, including the entry itself.
+     *
+     * @param maxOccurrences Maximum number of occurrences, or {@code NO_RECURRENCE_END} to recur indefinitely
+     */
+    public void editMaxOccurrences(String maxOccurrences) throws WiagiInvalidInputException {
+        this.renderedLine = null;
+        checkIsRecurring();
+        if (maxOccurrences.equals(NO_RECURRENCE_END)) {
+            this.maxOccurrences = 0;
+            return;
+        }
+        this.maxOccurrences = parseMaxOccurrences(maxOccurrences, EDIT_COMMAND_FORMAT);
+    }
+
+    public void editRecurrenceEnd(LocalDate endDate, int maxOccurrences) {
+        this.renderedLine = null;
+        this.recurrenceEndDate = endDate;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    /**
+     * Sets the direction the entry rolls in when it recurs on a day that is not a business day.
+     *
+     * @param roll Direction followed by an optional calendar, e.g. {@code backward sg}, or {@code NO_RECURRENCE_END}
+     *             to stop rolling
+     */
+    public void editBusinessDayRoll(String roll) throws WiagiInvalidInputException {
+        checkIsRecurring();
+        ParsedCommand directionAndCalendar = ParsedCommand.parse(roll.toLowerCase());
+        if (directionAndCalendar.size() == 1 && directionAndCalendar.isWord(0, NO_RECURRENCE_END)) {
+            editBusinessDayRoll(BusinessDayRoll.NONE, null);
+            return;
+        }
+        if (directionAndCalendar.size() == 0) {
+            throw new WiagiInvalidInputException(INVALID_BUSINESS_DAY_ROLL + EDIT_COMMAND_FORMAT);
+        }
+        BusinessDayRoll newRoll = parseBusinessDayRoll(directionAndCalendar.getWord(0), EDIT_COMMAND_FORMAT);
+        if (directionAndCalendar.size() == 1) {
+            editBusinessDayRoll(newRoll, BusinessCalendars.DEFAULT_CALENDAR);
+        } else if (directionAndCalendar.size() == 2 && BusinessCalendars.contains(directionAndCalendar.getWord(1))) {
+            editBusinessDayRoll(newRoll, directionAndCalendar.getWord(1));
+        } else {
+            throw new WiagiInvalidInputException(INVALID_BUSINESS_DAY_ROLL + EDIT_COMMAND_FORMAT);
+        }
+    }
+
+    public void editBusinessDayRoll(BusinessDayRoll roll, String calendarName) {
+        this.renderedLine = null;
+        this.businessDayRoll = roll;
+        this.calendarName = calendarName;
+    }
+
+    private void checkIsRecurring() throws WiagiInvalidInputException {
+        if (recurrenceFrequency == RecurrenceFrequency.NONE || recurrenceFrequency == null) {
+            throw new WiagiInvalidInputException(NOT_RECURRING + EDIT_COMMAND_FORMAT);
+        }
+    }
+
     public void editLastRecurrence(LocalDate date) {
         this.lastRecurrence = date;
     }
@@ -161,6 +409,7 @@ public class EntryType {
     }
 
     public void editTag(String newTag) {
+        this.renderedLine = null;
         this.tag = newTag;
     }
 
@@ -176,6 +425,26 @@ public class EntryType {
         return recurrenceFrequency;
     }
 
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    public LocalDate getRecurrenceEndDate() {
+        return recurrenceEndDate;
+    }
+
+    public int getMaxOccurrences() {
+        return maxOccurrences;
+    }
+
+    public BusinessDayRoll getBusinessDayRoll() {
+        return businessDayRoll;
+    }
+
+    public String getCalendarName() {
+        return calendarName;
+    }
+
     public int getDayOfRecurrence() {
         return dayOfRecurrence;
     }
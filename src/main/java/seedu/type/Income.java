@@ -1,5 +1,6 @@
 package seedu.type;
 
+import seedu.classes.ParsedCommand;
 import seedu.recurrence.RecurrenceFrequency;
 
 import java.time.LocalDate;
@@ -14,7 +15,7 @@ public class Income extends EntryType {
         super(entry);
     }
 
-    public Income(String fullCommand, double amount, String description) {
-        super(fullCommand, amount, description);
+    public Income(ParsedCommand command, double amount, String description) {
+        super(command, amount, description);
     }
 }
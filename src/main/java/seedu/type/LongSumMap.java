@@ -0,0 +1,99 @@
+package seedu.type;
+
+import java.util.Arrays;
+
+/**
+ * Maps long keys to running sums without boxing either of them. Keys are kept in an open-addressing table with
+ * linear probing, so adding to a sum is a few array reads instead of a lookup in a map of objects.
+ */
+class LongSumMap {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    private long[] keys = newKeys(INITIAL_CAPACITY);
+    private long[] sums = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private static long[] newKeys(int capacity) {
+        long[] emptyKeys = new long[capacity];
+        Arrays.fill(emptyKeys, EMPTY_KEY);
+        return emptyKeys;
+    }
+
+    /**
+     * Adds an amount to the sum of the key, starting the sum at zero if the key is new.
+     *
+     * @param key Key of the sum, which must not be {@code Long.MIN_VALUE}
+     * @param amount Amount to add
+     */
+    void add(long key, long amount) {
+        assert key != EMPTY_KEY : "Key is reserved for empty slots";
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = key;
+            size++;
+            if (size * 2 > keys.length) {
+                sums[slot] = amount;
+                grow();
+                return;
+            }
+        }
+        sums[slot] += amount;
+    }
+
+    long get(long key) {
+        int slot = slotOf(key);
+        return keys[slot] == EMPTY_KEY ? 0 : sums[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the keys in no particular order.
+     *
+     * @return New array of the keys
+     */
+    long[] keys() {
+        long[] presentKeys = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != EMPTY_KEY) {
+                presentKeys[count++] = key;
+            }
+        }
+        return presentKeys;
+    }
+
+    /**
+     * Returns the slot holding the key, or the empty slot where it would be added.
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldSums = sums;
+        keys = newKeys(oldKeys.length * 2);
+        sums = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                sums[slot] = oldSums[i];
+            }
+        }
+    }
+}
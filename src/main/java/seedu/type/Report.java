@@ -0,0 +1,138 @@
+package seedu.type;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Holds the totals of a list of entries grouped by month and tag, by year and by day of the week. All of the groups
+ * are summed in a single pass over the list. Totals are kept in cents in maps keyed by packed integers: a month and
+ * tag are packed as the number of months since year 0 in the upper half of a long and the number of the tag in the
+ * lower half, so summing an entry does not create a key object.
+ */
+public class Report {
+    private static final int TAG_BITS = 32;
+    private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+    private static final int MONTHS_IN_YEAR = 12;
+
+    private final LongSumMap monthTagCents = new LongSumMap();
+    private final LongSumMap yearCents = new LongSumMap();
+    private final long[] dayOfWeekCents = new long[DayOfWeek.values().length];
+    private final HashMap<String, Integer> tagNumbers = new HashMap<>();
+    private final ArrayList<String> tags = new ArrayList<>();
+    private long[] sortedMonthTags;
+    private int[] tagsByRank;
+
+    private Report() {
+    }
+
+    /**
+     * Sums the entries of the list into every group in one pass.
+     *
+     * @param list List of entries
+     * @return Report of the list
+     */
+    public static Report of(List<? extends EntryType> list) {
+        Report report = new Report();
+        String lastTag = null;
+        int lastTagNumber = 0;
+        for (EntryType entry : list) {
+            String tag = entry.getTag();
+            if (!tag.equals(lastTag)) {
+                lastTag = tag;
+                lastTagNumber = report.numberTag(tag);
+            }
+            report.addEntry(entry.getDate(), lastTagNumber, Math.round(entry.getAmount() * 100.0));
+        }
+        report.sortMonthTags();
+        return report;
+    }
+
+    private int numberTag(String tag) {
+        Integer tagNumber = tagNumbers.get(tag);
+        if (tagNumber == null) {
+            tagNumber = tags.size();
+            tagNumbers.put(tag, tagNumber);
+            tags.add(tag);
+        }
+        return tagNumber;
+    }
+
+    private void addEntry(LocalDate date, int tagNumber, long cents) {
+        long month = (long) date.getYear() * MONTHS_IN_YEAR + date.getMonthValue() - 1;
+        monthTagCents.add(month << TAG_BITS | tagNumber, cents);
+        yearCents.add(date.getYear(), cents);
+        dayOfWeekCents[date.getDayOfWeek().ordinal()] += cents;
+    }
+
+    /**
+     * Orders the month and tag groups by month and then by tag name, by sorting packed keys whose tag number is
+     * replaced by the rank of the tag name.
+     */
+    private void sortMonthTags() {
+        Integer[] byName = new Integer[tags.size()];
+        for (int i = 0; i < byName.length; i++) {
+            byName[i] = i;
+        }
+        Arrays.sort(byName, (first, second) -> tags.get(first).compareTo(tags.get(second)));
+        int[] tagRanks = new int[tags.size()];
+        tagsByRank = new int[tags.size()];
+        for (int rank = 0; rank < byName.length; rank++) {
+            tagRanks[byName[rank]] = rank;
+            tagsByRank[rank] = byName[rank];
+        }
+        sortedMonthTags = monthTagCents.keys();
+        for (int i = 0; i < sortedMonthTags.length; i++) {
+            long key = sortedMonthTags[i];
+            sortedMonthTags[i] = (key & ~TAG_MASK) | tagRanks[(int) (key & TAG_MASK)];
+        }
+        Arrays.sort(sortedMonthTags);
+    }
+
+    public int getMonthTagCount() {
+        return sortedMonthTags.length;
+    }
+
+    /**
+     * Returns the month of a month and tag group, in order of month and then tag.
+     *
+     * @param index Index of the group, from zero until {@code getMonthTagCount}
+     * @return Month of the group
+     */
+    public YearMonth getMonth(int index) {
+        long month = sortedMonthTags[index] >> TAG_BITS;
+        return YearMonth.of((int) Math.floorDiv(month, MONTHS_IN_YEAR), Math.floorMod(month, MONTHS_IN_YEAR) + 1);
+    }
+
+    public String getTag(int index) {
+        return tags.get(tagsByRank[(int) (sortedMonthTags[index] & TAG_MASK)]);
+    }
+
+    public double getMonthTagTotal(int index) {
+        long key = sortedMonthTags[index];
+        return monthTagCents.get((key & ~TAG_MASK) | tagsByRank[(int) (key & TAG_MASK)]) / 100.0;
+    }
+
+    /**
+     * Returns the years with entries in increasing order.
+     *
+     * @return Years with entries
+     */
+    public long[] getYears() {
+        long[] years = yearCents.keys();
+        Arrays.sort(years);
+        return years;
+    }
+
+    public double getYearTotal(long year) {
+        return yearCents.get(year) / 100.0;
+    }
+
+    public double getDayOfWeekTotal(DayOfWeek dayOfWeek) {
+        return dayOfWeekCents[dayOfWeek.ordinal()] / 100.0;
+    }
+}
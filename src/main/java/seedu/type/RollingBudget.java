@@ -0,0 +1,119 @@
+package seedu.type;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Represents a budget for the spendings of any rolling window of days, such as the last 30 days. The window is kept
+ * as a ring of day buckets holding the total of each day in cents, together with the total of the whole window.
+ * Moving the window forward by a day drops the oldest bucket and takes in the newest one, and a spending only
+ * changes the bucket of its day, so both take constant time instead of summing the window again.
+ */
+public class RollingBudget {
+    private final int days;
+    private final double budget;
+    private final long[] bucketCents;
+    private final HashMap<Long, Long> futureCents = new HashMap<>();
+    private long windowCents;
+    private long lastDay;
+
+    /**
+     * Constructs an empty rolling budget whose window ends on the given date.
+     *
+     * @param days Number of days in the window
+     * @param budget Most that may be spent within the window
+     * @param today Last day of the window
+     */
+    RollingBudget(int days, double budget, LocalDate today) {
+        assert days > 0 : "Window should have at least one day";
+        this.days = days;
+        this.budget = Math.round(budget * 100.0) / 100.0;
+        this.bucketCents = new long[days];
+        this.lastDay = today.toEpochDay();
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public double getBudget() {
+        return budget;
+    }
+
+    /**
+     * Adds an amount to the bucket of its date, or removes it if the amount is negative. Amounts dated after the
+     * window are held until the window reaches them, and amounts dated before the window are left out.
+     *
+     * @param date Date of the spending
+     * @param amount Amount of the spending
+     */
+    void addToWindow(LocalDate date, double amount) {
+        long day = date.toEpochDay();
+        long cents = Math.round(amount * 100.0);
+        if (day > lastDay) {
+            futureCents.merge(day, cents, (total, added) -> total + added == 0 ? null : total + added);
+        } else if (day > lastDay - days) {
+            bucketCents[bucketOf(day)] += cents;
+            windowCents += cents;
+        }
+    }
+
+    /**
+     * Moves the window forward so that it ends on the given date.
+     *
+     * @param today Last day of the window
+     * @return False if the date is before the end of the window, in which case the window cannot be moved
+     */
+    boolean advanceTo(LocalDate today) {
+        long newLastDay = today.toEpochDay();
+        if (newLastDay < lastDay) {
+            return false;
+        }
+        if (newLastDay - lastDay >= days) {
+            skipTo(newLastDay);
+            return true;
+        }
+        while (lastDay < newLastDay) {
+            lastDay++;
+            int bucket = bucketOf(lastDay);
+            long enteringCents = futureCents.containsKey(lastDay) ? futureCents.remove(lastDay) : 0;
+            windowCents += enteringCents - bucketCents[bucket];
+            bucketCents[bucket] = enteringCents;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the window past all of its current days, so that only held amounts can fall within it.
+     */
+    private void skipTo(long newLastDay) {
+        lastDay = newLastDay;
+        windowCents = 0;
+        Arrays.fill(bucketCents, 0);
+        futureCents.entrySet().removeIf(dayCents -> {
+            long day = dayCents.getKey();
+            if (day > newLastDay) {
+                return false;
+            }
+            if (day > newLastDay - days) {
+                bucketCents[bucketOf(day)] += dayCents.getValue();
+                windowCents += dayCents.getValue();
+            }
+            return true;
+        });
+    }
+
+    private int bucketOf(long day) {
+        return Math.floorMod(day, days);
+    }
+
+    /**
+     * Returns the total spending within the window.
+     *
+     * @return Total spending of the window
+     */
+    public double getSpending() {
+        return windowCents / 100.0;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.type;
 
+import seedu.classes.ParsedCommand;
 import seedu.recurrence.RecurrenceFrequency;
 
 import java.time.LocalDate;
@@ -14,7 +15,7 @@ public class Spending extends EntryType {
         super(other);
     }
 
-    public Spending(String fullCommand, double amount, String description) {
-        super(fullCommand, amount, description);
+    public Spending(ParsedCommand command, double amount, String description) {
+        super(command, amount, description);
     }
 }
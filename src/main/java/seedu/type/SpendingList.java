@@ -1,20 +1,25 @@
 package seedu.type;
 
-import seedu.classes.Parser;
 import seedu.classes.Ui;
-import seedu.recurrence.Recurrence;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.RecurrenceUpdater;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
- * Represents a list of spendings with budget settings.
+ * Represents a list of spendings with budget settings. Besides the budgets of the whole list, each tag may have its
+ * own budgets, and the spendings of each tag are totalled as spendings are added, edited and removed, so that the
+ * budgets of a tag are checked without going through the list.
  */
-public class SpendingList extends ArrayList<Spending> {
+public class SpendingList extends EntryList<Spending> {
     private double dailyBudget;
     private double monthlyBudget;
     private double yearlyBudget;
+    private final HashMap<String, TagBudget> tagBudgets = new HashMap<>();
+    private RollingBudget rollingBudget;
 
     /**
      * Constructs an empty SpendingList with default budget values.
@@ -32,10 +37,112 @@ public class SpendingList extends ArrayList<Spending> {
      * @param spendings The SpendingList to copy data from.
      */
     public SpendingList(SpendingList spendings) {
-        super(spendings);  // Initialise with data in storage
+        super();
         dailyBudget = 0;
         monthlyBudget = 0;
         yearlyBudget = 0;
+        addAll(spendings);  // Initialise with data in storage
+    }
+
+    @Override
+    protected void addToTotals(EntryType spending, int sign) {
+        super.addToTotals(spending, sign);
+        if (spending == null || spending.getDate() == null) {
+            return;
+        }
+        getTagBudget(spending.getTag()).addToTotals(spending.getDate(), sign * spending.getAmount());
+        if (rollingBudget != null) {
+            rollingBudget.addToWindow(spending.getDate(), sign * spending.getAmount());
+        }
+    }
+
+    @Override
+    protected void clearTotals() {
+        super.clearTotals();
+        for (TagBudget tagBudget : tagBudgets.values()) {
+            tagBudget.clearTotals();
+        }
+        if (rollingBudget != null) {
+            rollingBudget = new RollingBudget(rollingBudget.getDays(), rollingBudget.getBudget(), WiagiClock.today());
+        }
+    }
+
+    /**
+     * Returns the budget for a rolling window of days.
+     *
+     * @return Rolling budget, or null if there is none
+     */
+    public RollingBudget getRollingBudget() {
+        return rollingBudget;
+    }
+
+    /**
+     * Sets the budget for a rolling window of days, filling the window from the list once.
+     *
+     * @param days Number of days in the window
+     * @param budget Most that may be spent within the window, or zero to remove the rolling budget
+     */
+    public void setRollingBudget(int days, double budget) {
+        if (budget <= 0 || days <= 0) {
+            rollingBudget = null;
+            return;
+        }
+        rollingBudget = new RollingBudget(days, budget, WiagiClock.today());
+        for (Spending spending : this) {
+            if (spending != null && spending.getDate() != null) {
+                rollingBudget.addToWindow(spending.getDate(), spending.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Calculates the total spending of the rolling window that ends today, moving the window forward to today first.
+     *
+     * @return Total spending of the rolling window, or zero if there is no rolling budget
+     */
+    public double getRollingSpending() {
+        if (rollingBudget == null) {
+            return 0;
+        }
+        if (!rollingBudget.advanceTo(WiagiClock.today())) {
+            recountTotals();
+        }
+        return rollingBudget.getSpending();
+    }
+
+    /**
+     * Returns the budgets and running totals of a tag.
+     *
+     * @param tag Tag of the spendings, which is empty for untagged spendings
+     * @return Budgets and totals of the tag
+     */
+    public TagBudget getTagBudget(String tag) {
+        return tagBudgets.computeIfAbsent(tag == null ? "" : tag, key -> new TagBudget());
+    }
+
+    /**
+     * Returns the budgets and running totals of a tag without adding any for a tag that has none.
+     *
+     * @param tag Tag of the spendings, which is empty for untagged spendings
+     * @return Budgets and totals of the tag, or null if the tag has neither
+     */
+    public TagBudget findTagBudget(String tag) {
+        return tagBudgets.get(tag == null ? "" : tag);
+    }
+
+    /**
+     * Returns the tags that have a budget set, in alphabetical order.
+     *
+     * @return Budgets of the tags that have one, keyed by tag
+     */
+    public TreeMap<String, TagBudget> getBudgetedTags() {
+        TreeMap<String, TagBudget> budgetedTags = new TreeMap<>();
+        for (Map.Entry<String, TagBudget> tagBudget : tagBudgets.entrySet()) {
+            if (tagBudget.getValue().hasBudget()) {
+                budgetedTags.put(tagBudget.getKey(), tagBudget.getValue());
+            }
+        }
+        return budgetedTags;
     }
 
     /**
@@ -98,7 +205,7 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current month.
      */
     public double getMonthlySpending() {
-        return getMonthlySpending(LocalDate.now());
+        return getMonthlySpending(WiagiClock.today());
     }
 
     /**
@@ -108,13 +215,7 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the specified month.
      */
     public double getMonthlySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (isThisMonth(spending.getDate(), currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
+        return sumCents(spending -> isThisMonth(spending.getDate(), currentDate)) / 100.0;
     }
 
     /**
@@ -123,7 +224,7 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current day.
      */
     public double getDailySpending() {
-        return getDailySpending(LocalDate.now());
+        return getDailySpending(WiagiClock.today());
     }
 
     /**
@@ -133,13 +234,7 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the specified day.
      */
     public double getDailySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (spending.getDate().isEqual(currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
+        return sumCents(spending -> spending.getDate().isEqual(currentDate)) / 100.0;
     }
 
     /**
@@ -148,7 +243,7 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the current year.
      */
     public double getYearlySpending() {
-        return getYearlySpending(LocalDate.now());
+        return getYearlySpending(WiagiClock.today());
     }
 
     /**
@@ -158,20 +253,14 @@ public class SpendingList extends ArrayList<Spending> {
      * @return The total spending for the specified year.
      */
     public double getYearlySpending(LocalDate currentDate){
-        double spendingTotal = 0;
-        for (Spending spending : this) {
-            if (isThisYear(spending.getDate(), currentDate)) {
-                spendingTotal = spendingTotal + spending.getAmount();
-            }
-        }
-        return spendingTotal;
+        return sumCents(spending -> isThisYear(spending.getDate(), currentDate)) / 100.0;
     }
 
-    private boolean isThisYear(LocalDate date, LocalDate currentDate) {
+    private static boolean isThisYear(LocalDate date, LocalDate currentDate) {
         return date.getYear() == currentDate.getYear();
     }
 
-    private boolean isThisMonth(LocalDate date, LocalDate currentDate) {
+    private static boolean isThisMonth(LocalDate date, LocalDate currentDate) {
         return date.getMonth().equals(currentDate.getMonth()) && isThisYear(date, currentDate);
     }
 
@@ -180,18 +269,30 @@ public class SpendingList extends ArrayList<Spending> {
      * After updating, sorts the list by spending dates.
      */
     public void updateRecurrence() {
-        int size = this.size();
-        for (int i = 0; i < size; i++) {
-            Spending spending = this.get(i);
-            Recurrence recurrence = Parser.parseRecurrence(spending);
-            if (recurrence != null) {
-                recurrence.checkSpendingRecurrence(spending, this, true);
-            }
-        }
-        this.sort(Comparator.comparing(EntryType::getDate));
+        RecurrenceUpdater.updateRecurrence(this, SpendingList::new);
     }
 
+    /**
+     * Checks the budgets of the whole list and of every tag that has a budget.
+     */
     public void checkOverspend() {
+        checkListOverspend();
+        for (String tag : getBudgetedTags().keySet()) {
+            checkTagOverspend(tag);
+        }
+    }
+
+    /**
+     * Checks the budgets of the whole list and of the tag of a spending that was just added.
+     *
+     * @param tag Tag of the added spending
+     */
+    public void checkOverspend(String tag) {
+        checkListOverspend();
+        checkTagOverspend(tag);
+    }
+
+    private void checkListOverspend() {
         double dailyBudgetLeft = getDailyBudget() - getDailySpending();
         double monthlyBudgetLeft = getMonthlyBudget() - getMonthlySpending();
         double yearlyBudgetLeft = getYearlyBudget() - getYearlySpending();
@@ -204,7 +305,34 @@ public class SpendingList extends ArrayList<Spending> {
         if (yearlyBudgetLeft  < 0) {
             Ui.printOverspendMessage("yearly", yearlyBudgetLeft);
         }
+        if (rollingBudget == null) {
+            return;
+        }
+        double rollingBudgetLeft = rollingBudget.getBudget() - getRollingSpending();
+        if (rollingBudgetLeft < 0) {
+            Ui.printOverspendMessage(rollingBudget.getDays() + "-day rolling budget", rollingBudgetLeft);
+        }
     }
-}
 
+    /**
+     * Checks the budgets of a tag against its running totals for today, without going through the list.
+     *
+     * @param tag Tag whose budgets are checked
+     */
+    public void checkTagOverspend(String tag) {
+        TagBudget tagBudget = tagBudgets.get(tag);
+        if (tagBudget == null || !tagBudget.hasBudget()) {
+            return;
+        }
+        LocalDate today = WiagiClock.today();
+        checkTagOverspend(tag, "daily", tagBudget.getDailyBudget(), tagBudget.getDailySpending(today));
+        checkTagOverspend(tag, "monthly", tagBudget.getMonthlyBudget(), tagBudget.getMonthlySpending(today));
+        checkTagOverspend(tag, "yearly", tagBudget.getYearlyBudget(), tagBudget.getYearlySpending(today));
+    }
 
+    private static void checkTagOverspend(String tag, String timeRange, double budget, double spending) {
+        if (budget > 0 && spending > budget) {
+            Ui.printOverspendMessage(timeRange + " budget for " + tag, budget - spending);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.type;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+
+/**
+ * Represents the budgets of a tag together with running totals of the spendings with the tag. The totals are kept
+ * per day, month and year in cents, so that removing an amount always cancels out adding it, and are updated by
+ * {@code SpendingList} whenever a spending is added, edited or removed.
+ */
+public class TagBudget {
+    private double dailyBudget;
+    private double monthlyBudget;
+    private double yearlyBudget;
+    private final HashMap<LocalDate, Long> dailyCents = new HashMap<>();
+    private final HashMap<YearMonth, Long> monthlyCents = new HashMap<>();
+    private final HashMap<Integer, Long> yearlyCents = new HashMap<>();
+
+    public double getDailyBudget() {
+        return dailyBudget;
+    }
+
+    public double getMonthlyBudget() {
+        return monthlyBudget;
+    }
+
+    public double getYearlyBudget() {
+        return yearlyBudget;
+    }
+
+    public void setDailyBudget(double dailyBudget) {
+        this.dailyBudget = Math.round(dailyBudget * 100.0) / 100.0;
+    }
+
+    public void setMonthlyBudget(double monthlyBudget) {
+        this.monthlyBudget = Math.round(monthlyBudget * 100.0) / 100.0;
+    }
+
+    public void setYearlyBudget(double yearlyBudget) {
+        this.yearlyBudget = Math.round(yearlyBudget * 100.0) / 100.0;
+    }
+
+    /**
+     * Checks if any budget is set for the tag.
+     *
+     * @return True if the daily, monthly or yearly budget is set
+     */
+    public boolean hasBudget() {
+        return dailyBudget > 0 || monthlyBudget > 0 || yearlyBudget > 0;
+    }
+
+    /**
+     * Adds an amount to the totals of the day, month and year of the date, or removes it if the amount is negative.
+     *
+     * @param date Date of the spending
+     * @param amount Amount of the spending
+     */
+    void addToTotals(LocalDate date, double amount) {
+        long cents = Math.round(amount * 100.0);
+        dailyCents.merge(date, cents, TagBudget::sumOrRemove);
+        monthlyCents.merge(YearMonth.from(date), cents, TagBudget::sumOrRemove);
+        yearlyCents.merge(date.getYear(), cents, TagBudget::sumOrRemove);
+    }
+
+    private static Long sumOrRemove(Long total, Long cents) {
+        long sum = total + cents;
+        return sum == 0 ? null : sum;
+    }
+
+    void clearTotals() {
+        dailyCents.clear();
+        monthlyCents.clear();
+        yearlyCents.clear();
+    }
+
+    public double getDailySpending(LocalDate date) {
+        return dailyCents.getOrDefault(date, 0L) / 100.0;
+    }
+
+    public double getMonthlySpending(LocalDate date) {
+        return monthlyCents.getOrDefault(YearMonth.from(date), 0L) / 100.0;
+    }
+
+    public double getYearlySpending(LocalDate date) {
+        return yearlyCents.getOrDefault(date.getYear(), 0L) / 100.0;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.wiagi;
+
+import seedu.classes.CommandPipeline;
+import seedu.classes.ParsedCommand;
+import seedu.classes.Parser;
+import seedu.classes.Ui;
+import seedu.classes.WiagiLogger;
+import seedu.commands.Command;
+import seedu.commands.Transaction;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.logging.Level;
+
+/**
+ * Runs commands read from a file one line at a time. Lines are read and tokenized by a {@code CommandPipeline} while
+ * earlier commands execute. The output of every command is discarded and only failed commands are reported, followed
+ * by a summary of the run.
+ */
+public class BatchRunner {
+    private static final String COMMENT_PREFIX = "#";
+    private static final long NANOSECONDS_PER_MILLISECOND = 1_000_000;
+    private static final long MILLISECONDS_PER_SECOND = 1_000;
+
+    /**
+     * Executes every command in the reader until the end of the input or a {@code bye} command. Blank lines and lines
+     * starting with {@code #} are skipped. Changes of a transaction that is still open at the end are discarded and
+     * counted as a failed command.
+     *
+     * @param commands Reader of the commands to run
+     * @param incomes List of incomes
+     * @param spendings List of spendings
+     * @throws IOException If the commands cannot be read
+     */
+    public static void run(BufferedReader commands, IncomeList incomes, SpendingList spendings) throws IOException {
+        PrintStream out = System.out;
+        int commandCount = 0;
+        int errorCount = 0;
+        long startTime = System.nanoTime();
+        CommandPipeline pipeline = new CommandPipeline(commands);
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            int lineNumber = 0;
+            ParsedCommand line;
+            while ((line = pipeline.take()) != null) {
+                lineNumber++;
+                if (line.size() == 0 || line.getInput().startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                commandCount++;
+                Command command = Parser.parseCommand(line);
+                String error = execute(command, incomes, spendings);
+                Ui.flush();
+                if (error != null) {
+                    errorCount++;
+                    out.println(Ui.TAB + "Line " + lineNumber + ": " + error);
+                }
+                if (command.isExit()) {
+                    break;
+                }
+            }
+        } finally {
+            Ui.flush();
+            System.setOut(out);
+        }
+        if (Transaction.isOpen()) {
+            errorCount++;
+            Ui.printWithTab("Discarded " + Transaction.rollback() + " uncommitted changes");
+        }
+        long elapsedMilliseconds = (System.nanoTime() - startTime) / NANOSECONDS_PER_MILLISECOND;
+        long commandsPerSecond = commandCount * MILLISECONDS_PER_SECOND / Math.max(1, elapsedMilliseconds);
+        Ui.printWithTab("Ran " + commandCount + " commands in " + elapsedMilliseconds + " ms ("
+                + commandsPerSecond + " commands/s)");
+        Ui.printWithDoubleTab("Failed commands: " + errorCount);
+        Ui.printWithDoubleTab("Reading and parsing took " + pipeline.getReadNanos() / NANOSECONDS_PER_MILLISECOND
+                + " ms, of which " + pipeline.getOverlapNanos() / NANOSECONDS_PER_MILLISECOND
+                + " ms overlapped with execution");
+    }
+
+    /**
+     * Executes a single command.
+     *
+     * @return Error message if the command failed, or null if it succeeded
+     */
+    private static String execute(Command command, IncomeList incomes, SpendingList spendings) {
+        int previousErrorCount = Ui.getErrorCount();
+        try {
+            command.execute(incomes, spendings);
+        } catch (RuntimeException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Batch command failed", e);
+            return e.toString();
+        }
+        if (Ui.getErrorCount() != previousErrorCount) {
+            return Ui.getLastError();
+        }
+        return null;
+    }
+}
@@ -1,18 +1,34 @@
 package seedu.wiagi;
 
+import seedu.classes.BatchOptions;
+import seedu.classes.ConsoleSink;
 import seedu.classes.Password;
 import seedu.classes.Parser;
 import seedu.classes.WiagiLogger;
 import seedu.storage.Storage;
 import seedu.commands.Command;
+import seedu.exception.WiagiInvalidInputException;
 import seedu.type.IncomeList;
 import seedu.classes.Ui;
 import seedu.type.SpendingList;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
 import java.util.logging.Level;
 
+import static seedu.classes.Constants.FORMAT_USAGE;
+import static seedu.classes.Constants.READ_BATCH_FILE_ERROR;
+import static seedu.classes.Constants.WRONG_BATCH_PASSWORD;
+
 public class Wiagi {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int EXIT_FAILURE = 1;
+    private static final String FORMAT_FLAG = "--format=";
+    private static final String TEXT_FORMAT = "text";
+    private static final String JSONL_FORMAT = "jsonl";
 
     private static Storage storage;
     private static IncomeList incomes;
@@ -31,34 +47,121 @@ public class Wiagi {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             Ui.printWithTab("Saving data...");
             storage.save(incomes, spendings);
+            Ui.flush();
         }));
         Ui.welcome();
-        int password = Storage.getPassword();
-        boolean isLoginSuccessful = false;
-        while (!isLoginSuccessful) {
-            Ui.printWithTab("Please Enter Login Credentials:");
-            String loginCredentials = Ui.readCommand();
-            isLoginSuccessful = Password.validate(password, loginCredentials);
-            Ui.printSeparator();
-        }
+        login();
 
         boolean isExit = false;
         while (!isExit) {
             try {
-                String fullCommand = Ui.readCommand();
-                Command c = Parser.parseUserInput(fullCommand);
+                Command c = Parser.parseCommand(Ui.readParsedCommand());
                 c.execute(incomes, spendings);
                 isExit = c.isExit();
+                if (c.hasChangesToSave()) {
+                    storage.save(incomes, spendings);
+                }
                 Ui.printSeparator();
+                Ui.flush();
             } catch (NoSuchElementException e) {
                 WiagiLogger.logger.log(Level.WARNING, "Nothing to read", e);
+                isExit = true;
             }
         }
         storage.save(incomes, spendings);
     }
 
+    private void login() {
+        int password = Storage.getPassword();
+        boolean isLoginSuccessful = false;
+        while (!isLoginSuccessful) {
+            Ui.printWithTab("Please Enter Login Credentials:");
+            String loginCredentials = Ui.readCommand();
+            isLoginSuccessful = Password.validate(password, loginCredentials);
+            Ui.printSeparator();
+        }
+    }
+
+    /**
+     * Runs the commands in the batch file without prompting the user and saves the data once at the end. The login
+     * prompt is skipped if a password is given, and the run stops if it is wrong.
+     *
+     * @param options Options of the batch run
+     * @throws WiagiInvalidInputException If the password is wrong or the batch file cannot be read
+     */
+    private void runBatch(BatchOptions options) throws WiagiInvalidInputException {
+        if (options.getPassword() == null) {
+            login();
+        } else if (!Password.validate(Storage.getPassword(), options.getPassword())) {
+            throw new WiagiInvalidInputException(WRONG_BATCH_PASSWORD);
+        }
+        Ui.setBatchOptions(options);
+        try (BufferedReader commands = Files.newBufferedReader(options.getCommandFile())) {
+            BatchRunner.run(commands, incomes, spendings);
+        } catch (IOException e) {
+            WiagiLogger.logger.log(Level.WARNING, "Unable to read batch file", e);
+            throw new WiagiInvalidInputException(READ_BATCH_FILE_ERROR);
+        } finally {
+            Ui.setBatchOptions(null);
+        }
+        storage.save(incomes, spendings);
+        spendings.checkOverspend();
+    }
+
+    /**
+     * Starts the program, or runs a batch file if one is given. Invalid arguments, a wrong batch password and an
+     * unreadable batch file are printed as errors and end the program with a non-zero exit status.
+     *
+     * @param args Arguments of the program
+     */
     public static void main(String[] args) {
-        new Wiagi().run();
+        Ui.setOutput(new ConsoleSink(OUTPUT_BUFFER_SIZE));
+        boolean isFailed = false;
+        try {
+            String[] otherArgs = applyOutputFormat(args);
+            if (otherArgs.length == 0) {
+                new Wiagi().run();
+                return;
+            }
+            BatchOptions options = BatchOptions.parse(otherArgs);
+            new Wiagi().runBatch(options);
+        } catch (WiagiInvalidInputException e) {
+            Ui.printError(e.getMessage());
+            isFailed = true;
+        } finally {
+            Ui.flush();
+        }
+        if (isFailed) {
+            System.exit(EXIT_FAILURE);
+        }
+    }
+
+    /**
+     * Sets the output format from any {@code --format=} argument, which applies to both interactive and batch runs.
+     *
+     * @param args Arguments of the program
+     * @return Arguments other than the output format
+     * @throws WiagiInvalidInputException If the output format is not known
+     */
+    private static String[] applyOutputFormat(String[] args) throws WiagiInvalidInputException {
+        ArrayList<String> otherArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith(FORMAT_FLAG)) {
+                otherArgs.add(arg);
+                continue;
+            }
+            switch (arg.substring(FORMAT_FLAG.length())) {
+            case TEXT_FORMAT:
+                Ui.setJsonLines(false);
+                break;
+            case JSONL_FORMAT:
+                Ui.setJsonLines(true);
+                break;
+            default:
+                throw new WiagiInvalidInputException(FORMAT_USAGE);
+            }
+        }
+        return otherArgs.toArray(new String[0]);
     }
 }
 
@@ -0,0 +1,42 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+import seedu.exception.WiagiInvalidInputException;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchOptionsTest {
+    @Test
+    public void parse_onlyBatchFile_defaultAnswers() {
+        BatchOptions options = BatchOptions.parse(new String[]{"--batch", "commands.txt"});
+        assertEquals(Path.of("commands.txt"), options.getCommandFile());
+        assertNull(options.getPassword());
+        assertEquals("y", options.getBacklogAnswer());
+        assertEquals("1", options.getTimeRangeOption());
+        assertEquals("n", options.getStatisticsAnswer());
+    }
+
+    @Test
+    public void parse_allFlags_answersFromFlags() {
+        BatchOptions options = BatchOptions.parse(new String[]{"--password", "secret", "--batch", "commands.txt",
+            "--backlog", "N", "--list-range", "4", "--list-statistics", "y"});
+        assertEquals("secret", options.getPassword());
+        assertEquals("n", options.getBacklogAnswer());
+        assertEquals("4", options.getTimeRangeOption());
+        assertEquals("y", options.getStatisticsAnswer());
+    }
+
+    @Test
+    public void parse_invalidFlags_exceptionThrown() {
+        assertThrows(WiagiInvalidInputException.class, () -> BatchOptions.parse(new String[]{"--password", "x"}));
+        assertThrows(WiagiInvalidInputException.class, () -> BatchOptions.parse(new String[]{"--batch"}));
+        assertThrows(WiagiInvalidInputException.class,
+                () -> BatchOptions.parse(new String[]{"--batch", "a.txt", "--list-range", "5"}));
+        assertThrows(WiagiInvalidInputException.class,
+                () -> BatchOptions.parse(new String[]{"--batch", "a.txt", "--verbose", "y"}));
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.classes;
+
+/**
+ * Keeps all output in memory instead of printing it, so that it can be checked.
+ */
+public class CapturingSink implements OutputSink {
+    private final StringBuilder output = new StringBuilder();
+
+    @Override
+    public void print(CharSequence text) {
+        output.append(text);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    public String getOutput() {
+        return output.toString();
+    }
+
+    public void clear() {
+        output.setLength(0);
+    }
+}
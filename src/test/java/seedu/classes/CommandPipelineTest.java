@@ -0,0 +1,58 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandPipelineTest {
+    @Test
+    public void take_manyLines_tokenizedInOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            input.append("  add spending ").append(i).append(" lunch  ").append(System.lineSeparator());
+        }
+        CommandPipeline pipeline = new CommandPipeline(new BufferedReader(new StringReader(input.toString())));
+        for (int i = 0; i < 5000; i++) {
+            ParsedCommand command = pipeline.take();
+            assertEquals("add spending " + i + " lunch", command.getInput());
+            assertEquals(String.valueOf(i), command.getWord(2));
+        }
+        assertNull(pipeline.take());
+        assertNull(pipeline.take());
+        assertTrue(pipeline.getOverlapNanos() <= pipeline.getReadNanos());
+    }
+
+    @Test
+    public void take_readFails_exceptionThrownAfterEarlierLines() throws IOException {
+        Reader failingReader = new Reader() {
+            private boolean hasRead;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (hasRead) {
+                    throw new IOException("disk removed");
+                }
+                hasRead = true;
+                String line = "list" + System.lineSeparator();
+                line.getChars(0, line.length(), buffer, offset);
+                return line.length();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        CommandPipeline pipeline = new CommandPipeline(new BufferedReader(failingReader));
+        assertEquals("list", pipeline.take().getInput());
+        assertThrows(IOException.class, pipeline::take);
+        assertNull(pipeline.take());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+import seedu.commands.AddCommand;
+import seedu.commands.Command;
+import seedu.commands.UnknownCommand;
+import seedu.commands.listcommands.ListSpendingsCommand;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandRegistryTest {
+    private static class ReportCommand extends Command {
+        @Override
+        public void execute(IncomeList incomes, SpendingList spendings) {
+        }
+    }
+
+    /**
+     * Loads the classes of the program apart from the classes already loaded by other tests.
+     */
+    private static class IsolatedClassLoader extends URLClassLoader {
+        private IsolatedClassLoader() {
+            super(new URL[]{CommandRegistry.class.getProtectionDomain().getCodeSource().getLocation()},
+                    ClassLoader.getPlatformClassLoader());
+        }
+
+        private boolean isLoaded(String className) {
+            return findLoadedClass(className) != null;
+        }
+    }
+
+    @Test
+    public void create_builtInCommands_matchingCommandCreated() {
+        assertTrue(Parser.parseUserInput("ADD spending 5 lunch") instanceof AddCommand);
+        assertTrue(Parser.parseUserInput("list spendings") instanceof ListSpendingsCommand);
+        assertTrue(Parser.parseUserInput("reportx") instanceof UnknownCommand);
+        assertTrue(Parser.parseUserInput("") instanceof UnknownCommand);
+    }
+
+    @Test
+    public void create_everyRegisteredCommandWord_commandClassFound() {
+        for (String commandWord : CommandRegistry.getCommandWords()) {
+            Command command = CommandRegistry.create(ParsedCommand.parse(commandWord));
+            assertFalse(command instanceof UnknownCommand, commandWord);
+        }
+    }
+
+    @Test
+    public void create_pluginCommandWord_dispatchedToServiceProvider() {
+        Command command = Parser.parseUserInput(TestCommandProvider.COMMAND_WORD + " hello");
+        assertTrue(command instanceof TestCommandProvider.PluginCommand);
+        assertTrue(CommandRegistry.getCommandWords().contains(TestCommandProvider.COMMAND_WORD));
+    }
+
+    @Test
+    public void register_newCommandWord_dispatchedToFactory() {
+        assertTrue(CommandRegistry.register("testreport", command -> new ReportCommand()));
+        assertTrue(Parser.parseUserInput("testreport monthly") instanceof ReportCommand);
+    }
+
+    @Test
+    public void register_builtInCommandWord_notReplaced() {
+        assertFalse(CommandRegistry.register(AddCommand.COMMAND_WORD, command -> new ReportCommand()));
+        assertTrue(Parser.parseUserInput("add spending 5 lunch") instanceof AddCommand);
+    }
+
+    @Test
+    public void create_byeCommand_otherCommandClassesNotLoaded() throws ReflectiveOperationException, IOException {
+        try (IsolatedClassLoader loader = new IsolatedClassLoader()) {
+            Object bye = Class.forName(Parser.class.getName(), true, loader)
+                    .getMethod("parseUserInput", String.class).invoke(null, "bye");
+            assertTrue(bye.getClass().getName().endsWith(".ByeCommand"));
+            assertTrue(loader.isLoaded("seedu.commands.ByeCommand"));
+            assertFalse(loader.isLoaded("seedu.commands.AddCommand"));
+            assertFalse(loader.isLoaded("seedu.commands.SimulateCommand"));
+            assertFalse(loader.isLoaded("seedu.commands.listcommands.ListAllCommand"));
+        }
+    }
+}
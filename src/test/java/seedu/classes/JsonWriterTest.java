@@ -0,0 +1,27 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonWriterTest {
+    @Test
+    public void field_specialCharacters_escaped() {
+        StringBuilder out = new StringBuilder();
+        new JsonWriter(out).beginRecord("message").field("text", "say \"hi\"\\\n\u0001").field("count", 3L)
+                .field("amount", 1.5).field("whole", 2.0).field("isRecurring", false).field("tag", (String) null)
+                .endRecord();
+        assertEquals("{\"type\":\"message\",\"text\":\"say \\\"hi\\\"\\\\\\n\\u0001\",\"count\":3,\"amount\":1.5,"
+                + "\"whole\":2,\"isRecurring\":false,\"tag\":null}\n", out.toString());
+    }
+
+    @Test
+    public void field_numbersJsonCannotHold_writtenAsNull() {
+        StringBuilder out = new StringBuilder();
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginRecord("statistics").field("mean", Double.NaN).endRecord();
+        writer.beginRecord("statistics").field("mean", Double.POSITIVE_INFINITY).field("count", 0L).endRecord();
+        assertEquals("{\"type\":\"statistics\",\"mean\":null}\n"
+                + "{\"type\":\"statistics\",\"mean\":null,\"count\":0}\n", out.toString());
+    }
+}
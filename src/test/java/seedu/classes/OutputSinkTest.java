@@ -0,0 +1,56 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OutputSinkTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private OutputSink previousSink;
+
+    @BeforeEach
+    public void setUp() {
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Ui.setOutput(previousSink);
+        System.setOut(standardOut);
+    }
+
+    @Test
+    public void print_bufferedSink_heldBackUntilFlushed() {
+        previousSink = Ui.setOutput(new ConsoleSink(1 << 16));
+        Ui.printWithTab("first");
+        Ui.printWithDoubleTab("second");
+        assertEquals("", outputStreamCaptor.toString());
+
+        Ui.flush();
+        assertEquals("\tfirst" + System.lineSeparator() + "\t\tsecond" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    public void print_fullBuffer_writtenBeforeFlush() {
+        previousSink = Ui.setOutput(new ConsoleSink(8));
+        Ui.printWithTab("longer than eight");
+        assertEquals("\tlonger than eight" + System.lineSeparator(), outputStreamCaptor.toString());
+    }
+
+    @Test
+    public void print_capturingSink_outputCaptured() {
+        CapturingSink sink = new CapturingSink();
+        previousSink = Ui.setOutput(sink);
+        Ui.printWithTab("captured");
+        Ui.flush();
+        assertEquals("\tcaptured" + System.lineSeparator(), sink.getOutput());
+        assertEquals("", outputStreamCaptor.toString());
+    }
+}
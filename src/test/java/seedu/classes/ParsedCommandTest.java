@@ -0,0 +1,47 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParsedCommandTest {
+    @Test
+    public void parse_extraWhitespace_wordsWithoutWhitespace() {
+        ParsedCommand command = ParsedCommand.parse("  EDIT\tspending  1 description  new   lunch ");
+        assertEquals(6, command.size());
+        assertEquals("edit", command.getCommandWord());
+        assertTrue(command.isWord(1, "spending"));
+        assertFalse(command.isWord(1, "spend"));
+        assertFalse(command.isWord(6, "lunch"));
+        assertEquals("1", command.getWord(2));
+        assertEquals("new   lunch", command.getRest(4));
+    }
+
+    @Test
+    public void parse_blankCommand_noWords() {
+        ParsedCommand command = ParsedCommand.parse("   ");
+        assertEquals(0, command.size());
+        assertEquals("", command.getCommandWord());
+    }
+
+    @Test
+    public void parse_optionalArguments_extractedByDelimiter() {
+        ParsedCommand command = ParsedCommand.parse("add spending 10 chicken rice /2024-01-01/ *food* ~monthly");
+        assertEquals("chicken rice", command.getRestBeforeOptionalArguments(3));
+        assertEquals("2024-01-01", command.getOptionalArgument(ParsedCommand.DATE_DELIMITER));
+        assertEquals("food", command.getOptionalArgument(ParsedCommand.TAG_DELIMITER));
+        assertEquals("monthly", command.getOptionalArgument(ParsedCommand.FREQUENCY_DELIMITER));
+    }
+
+    @Test
+    public void parse_noOptionalArguments_nullArguments() {
+        ParsedCommand command = ParsedCommand.parse("add income 10 salary");
+        assertEquals("salary", command.getRestBeforeOptionalArguments(3));
+        assertNull(command.getOptionalArgument(ParsedCommand.DATE_DELIMITER));
+        assertNull(command.getOptionalArgument(ParsedCommand.TAG_DELIMITER));
+        assertNull(command.getOptionalArgument(ParsedCommand.FREQUENCY_DELIMITER));
+    }
+}
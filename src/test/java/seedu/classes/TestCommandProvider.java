@@ -0,0 +1,30 @@
+package seedu.classes;
+
+import seedu.commands.Command;
+import seedu.commands.CommandProvider;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+/**
+ * Provides a command from outside of the built-in commands, listed in the services of the test resources so that it
+ * is discovered by {@code CommandRegistry} like the command of a plugin.
+ */
+public class TestCommandProvider implements CommandProvider {
+    static final String COMMAND_WORD = "testplugin";
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Command create(ParsedCommand command) {
+        return new PluginCommand();
+    }
+
+    static class PluginCommand extends Command {
+        @Override
+        public void execute(IncomeList incomes, SpendingList spendings) {
+        }
+    }
+}
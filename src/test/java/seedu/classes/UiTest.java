@@ -0,0 +1,68 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class UiTest {
+    private final CapturingSink sink = new CapturingSink();
+    private OutputSink previousSink;
+
+    @BeforeEach
+    public void setUp() {
+        previousSink = Ui.setOutput(sink);
+        Ui.setJsonLines(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Ui.setJsonLines(false);
+        Ui.setOutput(previousSink);
+    }
+
+    @Test
+    public void printArrList_jsonLines_entryAndTotalRecords() {
+        SpendingList spendings = new SpendingList();
+        spendings.add(new Spending(10.5, "lunch", VALID_TEST_DATE, "food", null, null, 0));
+        Ui.printArrList(spendings);
+        assertEquals("{\"type\":\"entry\",\"list\":\"spendings\",\"index\":1,\"description\":\"lunch\","
+                + "\"amount\":10.5,\"date\":\"" + VALID_TEST_DATE + "\",\"tag\":\"food\",\"recurrence\":null}\n"
+                + "{\"type\":\"total\",\"list\":\"spendings\",\"amount\":10.5}\n", sink.getOutput());
+    }
+
+    @Test
+    public void printAllTags_jsonLines_tagRecords() {
+        SpendingList spendings = new SpendingList();
+        spendings.add(new Spending(1, "lunch", VALID_TEST_DATE, "food", null, null, 0));
+        spendings.add(new Spending(1, "bus", VALID_TEST_DATE, "commute", null, null, 0));
+        Ui.printAllTags(new IncomeList(), spendings);
+        assertEquals("{\"type\":\"tag\",\"index\":1,\"name\":\"commute\"}\n"
+                + "{\"type\":\"tag\",\"index\":2,\"name\":\"food\"}\n", sink.getOutput());
+    }
+
+    @Test
+    public void printError_jsonLines_errorRecord() {
+        Ui.printSeparator();
+        Ui.printError("Invalid index!");
+        Ui.printOverspendMessage("daily", -5);
+        assertEquals("{\"type\":\"error\",\"message\":\"Invalid index!\"}\n"
+                + "{\"type\":\"overspend\",\"budget\":\"daily\",\"amount\":5}\n", sink.getOutput());
+    }
+
+    @Test
+    public void printSpendingStatistics_jsonLines_statisticsRecords() {
+        SpendingList spendings = new SpendingList();
+        spendings.setDailyBudget(20);
+        Ui.printSpendingStatistics(spendings);
+        assertEquals("{\"type\":\"statistics\",\"period\":\"daily\",\"spending\":0,\"budget\":20,\"left\":20}\n"
+                + "{\"type\":\"statistics\",\"period\":\"monthly\",\"spending\":0,\"budget\":0,\"left\":0}\n"
+                + "{\"type\":\"statistics\",\"period\":\"yearly\",\"spending\":0,\"budget\":0,\"left\":0}\n",
+                sink.getOutput());
+    }
+}
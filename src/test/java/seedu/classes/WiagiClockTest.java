@@ -0,0 +1,31 @@
+package seedu.classes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WiagiClockTest {
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @AfterEach
+    public void restore() {
+        WiagiClock.reset();
+    }
+
+    @Test
+    public void advanceDays_manySingleDays_dateMovedWithoutNestingClocks() {
+        Clock start = Clock.fixed(START_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        WiagiClock.setClock(start);
+        for (int day = 0; day < 100_000; day++) {
+            WiagiClock.advanceDays(1);
+        }
+        assertEquals(START_DATE.plusDays(100_000), WiagiClock.today());
+        WiagiClock.setClock(start);
+        assertEquals(START_DATE, WiagiClock.today());
+    }
+}
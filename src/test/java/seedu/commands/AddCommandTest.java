@@ -8,6 +8,7 @@ import static seedu.classes.Constants.ADD_COMMAND_FORMAT;
 import static seedu.classes.Constants.AMOUNT_NOT_NUMBER;
 import static seedu.classes.Constants.INCORRECT_DATE_FORMAT;
 import static seedu.classes.Constants.INVALID_AMOUNT;
+import static seedu.classes.Constants.INVALID_FREQUENCY;
 import static seedu.classes.Constants.MISSING_AMOUNT;
 import static seedu.classes.Constants.MISSING_DESCRIPTION;
 import static seedu.classes.Constants.TAB;
@@ -116,6 +117,34 @@ public class AddCommandTest {
         assertEquals(expectedOutput, incomes.get(0).toString());
     }
 
+    @Test
+    void addCommand_correctSpendingWithRecurrenceRule_success() {
+        String userInput = "add spending 1200 rent ~every 2 weeks~";
+        String expectedOutput = "rent - 1200 - " + VALID_TEST_DATE + " - Recurring: FREQ=WEEKLY;INTERVAL=2";
+        Command c = Parser.parseUserInput(userInput);
+        c.execute(incomes, spendings);
+        assertEquals(expectedOutput, spendings.get(0).toString());
+    }
+
+    @Test
+    void addCommand_correctIncomeWithBusinessDayRoll_success() {
+        String userInput = "add income 3000 salary ~monthly count 12 roll backward~";
+        String expectedOutput = "salary - 3000 - " + VALID_TEST_DATE
+                + " - Recurring: MONTHLY (12 times) rolled backward on weekends";
+        Command c = Parser.parseUserInput(userInput);
+        c.execute(incomes, spendings);
+        assertEquals(expectedOutput, incomes.get(0).toString());
+    }
+
+    @Test
+    void addCommand_invalidRecurrenceRule_noIncomeAdded() {
+        String userInput = "add income 3000 salary ~FREQ=MONTHLY;BYDAY=9FR~";
+        Command c = Parser.parseUserInput(userInput);
+        c.execute(incomes, spendings);
+        assertEquals(TAB + INVALID_FREQUENCY + ADD_COMMAND_FORMAT
+                + System.lineSeparator(), outContent.toString());
+    }
+
     @Test
     void addCommand_missingAmountSpendingInput_noSpendingAdded() {
         String userInput = "add spending";
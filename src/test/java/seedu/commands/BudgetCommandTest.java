@@ -82,8 +82,8 @@ class BudgetCommandTest {
         String userInput = "budget yearly abc";
         Command command = Parser.parseUserInput(userInput);
         command.execute(incomes, spendings);
-        assertEquals("\tInvalid amount! Please enter in the form: budget {$PERIOD} {$AMOUNT}" + System.lineSeparator()
-                , outContent.toString());
+        assertEquals("\tInvalid amount! Please enter in the form: budget {$PERIOD} {$AMOUNT} [*$TAG*]"
+                + System.lineSeparator(), outContent.toString());
     }
 
     @Test
@@ -105,4 +105,28 @@ class BudgetCommandTest {
         assertEquals(TAB + INCORRECT_PARAMS_NUMBER + BUDGET_COMMAND_FORMAT
                 + System.lineSeparator(), outContent.toString());
     }
+
+    @Test
+    public void execute_setTagBudget_onlyTagBudgetSet() {
+        String userInput = "budget monthly 200 *food*";
+        Command command = Parser.parseUserInput(userInput);
+        command.execute(incomes, spendings);
+
+        assertEquals("\tSuccessfully set monthly budget of: 200 for food" + System.lineSeparator()
+                , outContent.toString());
+        assertEquals(200, spendings.getTagBudget("food").getMonthlyBudget());
+        assertEquals(0, spendings.getMonthlyBudget());
+    }
+
+    @Test
+    public void execute_setRollingBudget_success() {
+        String userInput = "budget 30days 500";
+        Command command = Parser.parseUserInput(userInput);
+        command.execute(incomes, spendings);
+
+        assertEquals("\tSuccessfully set 30-day rolling budget of: 500" + System.lineSeparator()
+                , outContent.toString());
+        assertEquals(30, spendings.getRollingBudget().getDays());
+        assertEquals(500, spendings.getRollingBudget().getBudget());
+    }
 }
@@ -3,6 +3,7 @@ package seedu.commands;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.classes.ParsedCommand;
 import seedu.type.Income;
 import seedu.type.IncomeList;
 import seedu.type.Spending;
@@ -10,6 +11,7 @@ import seedu.type.SpendingList;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.classes.Constants.DELETE_COMMAND_FORMAT;
@@ -36,7 +38,7 @@ class DeleteCommandTest {
 
     @Test
     void execute_missingArg_expectIllegalArgumentExceptionMessage() {
-        DeleteCommand c = new DeleteCommand("delete");
+        DeleteCommand c = new DeleteCommand(ParsedCommand.parse("delete"));
         c.execute(incomes, spendings);
         assertEquals(TAB + INCORRECT_PARAMS_NUMBER + DELETE_COMMAND_FORMAT
                 + System.lineSeparator(), outputStreamCaptor.toString());
@@ -44,7 +46,7 @@ class DeleteCommandTest {
 
     @Test
     void execute_validInput_successfullyDeleted() {
-        DeleteCommand c = new DeleteCommand("delete income 1");
+        DeleteCommand c = new DeleteCommand(ParsedCommand.parse("delete income 1"));
         c.execute(incomes, spendings);
         assertEquals("Successfully deleted!", outputStreamCaptor.toString().trim());
         assertEquals(0, incomes.size());
@@ -52,7 +54,7 @@ class DeleteCommandTest {
 
     @Test
     void execute_invalidIndex_expectIllegalArgumentExceptionMessage() {
-        DeleteCommand c = new DeleteCommand("delete income a");
+        DeleteCommand c = new DeleteCommand(ParsedCommand.parse("delete income a"));
         c.execute(incomes, spendings);
         assertEquals(TAB + INDEX_NOT_INTEGER + DELETE_COMMAND_FORMAT
                 + System.lineSeparator(), outputStreamCaptor.toString());
@@ -61,12 +63,55 @@ class DeleteCommandTest {
 
     @Test
     void execute_indexOutOfBounds_expectIllegalArgumentExceptionMessage() {
-        DeleteCommand c = new DeleteCommand("delete income 10");
+        DeleteCommand c = new DeleteCommand(ParsedCommand.parse("delete income 10"));
         c.execute(incomes, spendings);
         assertEquals(INDEX_OUT_OF_BOUNDS, outputStreamCaptor.toString().trim());
         assertEquals(1, incomes.size());
     }
 
+    @Test
+    void execute_indexRange_rangeDeletedInOrder() {
+        spendings.add(new Spending(6, "supper", null, null, null, null, 0));
+        new DeleteCommand(ParsedCommand.parse("delete spending 1-2")).execute(incomes, spendings);
+        assertEquals("Successfully deleted 2 entries!", outputStreamCaptor.toString().trim());
+        assertEquals(1, spendings.size());
+        assertEquals("supper", spendings.get(0).getDescription());
+    }
+
+    @Test
+    void execute_tagAndDateRange_onlyMatchingEntriesDeleted() {
+        spendings.clear();
+        spendings.add(new Spending(1, "a", LocalDate.of(2024, 1, 5), "food", null, null, 0));
+        spendings.add(new Spending(2, "b", LocalDate.of(2024, 2, 5), "food", null, null, 0));
+        spendings.add(new Spending(3, "c", LocalDate.of(2024, 2, 6), "rent", null, null, 0));
+        spendings.add(new Spending(4, "d", LocalDate.of(2025, 1, 5), "food", null, null, 0));
+        new DeleteCommand(ParsedCommand.parse("delete spending *food* /2024-01-01..2024-12-31/"))
+                .execute(incomes, spendings);
+        assertEquals(2, spendings.size());
+        assertEquals("c", spendings.get(0).getDescription());
+        assertEquals("d", spendings.get(1).getDescription());
+    }
+
+    @Test
+    void execute_amountRange_onlyMatchingEntriesDeleted() {
+        spendings.add(new Spending(600, "phone", null, null, null, null, 0));
+        spendings.add(new Spending(5000, "laptop", null, null, null, null, 0));
+        spendings.add(new Spending(5000.01, "camera", null, null, null, null, 0));
+        new DeleteCommand(ParsedCommand.parse("delete spending amount>=500 amount<=5000"))
+                .execute(incomes, spendings);
+        assertEquals("Successfully deleted 2 entries!", outputStreamCaptor.toString().trim());
+        assertEquals(3, spendings.size());
+        assertEquals("camera", spendings.get(2).getDescription());
+        assertEquals(0, spendings.countAmountsBetween(50000, 500000));
+    }
+
+    @Test
+    void execute_rangeOutOfBounds_nothingDeleted() {
+        new DeleteCommand(ParsedCommand.parse("delete spending 2-3")).execute(incomes, spendings);
+        assertEquals(INDEX_OUT_OF_BOUNDS, outputStreamCaptor.toString().trim());
+        assertEquals(2, spendings.size());
+    }
+
     @AfterEach
     void tearDown() {
         incomes.clear();
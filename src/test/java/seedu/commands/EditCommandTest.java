@@ -23,6 +23,7 @@ import static seedu.classes.Constants.INVALID_AMOUNT;
 import static seedu.classes.Constants.INVALID_CATEGORY;
 import static seedu.classes.Constants.INVALID_FIELD;
 import static seedu.classes.Constants.LIST_SEPARATOR;
+import static seedu.classes.Constants.NOT_RECURRING;
 import static seedu.classes.Constants.TAB;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
 import static seedu.classes.Constants.VALID_TEST_DATE;
@@ -157,4 +158,61 @@ class EditCommandTest {
                         LIST_SEPARATOR + "Tag: investments",
                 incomes.get(2).toString());
     }
+
+    @Test
+    public void execute_editEndOfRecurrence_success() {
+        spendings.add(new Spending(15, "gym", LocalDate.of(2024, 10, 10), "", RecurrenceFrequency.MONTHLY,
+                LocalDate.of(2024, 10, 10), 10));
+        Parser.parseUserInput("edit spending 3 until 2025-06-30").execute(incomes, spendings);
+        Parser.parseUserInput("edit spending 3 count 6").execute(incomes, spendings);
+        assertEquals("gym" + LIST_SEPARATOR + "15" + LIST_SEPARATOR + "2024-10-10" + LIST_SEPARATOR +
+                "Recurring: MONTHLY until 2025-06-30 (6 times)", spendings.get(2).toString());
+        Parser.parseUserInput("edit spending 3 until none").execute(incomes, spendings);
+        assertEquals("gym" + LIST_SEPARATOR + "15" + LIST_SEPARATOR + "2024-10-10" + LIST_SEPARATOR +
+                "Recurring: MONTHLY (6 times)", spendings.get(2).toString());
+    }
+
+    @Test
+    public void execute_editEndOfNonRecurringEntry_expectNotRecurringMessage() {
+        String userInout = "edit spending 1 count 3";
+        Command c = Parser.parseUserInput(userInout);
+        c.execute(incomes, spendings);
+        assertEquals(TAB + NOT_RECURRING + EDIT_COMMAND_FORMAT + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_editTagOfRange_allEntriesInRangeEdited() {
+        Parser.parseUserInput("edit income 1-2 tag passive").execute(incomes, spendings);
+        assertEquals("passive", incomes.get(0).getTag());
+        assertEquals("passive", incomes.get(1).getTag());
+        assertEquals("wronginput", incomes.get(2).getTag());
+        assertEquals(TAB + "Successfully edited 2 entries!" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_editSelectionFailsPartway_noEntriesEdited() {
+        incomes.add(new Income(15, "rent", LocalDate.of(2024, 10, 10), "wronginput", RecurrenceFrequency.MONTHLY,
+                LocalDate.of(2024, 10, 10), 10));
+        Parser.parseUserInput("edit income *wronginput* count 3").execute(incomes, spendings);
+        assertEquals(0, incomes.get(3).getMaxOccurrences());
+        assertEquals(TAB + NOT_RECURRING + EDIT_COMMAND_FORMAT + System.lineSeparator(), outContent.toString());
+        Parser.parseUserInput("edit income 4 count 3").execute(incomes, spendings);
+        assertEquals(3, incomes.get(3).getMaxOccurrences());
+    }
+
+    @Test
+    public void execute_editByRangeAndTag_onlyMatchingEntriesEdited() {
+        Parser.parseUserInput("edit income 2-3 *wronginput* amount 25").execute(incomes, spendings);
+        assertEquals(10, incomes.get(0).getAmount());
+        assertEquals(10, incomes.get(1).getAmount());
+        assertEquals(25, incomes.get(2).getAmount());
+        assertEquals(TAB + "Successfully edited 1 entries!" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_selectorWithoutNewValue_expectIncorrectParamsNumberMessage() {
+        Parser.parseUserInput("edit income 1 2 amount").execute(incomes, spendings);
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + EDIT_COMMAND_FORMAT + System.lineSeparator(),
+                outContent.toString());
+    }
 }
@@ -0,0 +1,122 @@
+package seedu.commands;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.Parser;
+import seedu.classes.Ui;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.classes.Constants.NOTHING_TO_UNDO;
+import static seedu.classes.Constants.TAB;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class HistoryTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+
+    private final IncomeList incomes = new IncomeList();
+    private final SpendingList spendings = new SpendingList();
+
+    @BeforeEach
+    public void setUp() {
+        History.clear();
+        History.setDepth(History.DEFAULT_DEPTH);
+        incomes.add(new Income(1000, "salary", VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 0));
+        for (int i = 1; i <= 6; i++) {
+            spendings.add(new Spending(i, "spending " + i, VALID_TEST_DATE, "", RecurrenceFrequency.NONE, null, 0));
+        }
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        History.clear();
+        System.setOut(standardOut);
+    }
+
+    private void run(String command) {
+        Parser.parseUserInput(command).execute(incomes, spendings);
+    }
+
+    private String getDescriptions() {
+        StringBuilder descriptions = new StringBuilder();
+        for (Spending spending : spendings) {
+            descriptions.append(spending.getDescription().charAt(spending.getDescription().length() - 1));
+        }
+        return descriptions.toString();
+    }
+
+    @Test
+    public void undo_deleteAndEdit_restoredInReverseOrder() {
+        run("delete spending 2 4-5");
+        run("edit spending 1 amount 40");
+        assertEquals("136", getDescriptions());
+        run("undo");
+        assertEquals(1, spendings.get(0).getAmount());
+        run("undo");
+        assertEquals("123456", getDescriptions());
+        run("redo");
+        assertEquals("136", getDescriptions());
+        run("redo");
+        assertEquals(40, spendings.get(0).getAmount());
+    }
+
+    @Test
+    public void undo_addWithBacklog_allAddedEntriesRemoved() {
+        Ui.userInputForTest("y");
+        LocalDate start = VALID_TEST_DATE.minusDays(3);
+        run("add income 5 interest /" + start + "/ ~daily~");
+        assertEquals(5, incomes.size());
+        run("undo");
+        assertEquals(1, incomes.size());
+        run("redo");
+        assertEquals(5, incomes.size());
+    }
+
+    @Test
+    public void undo_budgetAndCommit_revertedAsOneChange() {
+        run("budget daily 30");
+        run("begin");
+        run("add spending 7 spending 7");
+        run("delete spending 1");
+        run("commit");
+        assertEquals("234567", getDescriptions());
+        run("undo");
+        assertEquals("123456", getDescriptions());
+        run("undo");
+        assertEquals(0, spendings.getDailyBudget());
+    }
+
+    @Test
+    public void getBudgets_tagWithoutBudget_noBudgetAdded() {
+        assertArrayEquals(new double[3], History.getBudgets(spendings, "gifts"));
+        assertNull(spendings.findTagBudget("gifts"));
+        run("budget daily 30 *gifts*");
+        run("undo");
+        assertEquals(0, spendings.findTagBudget("gifts").getDailyBudget());
+    }
+
+    @Test
+    public void setDepth_oldChangesDropped() {
+        History.setDepth(1);
+        run("delete spending 1");
+        run("delete spending 1");
+        run("undo");
+        outputStreamCaptor.reset();
+        run("undo");
+        assertEquals(TAB + NOTHING_TO_UNDO + System.lineSeparator(), outputStreamCaptor.toString());
+        assertEquals("23456", getDescriptions());
+    }
+}
@@ -15,6 +15,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
 import static seedu.classes.Constants.INVALID_CATEGORY;
 import static seedu.classes.Constants.LIST_COMMAND_FORMAT;
@@ -333,6 +334,138 @@ class ListCommandTest {
                 outContent.toString());
         incomes.remove(2);
     }
-}
 
+    @Test
+    public void execute_listSpendingsWeeklyWithStats_noPrompts() {
+        spendings.add(new Spending(10, "lunch", VALID_TEST_DATE.minusDays(30), "", null, null, 0));
+        Parser.parseUserInput("list spendings weekly --stats").execute(incomes, spendings);
+        String output = outContent.toString();
+        assertEquals("\t1. girlfriends - 10 - " + VALID_TEST_DATE + System.lineSeparator() +
+                        "\t2. macdonalds - 10 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator() +
+                        "\t\tDaily spendings: 20",
+                output.substring(0, output.indexOf(System.lineSeparator() + "\t\tDaily Budget")));
+        spendings.remove(2);
+    }
+
+    @Test
+    public void execute_listIncomesAll_listedWithoutPrompt() {
+        Parser.parseUserInput("list incomes all").execute(incomes, spendings);
+        assertEquals("\tIncomes" + System.lineSeparator() +
+                        "\t1. savings - 10 - " + VALID_TEST_DATE + System.lineSeparator() +
+                        "\t2. dividends - 10 - " + VALID_TEST_DATE + " - Tag: investment" + System.lineSeparator() +
+                        "\tTotal incomes: 20" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listIncomesWithStats_expectIncorrectParamsMessage() {
+        Parser.parseUserInput("list incomes --stats").execute(incomes, spendings);
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listSpendingsReversedPage_onlyPageListed() {
+        spendings.add(new Spending(5, "coffee", VALID_TEST_DATE, "", null, null, 0));
+        Command c = Parser.parseUserInput("list spendings --reverse --offset=1 --limit=1");
+        c.execute(incomes, spendings);
+
+        assertEquals("\tSpendings" + System.lineSeparator() +
+                        "\t2. macdonalds - 10 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator() +
+                        "\tTotal spendings: 25" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listAllPagedPastEnd_onlyTotalsListed() {
+        Command c = Parser.parseUserInput("list --offset=5");
+        c.execute(incomes, spendings);
+
+        assertEquals("\tSpendings" + System.lineSeparator() +
+                        "\tTotal spendings: 20" + System.lineSeparator() +
+                        "\tIncomes" + System.lineSeparator() +
+                        "\tTotal incomes: 20" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_invalidLimit_expectWiagiMissingParamsException() {
+        Command c = Parser.parseUserInput("list incomes --limit=-1");
+        c.execute(incomes, spendings);
+
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT
+                + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_listSpendingsTop_largestListedInOrder() {
+        spendings.add(new Spending(5, "coffee", VALID_TEST_DATE, "", null, null, 0));
+        spendings.add(new Spending(50, "dinner", VALID_TEST_DATE, "food", null, null, 0));
+        Command c = Parser.parseUserInput("list spendings top 3");
+        c.execute(incomes, spendings);
+
+        assertEquals("\tTop 3 spendings" + System.lineSeparator() +
+                        "\t4. dinner - 50 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator() +
+                        "\t1. girlfriends - 10 - " + VALID_TEST_DATE + System.lineSeparator() +
+                        "\t2. macdonalds - 10 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listTagsTop_largestTagsListed() {
+        spendings.add(new Spending(50, "flight", VALID_TEST_DATE, "travel", null, null, 0));
+        Command c = Parser.parseUserInput("list tags top 1");
+        c.execute(incomes, spendings);
+
+        assertEquals("\tTop spendings tags" + System.lineSeparator() +
+                        "\t1. travel: 50" + System.lineSeparator() +
+                        "\tTop incomes tags" + System.lineSeparator() +
+                        "\t1. investment: 10" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listTopWithLimit_expectIncorrectParamsMessage() {
+        Command c = Parser.parseUserInput("list incomes top 2 --limit=1");
+        c.execute(incomes, spendings);
+
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT
+                + System.lineSeparator(), outContent.toString());
+    }
 
+    @Test
+    public void execute_listSpendingsQuery_matchingEntriesListed() {
+        spendings.add(new Spending(50, "dinner", VALID_TEST_DATE, "food", null, null, 0));
+        Command c = Parser.parseUserInput("list spendings amount>=10 tag=food");
+        c.execute(incomes, spendings);
+
+        assertEquals("\tSpendings" + System.lineSeparator() +
+                        "\t2. macdonalds - 10 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator() +
+                        "\t3. dinner - 50 - " + VALID_TEST_DATE + " - Tag: food" + System.lineSeparator() +
+                        "\tTotal of 2 matching spendings: 60" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void execute_listAllQueryExplained_planPrinted() {
+        Command c = Parser.parseUserInput("list description~DEND explain");
+        c.execute(incomes, spendings);
+
+        String output = outContent.toString();
+        assertTrue(output.startsWith("\tSpendings" + System.lineSeparator() +
+                "\tTotal of 0 matching spendings: 0" + System.lineSeparator() +
+                "\tPlan: full scan" + System.lineSeparator() +
+                "\tExamined 2 of 2 spendings, 0 matched in "));
+        assertTrue(output.contains("\t2. dividends - 10 - " + VALID_TEST_DATE + " - Tag: investment"
+                + System.lineSeparator() + "\tTotal of 1 matching incomes: 10" + System.lineSeparator()));
+    }
+
+    @Test
+    public void execute_listQueryWithTop_expectIncorrectParamsMessage() {
+        Command c = Parser.parseUserInput("list spendings amount>5 top 1");
+        c.execute(incomes, spendings);
+
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + LIST_COMMAND_FORMAT
+                + System.lineSeparator(), outContent.toString());
+    }
+}
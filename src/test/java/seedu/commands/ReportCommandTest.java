@@ -0,0 +1,113 @@
+package seedu.commands;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.Parser;
+import seedu.type.IncomeList;
+import seedu.type.Report;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classes.Constants.INVALID_CATEGORY;
+import static seedu.classes.Constants.REPORT_COMMAND_FORMAT;
+import static seedu.classes.Constants.TAB;
+
+public class ReportCommandTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    private final IncomeList incomes = new IncomeList();
+    private final SpendingList spendings = new SpendingList();
+
+    @BeforeEach
+    public void setUp() {
+        spendings.add(new Spending(10.5, "lunch", LocalDate.of(2024, 1, 1), "food", null, null, 0));
+        spendings.add(new Spending(100, "flight", LocalDate.of(2023, 12, 31), "travel", null, null, 0));
+        spendings.add(new Spending(4.5, "dinner", LocalDate.of(2024, 1, 15), "food", null, null, 0));
+        spendings.add(new Spending(3, "pen", LocalDate.of(2024, 1, 20), "", null, null, 0));
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    public void restore() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void execute_reportSpendings_groupedInOrder() {
+        Command c = Parser.parseUserInput("report spendings");
+        c.execute(incomes, spendings);
+        String lineSeparator = System.lineSeparator();
+        assertEquals(TAB + "Spendings report" + lineSeparator
+                + TAB + "By month and tag:" + lineSeparator
+                + TAB + TAB + "2023-12 travel: 100" + lineSeparator
+                + TAB + TAB + "2024-01 (untagged): 3" + lineSeparator
+                + TAB + TAB + "2024-01 food: 15" + lineSeparator
+                + TAB + "By year:" + lineSeparator
+                + TAB + TAB + "2023: 100" + lineSeparator
+                + TAB + TAB + "2024: 18" + lineSeparator
+                + TAB + "By day of week:" + lineSeparator
+                + TAB + TAB + "MONDAY: 15" + lineSeparator
+                + TAB + TAB + "TUESDAY: 0" + lineSeparator
+                + TAB + TAB + "WEDNESDAY: 0" + lineSeparator
+                + TAB + TAB + "THURSDAY: 0" + lineSeparator
+                + TAB + TAB + "FRIDAY: 0" + lineSeparator
+                + TAB + TAB + "SATURDAY: 3" + lineSeparator
+                + TAB + TAB + "SUNDAY: 100" + lineSeparator, outContent.toString());
+    }
+
+    @Test
+    public void execute_invalidList_errorPrinted() {
+        Command c = Parser.parseUserInput("report budgets");
+        c.execute(incomes, spendings);
+        assertEquals(TAB + INVALID_CATEGORY + REPORT_COMMAND_FORMAT + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_reportWithAmountRange_onlyMatchingEntriesGrouped() {
+        Command c = Parser.parseUserInput("report spendings amount>=4.5 amount<100");
+        c.execute(incomes, spendings);
+        String lineSeparator = System.lineSeparator();
+        assertEquals(TAB + "Spendings report" + lineSeparator
+                + TAB + "By month and tag:" + lineSeparator
+                + TAB + TAB + "2024-01 food: 15" + lineSeparator
+                + TAB + "By year:" + lineSeparator
+                + TAB + TAB + "2024: 15" + lineSeparator, outContent.toString().split(TAB + "By day")[0]);
+    }
+
+    @Test
+    public void of_manyGroups_totalsMatchEntries() {
+        SpendingList manySpendings = new SpendingList();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 2000; i++) {
+            manySpendings.add(new Spending(1.25, "entry", start.plusDays(i), "tag" + (i % 50), null, null, 0));
+        }
+        Report report = Report.of(manySpendings);
+        double monthTagTotal = 0;
+        for (int i = 0; i < report.getMonthTagCount(); i++) {
+            monthTagTotal += report.getMonthTagTotal(i);
+        }
+        double yearTotal = 0;
+        for (long year : report.getYears()) {
+            yearTotal += report.getYearTotal(year);
+        }
+        double dayOfWeekTotal = 0;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            dayOfWeekTotal += report.getDayOfWeekTotal(dayOfWeek);
+        }
+        assertEquals(2500, monthTagTotal);
+        assertEquals(2500, yearTotal);
+        assertEquals(2500, dayOfWeekTotal);
+        assertEquals(YearMonth.of(2020, 1), report.getMonth(0));
+        assertEquals("tag0", report.getTag(0));
+        assertEquals(1.25, report.getMonthTagTotal(0));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.commands;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.Parser;
+import seedu.classes.WiagiClock;
+import seedu.recurrence.RecurrenceFrequency;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.INCORRECT_PARAMS_NUMBER;
+import static seedu.classes.Constants.SIMULATE_COMMAND_FORMAT;
+import static seedu.classes.Constants.TAB;
+
+public class SimulateCommandTest {
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 31);
+
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    private IncomeList incomes;
+    private SpendingList spendings;
+
+    @BeforeEach
+    public void setUp() {
+        WiagiClock.setClock(Clock.fixed(START_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()));
+        incomes = new IncomeList();
+        spendings = new SpendingList();
+        incomes.add(new Income(3000, "salary", START_DATE, "", RecurrenceFrequency.MONTHLY, START_DATE,
+                START_DATE.getDayOfMonth()));
+        spendings.add(new Spending(5, "coffee", START_DATE, "", RecurrenceFrequency.DAILY, START_DATE,
+                START_DATE.getDayOfMonth()));
+        spendings.setDailyBudget(10);
+        spendings.setMonthlyBudget(100);
+        spendings.setYearlyBudget(10000);
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    public void restore() {
+        System.setOut(originalOut);
+        WiagiClock.reset();
+    }
+
+    @Test
+    public void execute_simulateYear_recurrencesAddedAndBudgetsChecked() {
+        Command c = Parser.parseUserInput("simulate 366");
+        c.execute(incomes, spendings);
+        assertEquals(TAB + "Simulated 366 days up to 2025-01-31" + System.lineSeparator()
+                + TAB + TAB + "Recurring incomes added: 12" + System.lineSeparator()
+                + TAB + TAB + "Recurring spendings added: 366" + System.lineSeparator()
+                + TAB + TAB + "Days over daily budget: 0" + System.lineSeparator()
+                + TAB + TAB + "Days over monthly budget: 126" + System.lineSeparator()
+                + TAB + TAB + "Days over yearly budget: 0" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    public void execute_simulateYear_ledgerAndClockUnchanged() {
+        String incomesBefore = incomes.toString();
+        String spendingsBefore = spendings.toString();
+        Command c = Parser.parseUserInput("simulate 366");
+        c.execute(incomes, spendings);
+        assertEquals(START_DATE, WiagiClock.today());
+        assertEquals(incomesBefore, incomes.toString());
+        assertEquals(spendingsBefore, spendings.toString());
+        assertEquals(START_DATE, incomes.get(0).getLastRecurrence());
+        assertEquals(START_DATE, spendings.get(0).getLastRecurrence());
+        assertEquals(1, incomes.size());
+        assertEquals(1, spendings.size());
+        assertEquals(5, spendings.getMonthlySpending());
+    }
+
+    @Test
+    public void execute_simulateWithRollingBudget_rollingWindowUnchanged() {
+        spendings.setRollingBudget(7, 20);
+        Command c = Parser.parseUserInput("simulate 30");
+        c.execute(incomes, spendings);
+        assertEquals(START_DATE, WiagiClock.today());
+        assertEquals(5, spendings.getRollingSpending());
+        assertTrue(outContent.toString().contains("Days over rolling budget: "));
+    }
+
+    @Test
+    public void execute_missingDays_errorMessage() {
+        Command c = Parser.parseUserInput("simulate");
+        c.execute(incomes, spendings);
+        assertEquals(TAB + INCORRECT_PARAMS_NUMBER + SIMULATE_COMMAND_FORMAT + System.lineSeparator(),
+                outContent.toString());
+        assertEquals(START_DATE, WiagiClock.today());
+    }
+
+    @Test
+    public void execute_tooManyDays_errorMessage() {
+        Command c = Parser.parseUserInput("simulate 3661");
+        c.execute(incomes, spendings);
+        assertEquals(TAB + "Please enter a number of days from 1 to 3660! " + SIMULATE_COMMAND_FORMAT
+                + System.lineSeparator(), outContent.toString());
+        assertEquals(1, spendings.size());
+    }
+}
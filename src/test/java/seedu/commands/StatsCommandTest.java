@@ -0,0 +1,96 @@
+package seedu.commands;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.Parser;
+import seedu.type.EntryStatistics;
+import seedu.type.EntryType;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.TAB;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class StatsCommandTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    private final IncomeList incomes = new IncomeList();
+    private final SpendingList spendings = new SpendingList();
+
+    @BeforeEach
+    public void setUp() {
+        for (int amount = 1; amount <= 100; amount++) {
+            String tag = amount % 10 == 0 ? "rent" : amount % 2 == 0 ? "food" : "";
+            spendings.add(new Spending(amount, "entry", VALID_TEST_DATE, tag, null, null, 0));
+        }
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    public void restore() {
+        System.setOut(originalOut);
+    }
+
+    private static void assertWithinOnePercent(double expected, double actual) {
+        assertTrue(Math.abs(expected - actual) <= expected * 0.01, "expected about " + expected + " but was "
+                + actual);
+    }
+
+    @Test
+    public void getStatistics_amountsOneToHundred_estimatesWithinOnePercent() {
+        EntryStatistics statistics = spendings.getStatistics();
+        assertEquals(100, statistics.getCount());
+        assertEquals(50.5, statistics.getMean());
+        assertEquals(833.25, statistics.getVariance(), 1e-9);
+        assertWithinOnePercent(50, statistics.getQuantile(0.5));
+        assertWithinOnePercent(90, statistics.getQuantile(0.9));
+        assertWithinOnePercent(99, statistics.getQuantile(0.99));
+        assertEquals(List.of("food", "rent"), statistics.getTopTags(5));
+        assertEquals(List.of("food"), statistics.getTopTags(1));
+        assertEquals(2000, statistics.getTagTotal("food"));
+        assertEquals(550, statistics.getTagTotal("rent"));
+    }
+
+    @Test
+    public void getStatistics_entriesRemovedAndEdited_statisticsUpdated() {
+        spendings.removeIf(spending -> spending.getAmount() > 50);
+        EntryStatistics statistics = spendings.getStatistics();
+        assertEquals(50, statistics.getCount());
+        assertEquals(25.5, statistics.getMean());
+        assertWithinOnePercent(25, statistics.getQuantile(0.5));
+
+        Spending entry = spendings.get(0);
+        EntryType before = entry.snapshot();
+        entry.editTag("rent");
+        spendings.updateTotals(before, entry);
+        assertEquals(151, statistics.getTagTotal("rent"));
+
+        spendings.subList(0, spendings.size()).clear();
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getQuantile(0.5));
+        assertEquals(List.of(), statistics.getTopTags(5));
+    }
+
+    @Test
+    public void execute_statsSpendings_statisticsPrinted() {
+        Command c = Parser.parseUserInput("stats spendings");
+        c.execute(incomes, spendings);
+        String output = outContent.toString();
+        assertTrue(output.startsWith(TAB + "Spendings statistics" + System.lineSeparator()
+                + TAB + TAB + "Entries: 100" + System.lineSeparator()
+                + TAB + TAB + "Mean: 50.5" + System.lineSeparator()
+                + TAB + TAB + "Variance: 833.25" + System.lineSeparator()), output);
+        assertTrue(output.endsWith(TAB + TAB + "Top tags:" + System.lineSeparator()
+                + TAB + TAB + TAB + "1. food: 2000" + System.lineSeparator()
+                + TAB + TAB + TAB + "2. rent: 550" + System.lineSeparator()), output);
+    }
+}
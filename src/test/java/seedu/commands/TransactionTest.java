@@ -0,0 +1,145 @@
+package seedu.commands;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.Parser;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.INDEX_OUT_OF_BOUNDS;
+import static seedu.classes.Constants.NO_OPEN_TRANSACTION;
+import static seedu.classes.Constants.TAB;
+import static seedu.classes.Constants.TRANSACTION_FAILED;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class TransactionTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+
+    private final IncomeList incomes = new IncomeList();
+    private final SpendingList spendings = new SpendingList();
+
+    @BeforeEach
+    public void setUp() {
+        incomes.add(new Income(1000, "salary", VALID_TEST_DATE, "", null, null, 0));
+        spendings.add(new Spending(4, "dinner", VALID_TEST_DATE, "", null, null, 0));
+        spendings.add(new Spending(5, "lunch", VALID_TEST_DATE, "", null, null, 0));
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (Transaction.isOpen()) {
+            Transaction.rollback();
+        }
+        System.setOut(standardOut);
+    }
+
+    private void run(String command) {
+        Parser.parseUserInput(command).execute(incomes, spendings);
+    }
+
+    @Test
+    public void commit_queuedChanges_appliedInOrderOnCommit() {
+        run("begin");
+        run("delete spending 1");
+        run("edit spending 1 amount 7");
+        run("add income 50 bonus");
+        assertEquals(2, spendings.size());
+        assertEquals(5, spendings.get(1).getAmount());
+        assertEquals(1, incomes.size());
+
+        Command commit = Parser.parseUserInput("commit");
+        commit.execute(incomes, spendings);
+        assertTrue(commit.hasChangesToSave());
+        assertFalse(Transaction.isOpen());
+        assertEquals(1, spendings.size());
+        assertEquals(7, spendings.get(0).getAmount());
+        assertEquals(2, incomes.size());
+    }
+
+    @Test
+    public void commit_failingChange_noChangesApplied() {
+        run("begin");
+        run("edit spending 1 amount 9");
+        run("delete income 1");
+        run("delete spending 5");
+        Command commit = Parser.parseUserInput("commit");
+        commit.execute(incomes, spendings);
+        assertFalse(commit.hasChangesToSave());
+        assertFalse(Transaction.isOpen());
+        assertEquals(4, spendings.get(0).getAmount());
+        assertEquals(2, spendings.size());
+        assertEquals(1, incomes.size());
+    }
+
+    @Test
+    public void commit_failingChange_onlyFailurePrinted() {
+        run("begin");
+        run("delete spending 1");
+        outputStreamCaptor.reset();
+        run("delete spending 5");
+        run("commit");
+        String output = outputStreamCaptor.toString();
+        assertTrue(output.contains(TRANSACTION_FAILED + "(change 2) " + INDEX_OUT_OF_BOUNDS));
+        assertFalse(output.contains("Successfully deleted!"));
+        assertEquals(2, spendings.size());
+    }
+
+    @Test
+    public void commit_laterChangesSeeStagedChanges_appliedInOneBatch() {
+        run("begin");
+        run("add spending 3 coffee *drinks*");
+        run("edit spending 3 amount 6");
+        run("edit spending 1 tag drinks");
+        run("delete spending *drinks*");
+        outputStreamCaptor.reset();
+        run("commit");
+        String output = outputStreamCaptor.toString();
+        assertFalse(output.contains("Entry successfully added!"));
+        assertTrue(output.endsWith(TAB + "Committed 4 changes!" + System.lineSeparator()));
+        assertEquals(1, spendings.size());
+        assertEquals("lunch", spendings.get(0).getDescription());
+        assertEquals(5, spendings.getTotal());
+    }
+
+    @Test
+    public void commit_editedEntries_totalsRecountedAndUndoneAsOne() {
+        run("begin");
+        run("edit spending 1-2 amount 10");
+        run("add spending 1 tea");
+        run("commit");
+        assertEquals(21, spendings.getTotal());
+        assertEquals(10, spendings.get(0).getAmount());
+        run("undo");
+        assertEquals(9, spendings.getTotal());
+        assertEquals(2, spendings.size());
+        assertEquals(4, spendings.get(0).getAmount());
+    }
+
+    @Test
+    public void rollback_queuedChanges_discarded() {
+        run("begin");
+        run("delete spending 1");
+        run("rollback");
+        assertFalse(Transaction.isOpen());
+        assertEquals(2, spendings.size());
+        run("delete spending 1");
+        assertEquals(1, spendings.size());
+    }
+
+    @Test
+    public void commit_noOpenTransaction_errorMessage() {
+        run("commit");
+        assertEquals(TAB + NO_OPEN_TRANSACTION + System.lineSeparator(), outputStreamCaptor.toString());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlannerTest {
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private final SpendingList spendings = new SpendingList();
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 100; i++) {
+            spendings.add(new Spending(i + 1, "entry " + i, START.plusDays(i), i % 10 == 0 ? "rent" : "food",
+                    null, null, 0));
+        }
+    }
+
+    private static int[] scan(SpendingList list, Query query) {
+        return QueryPlan.ofRange(list, query, QueryPlanner.FULL_SCAN, 0, list.size()).run();
+    }
+
+    @Test
+    public void plan_dateRangeOnSortedList_binarySearchUsed() {
+        Query query = Query.parse(List.of("date>=2024-02-01", "date<2024-02-11", "amount>35"));
+        QueryPlan plan = QueryPlanner.plan(spendings, query);
+        int[] matches = plan.run();
+
+        assertEquals("date binary search from 2024-02-01 until 2024-02-10", plan.getAccessPath());
+        assertEquals(10, plan.getExaminedCount());
+        assertArrayEquals(new int[]{35, 36, 37, 38, 39, 40}, matches);
+        assertArrayEquals(scan(spendings, query), matches);
+    }
+
+    @Test
+    public void plan_tagCondition_tagIndexUsed() {
+        Query query = Query.parse(List.of("tag=rent", "description~ENTRY"));
+        QueryPlan plan = QueryPlanner.plan(spendings, query);
+        int[] matches = plan.run();
+
+        assertEquals("tag index for rent", plan.getAccessPath());
+        assertEquals(10, plan.getExaminedCount());
+        assertArrayEquals(scan(spendings, query), matches);
+        assertTrue(spendings.hasTagIndex());
+        spendings.remove(0);
+        assertFalse(spendings.hasTagIndex());
+        assertEquals(9, spendings.getTagPositions("rent").length);
+    }
+
+    @Test
+    public void plan_listOutOfDateOrder_fullScanUsed() {
+        spendings.add(new Spending(1, "late entry", START, "", null, null, 0));
+        assertFalse(spendings.isSortedByDate());
+        Query query = Query.parse(List.of("date=2024-01-01"));
+        QueryPlan plan = QueryPlanner.plan(spendings, query);
+
+        assertEquals(QueryPlanner.FULL_SCAN, plan.getAccessPath());
+        assertArrayEquals(new int[]{0, 100}, plan.run());
+
+        spendings.sort((first, second) -> first.getDate().compareTo(second.getDate()));
+        assertTrue(spendings.isSortedByDate());
+        assertEquals(2, QueryPlanner.plan(spendings, query).run().length);
+    }
+
+    @Test
+    public void plan_amountRange_amountIndexUsed() {
+        Query query = Query.parse(List.of("amount>=90.5", "amount<=95"));
+        QueryPlan plan = QueryPlanner.plan(spendings, query);
+        int[] matches = plan.run();
+
+        assertEquals("amount index from 90.5 until 95", plan.getAccessPath());
+        assertEquals(5, plan.getExaminedCount());
+        assertArrayEquals(new int[]{90, 91, 92, 93, 94}, matches);
+        assertArrayEquals(scan(spendings, query), matches);
+    }
+
+    @Test
+    public void parse_invalidConditions_exceptionThrown() {
+        assertThrows(WiagiInvalidInputException.class, () -> Query.parse(List.of("amount>fifty")));
+        assertThrows(WiagiInvalidInputException.class, () -> Query.parse(List.of("date>=2024-13-01")));
+        assertThrows(WiagiInvalidInputException.class, () -> Query.parse(List.of("tag>food")));
+        assertThrows(WiagiInvalidInputException.class, () -> Query.parse(List.of("amount~5")));
+    }
+}
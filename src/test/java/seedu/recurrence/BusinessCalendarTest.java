@@ -0,0 +1,87 @@
+package seedu.recurrence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.WiagiClock;
+import seedu.exception.WiagiInvalidInputException;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BusinessCalendarTest {
+    private static final LocalDate START_DATE = LocalDate.of(2024, 7, 31);
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.parse("test",
+            List.of("# test calendar", "weekend SAT SUNDAY", "", "01-01", "12-25", "2024-12-31"));
+
+    @AfterEach
+    public void restore() {
+        WiagiClock.reset();
+    }
+
+    @Test
+    public void isBusinessDay_weekendsAndHolidays_notBusinessDays() {
+        assertTrue(CALENDAR.isBusinessDay(LocalDate.of(2024, 12, 30)));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2024, 12, 31)));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2025, 1, 1)));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2025, 12, 25)));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2025, 1, 4)));
+        assertTrue(CALENDAR.isBusinessDay(LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    public void roll_acrossYears_nearestBusinessDay() {
+        assertEquals(LocalDate.of(2024, 12, 30), CALENDAR.rollBackward(LocalDate.of(2025, 1, 1)));
+        assertEquals(LocalDate.of(2025, 1, 2), CALENDAR.rollForward(LocalDate.of(2024, 12, 31)));
+        assertEquals(LocalDate.of(2024, 12, 30), CALENDAR.rollForward(LocalDate.of(2024, 12, 30)));
+        assertEquals(LocalDate.of(2024, 11, 29), CALENDAR.rollBackward(LocalDate.of(2024, 11, 30)));
+    }
+
+    @Test
+    public void parse_invalidLines_exceptionThrown() {
+        assertThrows(WiagiInvalidInputException.class, () -> BusinessCalendar.parse("bad", List.of("christmas")));
+        assertThrows(WiagiInvalidInputException.class, () -> BusinessCalendar.parse("bad", List.of("12-32")));
+        assertThrows(WiagiInvalidInputException.class,
+                () -> BusinessCalendar.parse("bad", List.of("weekend MON TUE WED THU FRI SAT SUN")));
+    }
+
+    @Test
+    public void updateRecurrence_monthlyRolledBackward_addedOnPreviousBusinessDay() {
+        IncomeList incomes = createSalary(BusinessDayRoll.BACKWARD);
+        assertEquals(5, incomes.size());
+        assertEquals(LocalDate.of(2024, 8, 30), incomes.get(1).getDate());
+        assertEquals(LocalDate.of(2024, 9, 30), incomes.get(2).getDate());
+        assertEquals(LocalDate.of(2024, 11, 29), incomes.get(4).getDate());
+        assertEquals(LocalDate.of(2024, 11, 30), incomes.get(0).getLastRecurrence());
+    }
+
+    @Test
+    public void updateRecurrence_monthlyRolledForward_notAddedBeforeNextBusinessDay() {
+        IncomeList incomes = createSalary(BusinessDayRoll.FORWARD);
+        assertEquals(4, incomes.size());
+        assertEquals(LocalDate.of(2024, 9, 2), incomes.get(1).getDate());
+        assertEquals(LocalDate.of(2024, 10, 31), incomes.get(3).getDate());
+        assertEquals(LocalDate.of(2024, 10, 31), incomes.get(0).getLastRecurrence());
+    }
+
+    private IncomeList createSalary(BusinessDayRoll roll) {
+        LocalDate today = LocalDate.of(2024, 11, 29);
+        WiagiClock.setClock(Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()));
+        IncomeList incomes = new IncomeList();
+        Income salary = new Income(3000, "salary", START_DATE, "", RecurrenceFrequency.MONTHLY, START_DATE,
+                START_DATE.getDayOfMonth());
+        salary.editBusinessDayRoll(roll, BusinessCalendars.DEFAULT_CALENDAR);
+        incomes.add(salary);
+        incomes.updateRecurrence();
+        return incomes;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.recurrence;
+
+import org.junit.jupiter.api.Test;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class RecurrenceEndTest {
+    @Test
+    public void updateRecurrence_dailyWithOccurrenceCap_stopsAtCap() {
+        SpendingList spendings = new SpendingList();
+        Spending coffee = new Spending(5, "coffee", VALID_TEST_DATE.minusDays(10), "", RecurrenceFrequency.DAILY,
+                VALID_TEST_DATE.minusDays(10), VALID_TEST_DATE.minusDays(10).getDayOfMonth());
+        coffee.editRecurrenceEnd(null, 3);
+        spendings.add(coffee);
+        spendings.updateRecurrence();
+        assertEquals(3, spendings.size());
+        assertEquals(VALID_TEST_DATE.minusDays(8), spendings.get(2).getDate());
+        assertTrue(new DailyRecurrence().hasEnded(coffee));
+        spendings.updateRecurrence();
+        assertEquals(3, spendings.size());
+    }
+
+    @Test
+    public void updateRecurrence_monthlyWithEndDate_stopsAtEndDate() {
+        IncomeList incomes = new IncomeList();
+        Income salary = new Income(3000, "salary", VALID_TEST_DATE.minusMonths(6), "", RecurrenceFrequency.MONTHLY,
+                VALID_TEST_DATE.minusMonths(6), VALID_TEST_DATE.minusMonths(6).getDayOfMonth());
+        salary.editRecurrenceEnd(salary.getDate().plusMonths(3), 0);
+        incomes.add(salary);
+        incomes.updateRecurrence();
+        assertEquals(4, incomes.size());
+        assertEquals(salary.getDate().plusMonths(3), incomes.get(3).getDate());
+        assertTrue(new MonthlyRecurrence().hasEnded(salary));
+    }
+
+    @Test
+    public void updateRecurrence_ruleWithEndDateInFuture_notEnded() {
+        SpendingList spendings = new SpendingList();
+        Spending rent = new Spending(1200, "rent", VALID_TEST_DATE.minusWeeks(4), "", RecurrenceFrequency.CUSTOM,
+                VALID_TEST_DATE.minusWeeks(4), 0);
+        RecurrenceRule rule = RecurrenceRuleParser.parse("biweekly");
+        rent.editRecurrenceRule(rule);
+        rent.editRecurrenceEnd(VALID_TEST_DATE.plusWeeks(4), 0);
+        spendings.add(rent);
+        spendings.updateRecurrence();
+        assertEquals(3, spendings.size());
+        assertFalse(new RuleRecurrence(rule).hasEnded(rent));
+    }
+}
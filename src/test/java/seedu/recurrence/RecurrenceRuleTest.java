@@ -0,0 +1,66 @@
+package seedu.recurrence;
+
+import org.junit.jupiter.api.Test;
+import seedu.exception.WiagiInvalidInputException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecurrenceRuleTest {
+    private static final LocalDate START = LocalDate.of(2024, 1, 31);
+
+    @Test
+    public void parse_shorthandAndRrule_sameCanonicalRule() {
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", RecurrenceRuleParser.parse("biweekly").toString());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", RecurrenceRuleParser.parse("every 2 weeks").toString());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", RecurrenceRuleParser.parse("freq=weekly;interval=2").toString());
+        assertEquals("FREQ=YEARLY", RecurrenceRuleParser.parse("every 12 months").toString());
+        assertEquals("FREQ=MONTHLY;BYDAY=-1FR", RecurrenceRuleParser.parse("FREQ=MONTHLY;BYDAY=-1FR").toString());
+    }
+
+    @Test
+    public void parse_invalidRule_exceptionThrown() {
+        assertThrows(WiagiInvalidInputException.class, () -> RecurrenceRuleParser.parse("fortnightly"));
+        assertThrows(WiagiInvalidInputException.class, () -> RecurrenceRuleParser.parse("every 0 days"));
+        assertThrows(WiagiInvalidInputException.class, () -> RecurrenceRuleParser.parse("FREQ=WEEKLY;BYDAY=2FR"));
+        assertThrows(WiagiInvalidInputException.class, () -> RecurrenceRuleParser.parse("FREQ=MONTHLY;BYDAY=5FR"));
+    }
+
+    @Test
+    public void next_monthlyFromEndOfMonth_lastDayOfShorterMonths() {
+        RecurrenceRule rule = RecurrenceRuleParser.parse("monthly");
+        assertEquals(LocalDate.of(2024, 2, 29), rule.next(START, START));
+        assertEquals(LocalDate.of(2024, 3, 31), rule.next(START, LocalDate.of(2024, 2, 29)));
+        assertEquals(LocalDate.of(2024, 4, 30), rule.next(START, LocalDate.of(2024, 4, 1)));
+    }
+
+    @Test
+    public void next_nthWeekday_correctDates() {
+        RecurrenceRule secondFriday = RecurrenceRuleParser.parse("FREQ=MONTHLY;BYDAY=2FR");
+        assertEquals(LocalDate.of(2024, 2, 9), secondFriday.next(START, START));
+        assertEquals(LocalDate.of(2024, 11, 8), secondFriday.next(START, LocalDate.of(2024, 10, 31)));
+        RecurrenceRule lastFriday = RecurrenceRuleParser.parse("FREQ=MONTHLY;BYDAY=-1FR");
+        assertEquals(LocalDate.of(2024, 2, 23), lastFriday.next(START, START));
+    }
+
+    @Test
+    public void countBetween_variousRules_sameAsSteppingThroughOccurrences() {
+        String[] rules = {"daily", "every 3 days", "weekly", "biweekly", "monthly", "every 5 months", "yearly",
+            "FREQ=MONTHLY;BYDAY=1MO", "FREQ=MONTHLY;INTERVAL=2;BYDAY=-1SU"};
+        LocalDate from = LocalDate.of(2024, 6, 15);
+        LocalDate to = LocalDate.of(2031, 3, 2);
+        for (String stringRule : rules) {
+            RecurrenceRule rule = RecurrenceRuleParser.parse(stringRule);
+            long steppedCount = 0;
+            LocalDate occurrence = rule.next(START, from.minusDays(1));
+            while (!occurrence.isAfter(to)) {
+                steppedCount++;
+                occurrence = rule.next(START, occurrence);
+            }
+            assertEquals(steppedCount, rule.countBetween(START, from, to));
+            assertEquals(rule.countBetween(START, START, to), rule.countBetween(START, START.minusYears(1), to));
+        }
+    }
+}
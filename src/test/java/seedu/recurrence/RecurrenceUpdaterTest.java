@@ -0,0 +1,68 @@
+package seedu.recurrence;
+
+import org.junit.jupiter.api.Test;
+import seedu.type.Income;
+import seedu.type.IncomeList;
+import seedu.type.Spending;
+import seedu.type.SpendingList;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.classes.Constants.VALID_TEST_DATE;
+
+public class RecurrenceUpdaterTest {
+    private static final int LARGE_LIST_SIZE = 3000;
+    private static final RecurrenceFrequency[] FREQUENCIES = RecurrenceFrequency.values();
+    private static final RecurrenceRule WEEKLY_RULE = RecurrenceRuleParser.parse("weekly");
+
+    private SpendingList createSpendings() {
+        SpendingList spendings = new SpendingList();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            LocalDate date = VALID_TEST_DATE.minusDays(i % 400);
+            RecurrenceFrequency frequency = FREQUENCIES[i % FREQUENCIES.length];
+            LocalDate lastRecurrence = frequency == RecurrenceFrequency.NONE ? null : date;
+            Spending spending = new Spending(i + 1, "spending" + i, date, "", frequency, lastRecurrence,
+                    date.getDayOfMonth());
+            if (frequency == RecurrenceFrequency.CUSTOM) {
+                spending.editRecurrenceRule(WEEKLY_RULE);
+            }
+            spendings.add(spending);
+        }
+        return spendings;
+    }
+
+    private IncomeList createIncomes() {
+        IncomeList incomes = new IncomeList();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            LocalDate date = VALID_TEST_DATE.minusDays(i % 70);
+            RecurrenceFrequency frequency = FREQUENCIES[i % FREQUENCIES.length];
+            LocalDate lastRecurrence = frequency == RecurrenceFrequency.NONE ? null : date;
+            Income income = new Income(i + 1, "income" + i, date, "", frequency, lastRecurrence,
+                    date.getDayOfMonth());
+            if (frequency == RecurrenceFrequency.CUSTOM) {
+                income.editRecurrenceRule(WEEKLY_RULE);
+            }
+            incomes.add(income);
+        }
+        return incomes;
+    }
+
+    @Test
+    public void updateRecurrence_parallelSpendings_sameAsSerial() {
+        SpendingList serial = createSpendings();
+        SpendingList parallel = createSpendings();
+        RecurrenceUpdater.updateRecurrence(serial, SpendingList::new, Integer.MAX_VALUE);
+        RecurrenceUpdater.updateRecurrence(parallel, SpendingList::new, 1);
+        assertEquals(serial.toString(), parallel.toString());
+    }
+
+    @Test
+    public void updateRecurrence_parallelIncomes_sameAsSerial() {
+        IncomeList serial = createIncomes();
+        IncomeList parallel = createIncomes();
+        RecurrenceUpdater.updateRecurrence(serial, IncomeList::new, Integer.MAX_VALUE);
+        RecurrenceUpdater.updateRecurrence(parallel, IncomeList::new, 1);
+        assertEquals(serial.toString(), parallel.toString());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AmountIndexTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    private static Spending newSpending(double amount) {
+        return new Spending(amount, "entry", DATE, "", null, null, 0);
+    }
+
+    /**
+     * Finds the positions within the range by going through the list, ordered as the index orders them.
+     */
+    private static int[] scan(SpendingList list, long minCents, long maxCents) {
+        ArrayList<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            long cents = AmountIndex.toCents(list.get(i));
+            if (cents >= minCents && cents <= maxCents) {
+                positions.add(i);
+            }
+        }
+        positions.sort(Comparator.comparingLong((Integer i) -> AmountIndex.toCents(list.get(i)))
+                .thenComparingInt(i -> i));
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void assertMatchesScan(SpendingList list) {
+        assertArrayEquals(scan(list, 500, 5000), list.getAmountPositions(500, 5000));
+        assertArrayEquals(scan(list, 2501, Long.MAX_VALUE), list.getAmountPositions(2501, Long.MAX_VALUE));
+        assertEquals(scan(list, Long.MIN_VALUE, 1000).length, list.countAmountsBetween(Long.MIN_VALUE, 1000));
+    }
+
+    @Test
+    public void getAmountPositions_rangeAndThreshold_originalPositionsReturned() {
+        SpendingList spendings = new SpendingList();
+        spendings.add(newSpending(5000));
+        spendings.add(newSpending(20));
+        spendings.add(newSpending(500));
+        spendings.add(newSpending(999.99));
+        spendings.add(newSpending(500));
+
+        assertArrayEquals(new int[]{2, 4, 3, 0}, spendings.getAmountPositions(50000, 500000));
+        assertArrayEquals(new int[]{0}, spendings.getAmountPositions(100000, Long.MAX_VALUE));
+        assertEquals(0, spendings.countAmountsBetween(500001, 400000));
+        assertTrue(spendings.hasAmountIndex());
+    }
+
+    @Test
+    public void getAmountPositions_randomChanges_matchesScan() {
+        Random random = new Random(49);
+        SpendingList spendings = new SpendingList();
+        for (int i = 0; i < 200; i++) {
+            spendings.add(newSpending(random.nextInt(60) + 1));
+        }
+        spendings.getAmountPositions(0, 0);
+        for (int step = 0; step < 300; step++) {
+            int position = random.nextInt(spendings.size());
+            switch (step % 6) {
+            case 0:
+                spendings.add(newSpending(random.nextInt(60) + 1));
+                break;
+            case 1:
+                spendings.add(position, newSpending(random.nextInt(60) + 1));
+                break;
+            case 2:
+                spendings.remove(position);
+                break;
+            case 3:
+                Spending entry = spendings.get(position);
+                EntryType before = entry.snapshot();
+                entry.editAmount(String.valueOf(random.nextInt(60) + 1));
+                spendings.updateTotals(before, entry);
+                break;
+            case 4:
+                spendings.set(position, newSpending(random.nextInt(60) + 1));
+                break;
+            default:
+                BitSet selected = new BitSet();
+                for (int i = 0; i < 5; i++) {
+                    selected.set(random.nextInt(spendings.size()));
+                }
+                ArrayList<Spending> removed = spendings.removeSelected(selected);
+                assertMatchesScan(spendings);
+                spendings.insertSelected(selected, removed);
+                spendings.subList(position, Math.min(position + 3, spendings.size())).clear();
+                break;
+            }
+            assertTrue(spendings.hasAmountIndex());
+            assertMatchesScan(spendings);
+        }
+    }
+
+    @Test
+    public void removeIf_wholeListRewritten_indexRebuiltWhenAsked() {
+        SpendingList spendings = new SpendingList();
+        for (int i = 1; i <= 10; i++) {
+            spendings.add(newSpending(i * 10));
+        }
+        assertEquals(5, spendings.countAmountsBetween(1000, 5000));
+        spendings.removeIf(spending -> spending.getAmount() > 30);
+        assertFalse(spendings.hasAmountIndex());
+        assertArrayEquals(new int[]{1, 2}, spendings.getAmountPositions(2000, 5000));
+    }
+}
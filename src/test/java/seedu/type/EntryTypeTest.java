@@ -0,0 +1,41 @@
+package seedu.type;
+
+import org.junit.jupiter.api.Test;
+import seedu.recurrence.BusinessDayRoll;
+import seedu.recurrence.RecurrenceFrequency;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EntryTypeTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 10, 15);
+
+    @Test
+    public void toString_notEdited_renderedOnce() {
+        Spending spending = new Spending(12.5, "lunch", DATE, "food", RecurrenceFrequency.NONE, null, 0);
+        String line = spending.toString();
+        assertEquals("lunch - 12.5 - 2024-10-15 - Tag: food", line);
+        assertSame(line, spending.toString());
+    }
+
+    @Test
+    public void toString_afterEdits_renderedAgain() {
+        Spending spending = new Spending(12, "lunch", DATE, "", RecurrenceFrequency.MONTHLY, DATE, 15);
+        assertEquals("lunch - 12 - 2024-10-15 - Recurring: MONTHLY", spending.toString());
+        EntryType before = spending.snapshot();
+
+        spending.editAmount("7");
+        spending.editDescription("dinner");
+        spending.editDate("2024-10-16");
+        spending.editTag("food");
+        spending.editRecurrenceEnd(null, 3);
+        spending.editBusinessDayRoll(BusinessDayRoll.FORWARD, "sg");
+        assertEquals("dinner - 7 - 2024-10-16 - Tag: food - Recurring: MONTHLY (3 times) rolled forward on sg",
+                spending.toString());
+
+        spending.restore(before);
+        assertEquals("lunch - 12 - 2024-10-15 - Recurring: MONTHLY", spending.toString());
+    }
+}
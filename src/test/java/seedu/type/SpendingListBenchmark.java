@@ -0,0 +1,54 @@
+package seedu.type;
+
+import java.time.LocalDate;
+
+/**
+ * Times the daily, monthly and yearly spending totals of a large list summed in order and summed in parallel, and
+ * checks that both give the same totals. Run with the size of the list as the only argument, for example
+ * {@code java -cp build/classes/java/main:build/classes/java/test seedu.type.SpendingListBenchmark 5000000}.
+ */
+public class SpendingListBenchmark {
+    private static final int DEFAULT_SIZE = 2_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int TIMED_ROUNDS = 20;
+    private static final LocalDate TODAY = LocalDate.of(2024, 10, 15);
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        SpendingList spendings = new SpendingList();
+        for (int i = 0; i < size; i++) {
+            spendings.add(new Spending(0.01 * (i % 9973) + 1, "entry", TODAY.minusDays(i % 1500), "", null, null,
+                    0));
+        }
+        double[] serialTotals = time("Serial", spendings, Integer.MAX_VALUE);
+        double[] parallelTotals = time("Parallel", spendings, EntryList.DEFAULT_PARALLEL_THRESHOLD);
+        for (int i = 0; i < serialTotals.length; i++) {
+            if (serialTotals[i] != parallelTotals[i]) {
+                throw new AssertionError("Totals differ: " + serialTotals[i] + " and " + parallelTotals[i]);
+            }
+        }
+        System.out.println("Totals are the same on " + Runtime.getRuntime().availableProcessors() + " cores");
+    }
+
+    private static double[] time(String name, SpendingList spendings, int threshold) {
+        EntryList.setParallelThreshold(threshold);
+        double[] totals = new double[3];
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sumAll(spendings, totals);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < TIMED_ROUNDS; round++) {
+            sumAll(spendings, totals);
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1000 / TIMED_ROUNDS;
+        System.out.println(name + ": " + elapsedMicros + " us for the three totals of " + spendings.size()
+                + " spendings");
+        return totals;
+    }
+
+    private static void sumAll(SpendingList spendings, double[] totals) {
+        totals[0] = spendings.getDailySpending(TODAY);
+        totals[1] = spendings.getMonthlySpending(TODAY);
+        totals[2] = spendings.getYearlySpending(TODAY);
+    }
+}
@@ -3,10 +3,13 @@ package seedu.type;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.classes.WiagiClock;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -59,4 +62,91 @@ public class SpendingListTest {
     public void getYearlySpending_basicInputs_shouldReturnYearlySpendings() {
         assertEquals(yearlySpending, spendings.getYearlySpending(currentDate));
     }
+
+    @Test
+    public void getTagBudget_untaggedSpendings_totalsMatchScan() {
+        TagBudget untagged = spendings.getTagBudget(null);
+        assertEquals(dailySpending, untagged.getDailySpending(currentDate));
+        assertEquals(monthlySpending, untagged.getMonthlySpending(currentDate));
+        assertEquals(yearlySpending, untagged.getYearlySpending(currentDate));
+    }
+
+    @Test
+    public void getTagBudget_addEditRemove_totalsKeptRunning() {
+        Spending lunch = new Spending(12.3, "lunch", currentDate, "food", null, null, 0);
+        spendings.add(lunch);
+        spendings.add(new Spending(0.1, "sweet", currentDate, "food", null, null, 0));
+        spendings.add(new Spending(0.2, "gum", currentDate.minusMonths(1), "food", null, null, 0));
+        TagBudget food = spendings.getTagBudget("food");
+        assertEquals(12.4, food.getDailySpending(currentDate));
+        assertEquals(12.6, food.getYearlySpending(currentDate));
+
+        EntryType before = lunch.snapshot();
+        lunch.editAmount("2");
+        spendings.updateTotals(before, lunch);
+        assertEquals(2.1, food.getDailySpending(currentDate));
+
+        spendings.remove(lunch);
+        spendings.subList(spendings.size() - 1, spendings.size()).clear();
+        assertEquals(0.1, food.getDailySpending(currentDate));
+        assertEquals(0.1, food.getMonthlySpending(currentDate));
+        assertEquals(0.1, food.getYearlySpending(currentDate));
+    }
+
+    @Test
+    public void checkTagOverspend_overTagBudget_warningPrinted() {
+        spendings.getTagBudget("food").setDailyBudget(5);
+        spendings.add(new Spending(8, "dinner", WiagiClock.today(), "food", null, null, 0));
+        spendings.checkTagOverspend("food");
+        assertEquals("\t!!! You have overspent your daily budget for food by: 3.0 !!!" + System.lineSeparator(),
+                outContent.toString());
+    }
+
+    @Test
+    public void getRollingSpending_windowMovesForward_totalFollowsWindow() {
+        WiagiClock.setClock(Clock.fixed(currentDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()));
+        try {
+            spendings.setRollingBudget(30, 5000);
+            assertEquals(111000, spendings.getRollingSpending());
+
+            spendings.add(new Spending(5, "future", currentDate.plusDays(3), null, null, null, 0));
+            spendings.remove(4);
+            assertEquals(101000, spendings.getRollingSpending());
+
+            WiagiClock.advanceDays(3);
+            assertEquals(101005, spendings.getRollingSpending());
+            WiagiClock.advanceDays(27);
+            assertEquals(5, spendings.getRollingSpending());
+            WiagiClock.advanceDays(100);
+            assertEquals(0, spendings.getRollingSpending());
+
+            WiagiClock.setClock(Clock.fixed(currentDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                    ZoneId.systemDefault()));
+            assertEquals(101000, spendings.getRollingSpending());
+        } finally {
+            WiagiClock.reset();
+        }
+    }
+
+    @Test
+    public void getSpending_aboveParallelThreshold_sameAsSerial() {
+        SpendingList large = new SpendingList();
+        for (int i = 0; i < 20000; i++) {
+            large.add(new Spending(0.01 * (i % 997) + 0.1, "entry" + i, currentDate.minusDays(i % 800), null, null,
+                    null, 0));
+        }
+        double serialDaily = large.getDailySpending(currentDate);
+        double serialMonthly = large.getMonthlySpending(currentDate);
+        double serialYearly = large.getYearlySpending(currentDate);
+        int previousThreshold = EntryList.getParallelThreshold();
+        EntryList.setParallelThreshold(1);
+        try {
+            assertEquals(serialDaily, large.getDailySpending(currentDate));
+            assertEquals(serialMonthly, large.getMonthlySpending(currentDate));
+            assertEquals(serialYearly, large.getYearlySpending(currentDate));
+        } finally {
+            EntryList.setParallelThreshold(previousThreshold);
+        }
+    }
 }
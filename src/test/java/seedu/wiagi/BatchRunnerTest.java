@@ -0,0 +1,84 @@
+package seedu.wiagi;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.classes.BatchOptions;
+import seedu.classes.Ui;
+import seedu.commands.Transaction;
+import seedu.type.IncomeList;
+import seedu.type.SpendingList;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.classes.Constants.INDEX_OUT_OF_BOUNDS;
+import static seedu.classes.Constants.TAB;
+
+public class BatchRunnerTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    private IncomeList incomes;
+    private SpendingList spendings;
+
+    @BeforeEach
+    public void setUp() {
+        incomes = new IncomeList();
+        spendings = new SpendingList();
+        Ui.setBatchOptions(BatchOptions.parse(new String[]{"--batch", "commands.txt", "--backlog", "n"}));
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    public void restore() {
+        System.setOut(originalOut);
+        Ui.setBatchOptions(null);
+    }
+
+    @Test
+    public void run_commandsWithPrompts_promptsAnsweredAndOnlyErrorsPrinted() throws IOException {
+        String commands = String.join(System.lineSeparator(),
+                "# load spendings",
+                "add spending 10 lunch",
+                "",
+                "add spending 5 coffee /2024-01-01/ ~daily~",
+                "delete spending 99",
+                "list spendings",
+                "add income 3000 salary",
+                "bye",
+                "add spending 1 after bye");
+        BatchRunner.run(new BufferedReader(new StringReader(commands)), incomes, spendings);
+        assertEquals(2, spendings.size());
+        assertEquals(1, incomes.size());
+        String[] output = outContent.toString().split(System.lineSeparator());
+        assertEquals(4, output.length);
+        assertEquals(TAB + "Line 5: " + INDEX_OUT_OF_BOUNDS, output[0]);
+        assertTrue(output[1].startsWith(TAB + "Ran 6 commands in "));
+        assertEquals(TAB + TAB + "Failed commands: 1", output[2]);
+        assertTrue(output[3].startsWith(TAB + TAB + "Reading and parsing took "));
+    }
+
+    @Test
+    public void run_transactionOpenAtEnd_changesDiscardedAndCountedAsFailure() throws IOException {
+        String commands = String.join(System.lineSeparator(),
+                "add spending 10 lunch",
+                "begin",
+                "add spending 5 coffee",
+                "add spending 7 tea");
+        BatchRunner.run(new BufferedReader(new StringReader(commands)), incomes, spendings);
+        assertEquals(1, spendings.size());
+        assertFalse(Transaction.isOpen());
+        String[] output = outContent.toString().split(System.lineSeparator());
+        assertEquals(4, output.length);
+        assertEquals(TAB + "Discarded 2 uncommitted changes", output[0]);
+        assertTrue(output[1].startsWith(TAB + "Ran 4 commands in "));
+        assertEquals(TAB + TAB + "Failed commands: 1", output[2]);
+    }
+}